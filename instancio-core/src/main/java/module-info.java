@@ -1,5 +1,6 @@
 import org.instancio.internal.spi.InternalExtension;
 import org.instancio.spi.InstancioServiceProvider;
+import org.instancio.spi.TypePopulator;
 
 module org.instancio.core {
     requires org.jspecify;
@@ -34,6 +35,7 @@ module org.instancio.core {
     exports org.instancio.generators.rus;
     exports org.instancio.settings;
     exports org.instancio.spi;
+    exports org.instancio.startup;
 
     exports org.instancio.internal to org.instancio.junit, org.instancio.guava, org.instancio.kotlin;
     exports org.instancio.internal.generator to org.instancio.guava, org.instancio.protobuf;
@@ -45,6 +47,7 @@ module org.instancio.core {
     exports org.instancio.support to org.instancio.junit;
 
     uses InstancioServiceProvider;
+    uses TypePopulator;
 
     // only for other instancio modules
     uses InternalExtension;
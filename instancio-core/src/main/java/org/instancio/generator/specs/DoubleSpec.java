@@ -15,6 +15,10 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
+import java.util.stream.DoubleStream;
+
 /**
  * Spec for generating {@link Double} values.
  *
@@ -53,4 +57,40 @@ public interface DoubleSpec extends NumberSpec<Double> {
      */
     @Override
     DoubleSpec nullable();
+
+    /**
+     * Returns an infinite {@link DoubleStream} of values.
+     * Unlike {@link #stream()}, values are generated
+     * without being boxed.
+     *
+     * <p>Since primitive values cannot be {@code null},
+     * the {@link #nullable()} setting is ignored.
+     * Note that {@link DoubleStream#limit(long)} must be called
+     * to avoid an infinite loop.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * double sum = Instancio.gen().doubles().range(1d, 10d).doubleStream().limit(1_000_000).sum();
+     * }</pre>
+     *
+     * @return an infinite stream of primitive values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    DoubleStream doubleStream();
+
+    /**
+     * Generates an array of values of the specified size.
+     * Unlike {@link #list(int)}, values are generated
+     * without being boxed.
+     *
+     * <p>Since primitive values cannot be {@code null},
+     * the {@link #nullable()} setting is ignored.
+     *
+     * @param size of the array to generate
+     * @return an array of random values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    double[] doubleArray(int size);
 }
@@ -15,6 +15,8 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
 /**
  * Generator spec for {@link Enum Enums}.
  *
@@ -36,6 +38,33 @@ public interface EnumGeneratorSpec<E extends Enum<E>> extends
     @SuppressWarnings("unchecked")
     EnumGeneratorSpec<E> excluding(E... values);
 
+    /**
+     * Assigns a relative weight to the given enum constant.
+     * Once at least one weight has been specified, each constant
+     * is selected with a probability proportional to its weight.
+     * Constants without an explicit weight are assigned a weight
+     * of zero and will not be generated. For example:
+     *
+     * <pre>{@code
+     * gen.enumOf(Status.class)
+     *     .weight(Status.ACTIVE, 90)
+     *     .weight(Status.SUSPENDED, 9)
+     *     .weight(Status.CLOSED, 1)
+     * }</pre>
+     *
+     * <p>The weight must be non-negative, and at least one
+     * weight must be greater than zero. Constants specified
+     * via {@link #excluding(Enum[])} are not generated
+     * regardless of their weight.
+     *
+     * @param value  the enum constant
+     * @param weight relative weight of the constant
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    EnumGeneratorSpec<E> weight(E value, double weight);
+
     /**
      * {@inheritDoc}
      *
@@ -15,6 +15,7 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.ValueSpec;
 
 /**
@@ -34,6 +35,15 @@ public interface EnumSpec<E extends Enum<E>> extends ValueSpec<E>, EnumGenerator
     @Override
     EnumSpec<E> excluding(E... values);
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    @Override
+    EnumSpec<E> weight(E value, double weight);
+
     /**
      * {@inheritDoc}
      *
@@ -15,6 +15,10 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
+import java.util.stream.IntStream;
+
 /**
  * Spec for generating {@link Integer} values.
  *
@@ -53,4 +57,40 @@ public interface IntegerSpec extends NumberSpec<Integer> {
      */
     @Override
     IntegerSpec nullable();
+
+    /**
+     * Returns an infinite {@link IntStream} of values.
+     * Unlike {@link #stream()}, values are generated
+     * without being boxed.
+     *
+     * <p>Since primitive values cannot be {@code null},
+     * the {@link #nullable()} setting is ignored.
+     * Note that {@link IntStream#limit(long)} must be called
+     * to avoid an infinite loop.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * int sum = Instancio.gen().ints().range(1, 10).intStream().limit(1_000_000).sum();
+     * }</pre>
+     *
+     * @return an infinite stream of primitive values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    IntStream intStream();
+
+    /**
+     * Generates an array of values of the specified size.
+     * Unlike {@link #list(int)}, values are generated
+     * without being boxed.
+     *
+     * <p>Since primitive values cannot be {@code null},
+     * the {@link #nullable()} setting is ignored.
+     *
+     * @param size of the array to generate
+     * @return an array of random values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    int[] intArray(int size);
 }
@@ -15,6 +15,10 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
+import java.util.stream.LongStream;
+
 /**
  * Spec for generating {@link Long} values.
  *
@@ -53,4 +57,40 @@ public interface LongSpec extends NumberSpec<Long> {
      */
     @Override
     LongSpec nullable();
+
+    /**
+     * Returns an infinite {@link LongStream} of values.
+     * Unlike {@link #stream()}, values are generated
+     * without being boxed.
+     *
+     * <p>Since primitive values cannot be {@code null},
+     * the {@link #nullable()} setting is ignored.
+     * Note that {@link LongStream#limit(long)} must be called
+     * to avoid an infinite loop.
+     *
+     * <p>Example:
+     * <pre>{@code
+     * long sum = Instancio.gen().longs().range(1L, 10L).longStream().limit(1_000_000).sum();
+     * }</pre>
+     *
+     * @return an infinite stream of primitive values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    LongStream longStream();
+
+    /**
+     * Generates an array of values of the specified size.
+     * Unlike {@link #list(int)}, values are generated
+     * without being boxed.
+     *
+     * <p>Since primitive values cannot be {@code null},
+     * the {@link #nullable()} setting is ignored.
+     *
+     * @param size of the array to generate
+     * @return an array of random values
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    long[] longArray(int size);
 }
@@ -49,6 +49,32 @@ public interface NumericSequenceGeneratorSpec<T extends Number & Comparable<T>>
      */
     NumericSequenceGeneratorSpec<T> next(UnaryOperator<T> next);
 
+    /**
+     * Allows the sequence to be shared safely across multiple threads,
+     * for example, when generating objects using a parallel stream.
+     *
+     * <p>Each thread reserves a block of {@code blockSize} consecutive
+     * sequence values and generates values from its own block until the
+     * block is used up. This guarantees that values are unique across
+     * threads and minimises contention between them. However:
+     *
+     * <ul>
+     *   <li>values generated by different threads are not ordered
+     *       relative to each other;</li>
+     *   <li>the sequence may contain gaps, since values remaining
+     *       in a thread's block are never generated by other threads.</li>
+     * </ul>
+     *
+     * <p>If this method is not called, the sequence is not thread-safe.
+     *
+     * @param blockSize the number of sequence values reserved
+     *                  by a thread at a time, must be positive
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    NumericSequenceGeneratorSpec<T> concurrent(int blockSize);
+
     /**
      * {@inheritDoc}
      *
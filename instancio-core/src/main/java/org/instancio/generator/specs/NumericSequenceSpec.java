@@ -36,6 +36,9 @@ public interface NumericSequenceSpec<T extends Number & Comparable<T>>
     @Override
     NumericSequenceSpec<T> next(UnaryOperator<T> next);
 
+    @Override
+    NumericSequenceSpec<T> concurrent(int blockSize);
+
     @Override
     NumericSequenceSpec<T> nullable();
 }
@@ -15,6 +15,8 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
 /**
  * Generator spec for selecting a random value from an array.
  *
@@ -34,6 +36,28 @@ public interface OneOfArrayGeneratorSpec<T> extends
      */
     OneOfArrayGeneratorSpec<T> oneOf(T... values);
 
+    /**
+     * Assigns relative weights to the values specified via {@link #oneOf(Object...)}.
+     * Each value will be selected with a probability proportional to its weight.
+     * For example, the following will produce {@code ACTIVE} 90% of the time,
+     * {@code SUSPENDED} 9% of the time, and {@code CLOSED} 1% of the time:
+     *
+     * <pre>{@code
+     * gen.oneOf("ACTIVE", "SUSPENDED", "CLOSED").weights(90, 9, 1)
+     * }</pre>
+     *
+     * <p>The number of weights must match the number of values.
+     * Weights must be non-negative and at least one weight must be
+     * greater than zero. A value with zero weight is never selected.
+     *
+     * @param weights relative weights of the values, in the same order
+     *                as the values passed to {@link #oneOf(Object...)}
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    OneOfArrayGeneratorSpec<T> weights(double... weights);
+
     /**
      * {@inheritDoc}
      */
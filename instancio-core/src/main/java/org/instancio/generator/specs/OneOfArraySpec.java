@@ -15,6 +15,7 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.ValueSpec;
 
 /**
@@ -34,4 +35,20 @@ public interface OneOfArraySpec<T> extends ValueSpec<T> {
      */
     @SuppressWarnings("unchecked")
     ValueSpec<T> oneOf(T... values);
+
+    /**
+     * Assigns relative weights to the values specified via {@link #oneOf(Object...)}.
+     * Each value will be selected with a probability proportional to its weight.
+     *
+     * <p>The number of weights must match the number of values.
+     * Weights must be non-negative and at least one weight must be
+     * greater than zero. A value with zero weight is never selected.
+     *
+     * @param weights relative weights of the values, in the same order
+     *                as the values passed to {@link #oneOf(Object...)}
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    OneOfArraySpec<T> weights(double... weights);
 }
@@ -15,6 +15,8 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
+
 import java.util.Collection;
 
 /**
@@ -36,6 +38,23 @@ public interface OneOfCollectionGeneratorSpec<T> extends
      */
     OneOfCollectionGeneratorSpec<T> oneOf(Collection<T> values);
 
+    /**
+     * Assigns relative weights to the values specified via {@link #oneOf(Collection)}.
+     * Each value will be selected with a probability proportional to its weight.
+     *
+     * <p>The number of weights must match the size of the collection,
+     * and weights are applied in the collection's iteration order.
+     * Weights must be non-negative and at least one weight must be
+     * greater than zero. A value with zero weight is never selected.
+     *
+     * @param weights relative weights of the values, in the iteration
+     *                order of the collection passed to {@link #oneOf(Collection)}
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    OneOfCollectionGeneratorSpec<T> weights(double... weights);
+
     /**
      * {@inheritDoc}
      */
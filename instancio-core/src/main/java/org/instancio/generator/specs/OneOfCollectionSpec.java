@@ -15,6 +15,7 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.ValueSpec;
 
 import java.util.Collection;
@@ -35,4 +36,21 @@ public interface OneOfCollectionSpec<T> extends ValueSpec<T> {
      * @since 2.6.0
      */
     ValueSpec<T> oneOf(Collection<T> values);
+
+    /**
+     * Assigns relative weights to the values specified via {@link #oneOf(Collection)}.
+     * Each value will be selected with a probability proportional to its weight.
+     *
+     * <p>The number of weights must match the size of the collection,
+     * and weights are applied in the collection's iteration order.
+     * Weights must be non-negative and at least one weight must be
+     * greater than zero. A value with zero weight is never selected.
+     *
+     * @param weights relative weights of the values, in the iteration
+     *                order of the collection passed to {@link #oneOf(Collection)}
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    OneOfCollectionSpec<T> weights(double... weights);
 }
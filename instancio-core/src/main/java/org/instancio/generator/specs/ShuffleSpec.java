@@ -51,4 +51,21 @@ public interface ShuffleSpec<T extends @Nullable Object> extends ValueSpec<Colle
      */
     @ExperimentalApi
     ShuffleSpec<T> shuffle(Collection<T> collection);
+
+    /**
+     * Specifies the number of elements in the result.
+     * The elements are selected at random, without replacement,
+     * and are provided in a random order.
+     *
+     * <p>By default, the result contains all the elements.
+     * Selecting a small number of elements from a large collection
+     * does not require copying the collection on each call.
+     *
+     * @param size the number of elements to select; must not be negative
+     *             and must not exceed the number of elements being shuffled
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    ShuffleSpec<T> size(int size);
 }
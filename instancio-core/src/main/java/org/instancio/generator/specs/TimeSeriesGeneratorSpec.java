@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.generator.specs;
+
+import org.instancio.documentation.ExperimentalApi;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Generator spec for a series of ascending {@link Instant} values,
+ * for example, timestamps of events in a log.
+ *
+ * <p>Each value is obtained by adding the {@link #interval(Duration)}
+ * to the previous value, adjusted by a random amount of up to
+ * {@link #jitter(Duration)} in either direction. Since the jitter
+ * is less than the interval, the values are always in strictly
+ * ascending order, and there is no need to sort them afterwards.
+ *
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public interface TimeSeriesGeneratorSpec extends
+        AsGeneratorSpec<Instant>,
+        NullableGeneratorSpec<Instant> {
+
+    /**
+     * Specifies the first value of the series.
+     * If unspecified, a random instant is used.
+     *
+     * @param start the first value of the series
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    TimeSeriesGeneratorSpec start(Instant start);
+
+    /**
+     * Specifies the amount of time between consecutive values.
+     * The default is one second.
+     *
+     * @param interval the interval between values, must be positive
+     *                 and must not exceed 36,500 days
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    TimeSeriesGeneratorSpec interval(Duration interval);
+
+    /**
+     * Specifies the maximum random deviation of each interval,
+     * for example, an interval of one minute with a jitter of
+     * ten seconds produces values between 50 and 70 seconds apart.
+     * The default is zero, that is, values are evenly spaced.
+     *
+     * @param jitter the maximum deviation, must not be negative
+     *               and must be less than the interval
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    TimeSeriesGeneratorSpec jitter(Duration jitter);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 6.0.0
+     */
+    @Override
+    TimeSeriesGeneratorSpec nullable();
+}
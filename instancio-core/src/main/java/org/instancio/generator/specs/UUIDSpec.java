@@ -15,6 +15,7 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.ValueSpec;
 
 import java.util.UUID;
@@ -26,6 +27,17 @@ import java.util.UUID;
  */
 public interface UUIDSpec extends ValueSpec<UUID> {
 
+    /**
+     * Generate time-ordered version 7 UUIDs instead of random
+     * version 4 UUIDs. Each generated UUID has a later timestamp
+     * than the previous one, so values sort in generation order.
+     *
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    UUIDSpec version7();
+
     @Override
     UUIDSpec nullable();
 }
@@ -15,6 +15,7 @@
  */
 package org.instancio.generator.specs;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.GeneratorSpec;
 
 /**
@@ -40,6 +41,17 @@ public interface UUIDStringGeneratorSpec extends NullableGeneratorSpec<String> {
      */
     UUIDStringGeneratorSpec withoutDashes();
 
+    /**
+     * Generate time-ordered version 7 UUIDs instead of random
+     * version 4 UUIDs. Each generated UUID has a later timestamp
+     * than the previous one, so values sort in generation order.
+     *
+     * @return spec builder
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    UUIDStringGeneratorSpec version7();
+
     /**
      * {@inheritDoc}
      *
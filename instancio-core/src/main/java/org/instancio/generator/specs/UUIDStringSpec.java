@@ -32,6 +32,9 @@ public interface UUIDStringSpec extends ValueSpec<String>, UUIDStringGeneratorSp
     @Override
     UUIDStringSpec withoutDashes();
 
+    @Override
+    UUIDStringSpec version7();
+
     @Override
     UUIDStringSpec nullable();
 }
@@ -15,6 +15,7 @@
  */
 package org.instancio.generators;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.specs.DurationGeneratorSpec;
 import org.instancio.generator.specs.InstantGeneratorSpec;
 import org.instancio.generator.specs.LocalDateTimeGeneratorSpec;
@@ -24,6 +25,7 @@ import org.instancio.generator.specs.OffsetDateTimeGeneratorSpec;
 import org.instancio.generator.specs.OffsetTimeGeneratorSpec;
 import org.instancio.generator.specs.PeriodGeneratorSpec;
 import org.instancio.generator.specs.TemporalGeneratorSpec;
+import org.instancio.generator.specs.TimeSeriesGeneratorSpec;
 import org.instancio.generator.specs.ZonedDateTimeGeneratorSpec;
 
 import java.sql.Timestamp;
@@ -161,4 +163,14 @@ public interface TemporalGenerators {
      * @return API builder reference
      */
     TemporalGeneratorSpec<Calendar> calendar();
+
+    /**
+     * Generates a series of ascending {@link Instant} values,
+     * for example, timestamps of events in a log.
+     *
+     * @return API builder reference
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    TimeSeriesGeneratorSpec timeSeries();
 }
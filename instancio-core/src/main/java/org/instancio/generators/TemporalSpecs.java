@@ -15,6 +15,7 @@
  */
 package org.instancio.generators;
 
+import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.specs.DurationSpec;
 import org.instancio.generator.specs.InstantSpec;
 import org.instancio.generator.specs.LocalDateSpec;
@@ -25,6 +26,7 @@ import org.instancio.generator.specs.OffsetDateTimeSpec;
 import org.instancio.generator.specs.OffsetTimeSpec;
 import org.instancio.generator.specs.PeriodSpec;
 import org.instancio.generator.specs.TemporalSpec;
+import org.instancio.generator.specs.TimeSeriesSpec;
 import org.instancio.generator.specs.YearMonthSpec;
 import org.instancio.generator.specs.YearSpec;
 import org.instancio.generator.specs.ZonedDateTimeSpec;
@@ -167,4 +169,13 @@ public interface TemporalSpecs extends TemporalGenerators {
      */
     @Override
     TemporalSpec<Calendar> calendar();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 6.0.0
+     */
+    @Override
+    @ExperimentalApi
+    TimeSeriesSpec timeSeries();
 }
@@ -18,6 +18,7 @@ package org.instancio.generators;
 import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.specs.CsvGeneratorSpec;
 import org.instancio.generator.specs.LoremIpsumGeneratorSpec;
+import org.instancio.generator.specs.RegexGeneratorSpec;
 import org.instancio.generator.specs.TextPatternGeneratorSpec;
 import org.instancio.generator.specs.UUIDStringGeneratorSpec;
 import org.instancio.generator.specs.WordGeneratorSpec;
@@ -73,6 +74,40 @@ public interface TextGenerators {
      */
     TextPatternGeneratorSpec pattern(String pattern);
 
+    /**
+     * Generates random strings that match the specified regular expression.
+     * For example:
+     *
+     * <pre>{@code
+     *   "[A-Z]{2}-\d{4}" -> "QT-0417"
+     *   "(foo|bar)_[a-z]+" -> "bar_hvqn"
+     * }</pre>
+     *
+     * <p>The regex is compiled into a finite automaton, so that matching
+     * strings are generated in a single pass, without rejecting values that
+     * do not match. The supported syntax includes character classes,
+     * predefined classes such as {@code \d} and {@code \w}, groups,
+     * alternation, quantifiers, and inline flags. Constructs that cannot be
+     * represented by a finite automaton, such as backreferences, lookarounds,
+     * and boundary matchers, are not supported.
+     *
+     * <p>Since the regex is expected to match the entire string, anchors
+     * ({@code ^} and {@code $}) are ignored. The {@code .} metacharacter
+     * and negated character classes produce printable ASCII characters only.
+     * The length of strings matched by unbounded quantifiers, such
+     * as {@code *} and {@code +}, is determined by
+     * {@link org.instancio.settings.Keys#STRING_MIN_LENGTH} and
+     * {@link org.instancio.settings.Keys#STRING_MAX_LENGTH}.
+     *
+     * @param regex the regular expression that generated strings must match
+     * @return regex generator spec
+     * @throws org.instancio.exception.InstancioApiException if the regex
+     *                                                       is invalid or not supported
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    RegexGeneratorSpec regex(String regex);
+
     /**
      * Generates a {@code UUID} value as a string. By default, the generated
      * string is formatted as {@link java.util.UUID#toString()}.
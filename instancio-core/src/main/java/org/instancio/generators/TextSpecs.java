@@ -18,6 +18,7 @@ package org.instancio.generators;
 import org.instancio.documentation.ExperimentalApi;
 import org.instancio.generator.specs.CsvSpec;
 import org.instancio.generator.specs.LoremIpsumSpec;
+import org.instancio.generator.specs.RegexSpec;
 import org.instancio.generator.specs.TextPatternSpec;
 import org.instancio.generator.specs.UUIDStringSpec;
 import org.instancio.generator.specs.WordSpec;
@@ -55,6 +56,15 @@ public interface TextSpecs extends TextGenerators {
     @Override
     TextPatternSpec pattern(String pattern);
 
+    /**
+     * {@inheritDoc}
+     *
+     * @since 6.0.0
+     */
+    @Override
+    @ExperimentalApi
+    RegexSpec regex(String regex);
+
     /**
      * {@inheritDoc}
      *
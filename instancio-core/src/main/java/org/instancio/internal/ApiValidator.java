@@ -219,6 +219,28 @@ public final class ApiValidator {
         return length;
     }
 
+    public static double validateWeight(final double weight) {
+        isTrue(weight >= 0 && Double.isFinite(weight),
+                "weight must be a non-negative finite number: %s", weight);
+        return weight;
+    }
+
+    @Contract("null, _ -> fail")
+    public static double[] validateWeights(final double @Nullable [] weights, final int numberOfChoices) {
+        notNull(weights, "weights must not be null: weights()");
+        isTrue(weights.length == numberOfChoices,
+                "number of weights (%s) must match the number of choices (%s): weights()",
+                weights.length, numberOfChoices);
+
+        double total = 0;
+        for (double weight : weights) {
+            total += validateWeight(weight);
+        }
+        isTrue(total > 0, "at least one weight must be greater than zero: weights()");
+        isTrue(Double.isFinite(total), "sum of weights must be finite: weights()");
+        return weights;
+    }
+
     public static <T extends Comparable<T>> void validateStartEnd(final T min, final T max) {
         isTrue(min.compareTo(max) <= 0, "start must not exceed end: %s, %s", min, max);
     }
@@ -50,7 +50,7 @@ public class CartesianProductApiImpl<T> implements InstancioCartesianProductApi<
     private final List<CartesianValues> cartesianValues = new ArrayList<>();
 
     public CartesianProductApiImpl(final Type klass) {
-        this.modelContextBuilder = ModelContext.builder(new ParameterizedTypeImpl(List.class, klass));
+        this.modelContextBuilder = ModelContext.builder(ParameterizedTypeImpl.of(List.class, klass));
     }
 
     public CartesianProductApiImpl(final TypeTokenSupplier<T> typeToken) {
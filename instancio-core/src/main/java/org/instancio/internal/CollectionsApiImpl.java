@@ -29,7 +29,7 @@ public final class CollectionsApiImpl<T, C extends Collection<T>>
         implements InstancioCollectionsApi<C> {
 
     public CollectionsApiImpl(final Class<C> collectionType, final Type elementType) {
-        super(new ParameterizedTypeImpl(collectionType, elementType));
+        super(ParameterizedTypeImpl.of(collectionType, elementType));
     }
 
     private CollectionsApiImpl(final Model<C> collectionModel) {
@@ -19,6 +19,7 @@ import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.spi.InternalExtension;
 import org.instancio.internal.spi.InternalExtension.InternalContainerFactoryProvider;
+import org.instancio.internal.spi.InternalExtensions;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,10 +27,11 @@ import java.util.function.Function;
 
 class ContainerFactoriesHandler {
 
-    private final List<InternalExtension> internalExtensions;
+    private final List<InternalContainerFactoryProvider> containerFactoryProviders;
 
     ContainerFactoriesHandler(final List<InternalExtension> internalExtensions) {
-        this.internalExtensions = internalExtensions;
+        this.containerFactoryProviders = InternalExtensions.collect(
+                internalExtensions, InternalExtension::getContainerFactoryProvider);
     }
 
     /**
@@ -44,7 +46,7 @@ class ContainerFactoriesHandler {
             final InternalNode node,
             final GeneratorResult result) {
 
-        if (internalExtensions.isEmpty()) {
+        if (containerFactoryProviders.isEmpty()) {
             return result;
         }
 
@@ -53,12 +55,7 @@ class ContainerFactoriesHandler {
             typeArgs.add(child.getTargetClass());
         }
 
-        for (InternalExtension ext : internalExtensions) {
-            final InternalContainerFactoryProvider cfp = ext.getContainerFactoryProvider();
-            if (cfp == null) {
-                continue;
-            }
-
+        for (InternalContainerFactoryProvider cfp : containerFactoryProviders) {
             final Function<Object, ?> fn = cfp.getMappingFunction(node.getTargetClass(), typeArgs);
 
             if (fn != null) {
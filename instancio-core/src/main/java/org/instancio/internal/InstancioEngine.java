@@ -18,6 +18,7 @@ package org.instancio.internal;
 import org.instancio.TargetSelector;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.AfterGenerate;
+import org.instancio.generator.Generator;
 import org.instancio.generator.Hints;
 import org.instancio.generator.hints.ArrayHint;
 import org.instancio.generator.hints.CollectionHint;
@@ -36,11 +37,16 @@ import org.instancio.internal.generator.ContainerCreateFunction;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.generator.InternalContainerHint;
 import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.generator.array.ArrayGenerator;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.UniqueValueSequence;
+import org.instancio.internal.generator.util.ContainerInstantiator;
 import org.instancio.internal.instantiation.Instantiator;
 import org.instancio.internal.nodes.ConstructorDescriptor;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.nodes.NodeKind;
 import org.instancio.internal.selectors.ElementFrameStack;
+import org.instancio.internal.spi.TypePopulators;
 import org.instancio.internal.util.ArrayUtils;
 import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ErrorMessageUtils;
@@ -49,6 +55,7 @@ import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.settings.Keys;
 import org.instancio.settings.OnConstructorError;
+import org.instancio.spi.TypePopulator;
 import org.instancio.support.Log;
 import org.jspecify.annotations.NullUnmarked;
 import org.jspecify.annotations.Nullable;
@@ -68,6 +75,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
 import static org.instancio.internal.util.Format.nodePathToRootBlock;
@@ -340,7 +348,7 @@ class InstancioEngine {
 
     @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NPathComplexity"})
     private GeneratorResult generateMap(final InternalNode node) {
-        final GeneratorResult generatorResult = generateValue(node);
+        GeneratorResult generatorResult = generateValue(node);
         final InternalSize sizeOverride = context.getContainerSize(node);
 
         if (generatorResult.getValue() == null || node.getChildren().size() < 2) {
@@ -350,7 +358,7 @@ class InstancioEngine {
         ApiValidator.validateValueIsAssignableToTargetClass(generatorResult.getValue(), Map.class, node);
 
         //noinspection unchecked
-        final Map<Object, Object> map = (Map<Object, Object>) generatorResult.getValue();
+        Map<Object, Object> map = (Map<Object, Object>) generatorResult.getValue();
         final InternalNode keyNode = node.getChildren().get(0);
         final InternalNode valueNode = node.getChildren().get(1);
         final Hints hints = generatorResult.getHints();
@@ -373,17 +381,39 @@ class InstancioEngine {
         final boolean nullableValue = hint.nullableMapValues();
         final Iterator<Object> withKeysIterator = hint.withKeys().iterator();
 
-        final int targetSize = sizeOverride != null
+        final int requestedSize = sizeOverride != null
                 ? context.getRandom().intRange(sizeOverride.min(), sizeOverride.max())
                 : hint.generateEntries();
 
+        final FiniteDomain keyDomain = map.isEmpty() && hint.withKeys().isEmpty() && !nullableKey
+                ? generatorFacade.getFiniteDomain(keyNode)
+                : null;
+
+        final int targetSize = clampToDomainSize(requestedSize, keyDomain, () ->
+                ErrorMessageUtils.mapCouldNotBePopulated(context, node, requestedSize));
+
+        final UniqueValueSequence keySequence = distinctValueSequence(keyDomain, targetSize);
+
+        if (map.isEmpty()) {
+            final Map<Object, Object> presized = presize(map, hints, targetSize + hint.withEntries().size());
+            if (presized != map) {
+                map = presized;
+                generatorResult = GeneratorResult.resolved(map, hints);
+            }
+        }
+
         int remaining = targetSize;
         int failedAdditions = 0;
 
         while (remaining > 0) {
+            if (keySequence != null && !keySequence.hasNext()) {
+                break;
+            }
 
             assignmentObjectStore.enterScope();
-            final GeneratorResult mapKeyResult = createObject(keyNode, nullableKey);
+            final GeneratorResult mapKeyResult = keySequence == null
+                    ? createObject(keyNode, nullableKey)
+                    : nextDistinctValue(keyNode, keySequence);
             final GeneratorResult mapValueResult = createObject(valueNode, nullableValue);
             assignmentObjectStore.exitScope();
 
@@ -511,6 +541,20 @@ class InstancioEngine {
         final AfterGenerate action = requireNonNull(hints.afterGenerate());
         final boolean isPrimitiveArray = elementNode.getRawType().isPrimitive();
 
+        // Bulk fill primitive arrays when elements can only come from a built-in generator
+        if (isPrimitiveArray
+                && lastIndex == 0
+                && action == AfterGenerate.POPULATE_ALL
+                && !hint.nullableElements()) {
+
+            final Generator<?> elementGenerator = generatorFacade.getBulkGenerator(elementNode);
+            if (elementGenerator != null) {
+                ArrayGenerator.fillPrimitiveArray(
+                        arrayObj, elementGenerator, context.getRandom(), maxGenerationAttempts);
+                return GeneratorResult.resolved(arrayObj, hints);
+            }
+        }
+
         // If array elements fail to generate for any reason and null is returned,
         // terminate the loop once we reach the threshold to avoid an infinite loop.
         int failedAdditions = 0;
@@ -601,7 +645,7 @@ class InstancioEngine {
             "PMD.NPathComplexity"
     })
     private GeneratorResult generateCollection(final InternalNode node) {
-        final GeneratorResult generatorResult = generateValue(node);
+        GeneratorResult generatorResult = generateValue(node);
         final InternalSize sizeOverride = context.getContainerSize(node);
 
         if (generatorResult.getValue() == null || node.getChildren().isEmpty()) {
@@ -611,7 +655,7 @@ class InstancioEngine {
         ApiValidator.validateValueIsAssignableToTargetClass(generatorResult.getValue(), Collection.class, node);
 
         //noinspection unchecked
-        final Collection<Object> collection = (Collection<Object>) generatorResult.getValue();
+        Collection<Object> collection = (Collection<Object>) generatorResult.getValue();
         final InternalNode elementNode = node.getOnlyChild();
         final Hints hints = generatorResult.getHints();
 
@@ -651,10 +695,28 @@ class InstancioEngine {
                 ? context.getRandom().intRange(sizeOverride.min(), sizeOverride.max())
                 : hint.generateElements();
 
-        final int targetSize = elementsToGenerateForElementOf(node,
+        final int requestedSize = elementsToGenerateForElementOf(node,
                 elementsToGenerate, collection.size(), hints, sizeOverride);
 
-        final Set<Object> generated = new HashSet<>(targetSize);
+        final FiniteDomain elementDomain = collection.isEmpty() && !nullableElements
+                && (requireUnique || collection instanceof Set)
+                ? generatorFacade.getFiniteDomain(elementNode)
+                : null;
+
+        final int targetSize = clampToDomainSize(requestedSize, elementDomain, () ->
+                ErrorMessageUtils.collectionCouldNotBePopulated(context, node, requestedSize));
+
+        final UniqueValueSequence elementSequence = distinctValueSequence(elementDomain, targetSize);
+
+        if (collection.isEmpty()) {
+            final Collection<Object> presized = presize(collection, hints, targetSize + hint.withElements().size());
+            if (presized != collection) {
+                collection = presized;
+                generatorResult = GeneratorResult.resolved(collection, hints);
+            }
+        }
+
+        final Set<Object> generated = requireUnique ? new HashSet<>(targetSize) : Collections.emptySet();
 
         final int generatedSize = collection.size() + targetSize;
         int remaining = targetSize;
@@ -663,9 +725,14 @@ class InstancioEngine {
         List<Integer> delayedElementIndices = null;
 
         while (remaining > 0) {
+            if (elementSequence != null && !elementSequence.hasNext()) {
+                break;
+            }
+
             final int currentIndex = collection.size();
-            final GeneratorResult elementResult = createElementInFrame(
-                    node, elementNode, currentIndex, generatedSize, nullableElements);
+            final GeneratorResult elementResult = elementSequence == null
+                    ? createElementInFrame(node, elementNode, currentIndex, generatedSize, nullableElements)
+                    : nextDistinctValue(elementNode, elementSequence);
 
             if (elementResult.isDelayed()) {
                 if (collection instanceof List) {
@@ -803,6 +870,55 @@ class InstancioEngine {
         return true;
     }
 
+    /**
+     * Clamps the number of distinct values to generate to the size of the
+     * domain they are drawn from. If the domain is too small, the error is
+     * reported up front instead of after exhausting generation attempts.
+     */
+    private int clampToDomainSize(
+            final int size,
+            @Nullable final FiniteDomain domain,
+            final Supplier<String> errorMessage) {
+
+        if (domain == null || size <= domain.size()) {
+            return size;
+        }
+        errorHandler.conditionalFailOnError(() -> {
+            throw Fail.withInternalError(errorMessage.get());
+        });
+        return (int) domain.size();
+    }
+
+    /**
+     * Returns a sequence for drawing the given number of distinct values
+     * without replacement, or {@code null} if the values should be generated
+     * as usual. Below half the domain size, duplicates are rare enough
+     * that discarding them is cheaper.
+     */
+    @Nullable
+    private UniqueValueSequence distinctValueSequence(
+            @Nullable final FiniteDomain domain, final int size) {
+
+        if (domain == null || size <= domain.size() / 2) {
+            return null;
+        }
+        return new UniqueValueSequence(domain,
+                context.getRandom().longRange(Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    /**
+     * Returns the next value of a distinct value sequence as the result
+     * of the given node. The result has the hints of the generator the
+     * sequence's domain was obtained from, and listeners are notified
+     * as if the value was created via {@link #createObject(InternalNode)}.
+     */
+    private GeneratorResult nextDistinctValue(final InternalNode node, final UniqueValueSequence sequence) {
+        final Generator<?> generator = requireNonNull(generatorFacade.getBulkGenerator(node));
+        final GeneratorResult result = GeneratorResult.resolved(sequence.next(), requireNonNull(generator.hints()));
+        notifyListeners(node, result);
+        return result;
+    }
+
     private GeneratorResult createElementInFrame(
             final InternalNode containerNode,
             final InternalNode elementNode,
@@ -991,6 +1107,12 @@ class InstancioEngine {
             final @Nullable Object[] args) {
 
         try {
+            if (args.length == 0) {
+                final Object instance = newInstanceViaPopulator(node.getTargetClass());
+                if (instance != null) {
+                    return instance;
+                }
+            }
             return descriptor.getConstructor().newInstance(args);
         } catch (Exception ex) {
             // Wrong type is being passed to a constructor parameter.
@@ -1014,6 +1136,12 @@ class InstancioEngine {
         }
     }
 
+    @Nullable
+    private static Object newInstanceViaPopulator(final Class<?> targetClass) {
+        final TypePopulator<?> populator = TypePopulators.get(targetClass);
+        return populator == null ? null : populator.newInstance();
+    }
+
     /**
      * Throws a usage error if any of the {@code args} cannot be assigned
      * to the corresponding constructor parameter. Does nothing if all the
@@ -1220,6 +1348,26 @@ class InstancioEngine {
         return generatorFacade.generateNodeValue(node);
     }
 
+    /**
+     * Replaces an empty collection or map created by a built-in generator
+     * with an instance of the same type that can hold the expected number
+     * of elements without resizing. The container is returned as is if it
+     * was not created by a built-in generator, or if its type does not
+     * support pre-sizing.
+     */
+    @SuppressWarnings("unchecked")
+    private static <C> C presize(final C container, final Hints hints, final int expectedSize) {
+        final InternalGeneratorHint hint = hints.get(InternalGeneratorHint.class);
+
+        if (hint == null || !hint.presizable()) {
+            return container;
+        }
+
+        // the instance has the same class as the container
+        final Object presized = ContainerInstantiator.newPresizedInstance(container.getClass(), expectedSize);
+        return presized == null ? container : (C) presized;
+    }
+
     private void notifyListeners(final InternalNode node, final GeneratorResult result) {
         if (result.isResolved() || result.isNull()) {
             for (GenerationListener listener : listeners) {
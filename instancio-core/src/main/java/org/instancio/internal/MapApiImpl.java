@@ -27,7 +27,7 @@ public final class MapApiImpl<K, V, M extends Map<K, V>>
         implements InstancioCollectionsApi<M> {
 
     public MapApiImpl(final Class<M> mapType, final Type keyType, final Type valueType) {
-        super(new ParameterizedTypeImpl(mapType, keyType, valueType));
+        super(ParameterizedTypeImpl.of(mapType, keyType, valueType));
     }
 
     @Override
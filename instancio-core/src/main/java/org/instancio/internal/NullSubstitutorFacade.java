@@ -20,6 +20,9 @@ import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.spi.InternalExtension;
 import org.instancio.internal.spi.InternalExtension.InternalNullSubstitutor;
+import org.instancio.internal.spi.InternalExtensions;
+
+import java.util.List;
 
 import static org.instancio.internal.util.Constants.DO_NOT_MODIFY_HINT;
 
@@ -39,12 +42,11 @@ public class NullSubstitutorFacade {
     }
 
     private static InternalNullSubstitutor resolveNullSubstitutor(final ModelContext context) {
-        for (InternalExtension extension : context.getInternalExtensions()) {
-            final InternalNullSubstitutor ns = extension.getNullSubstitutor();
-            if (ns != null) {
-                return ns;
-            }
-        }
-        return node -> null; // no-op substitutor - always returns null
+        final List<InternalNullSubstitutor> substitutors = InternalExtensions.collect(
+                context.getInternalExtensions(), InternalExtension::getNullSubstitutor);
+
+        return substitutors.isEmpty()
+                ? node -> null // no-op substitutor - always returns null
+                : substitutors.get(0);
     }
 }
@@ -16,6 +16,7 @@
 package org.instancio.internal.annotation;
 
 import org.instancio.Random;
+import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.GeneratorSpec;
 import org.instancio.generator.specs.ArrayGeneratorSpec;
@@ -30,12 +31,15 @@ import org.instancio.internal.generator.lang.StringGenerator;
 import org.instancio.internal.generator.specs.InternalFractionalNumberGeneratorSpec;
 import org.instancio.internal.generator.specs.InternalLengthGeneratorSpec;
 import org.instancio.internal.generator.specs.InternalNumberGeneratorSpec;
+import org.instancio.internal.generator.text.RegexGenerator;
 import org.instancio.internal.generator.util.CollectionGenerator;
 import org.instancio.internal.generator.util.MapGenerator;
 import org.instancio.internal.util.NumberUtils;
 import org.instancio.internal.util.Range;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
 import java.math.BigDecimal;
@@ -46,6 +50,8 @@ import java.util.function.Function;
  */
 class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CommonBeanValidationHandlerMap.class);
+
     abstract static class AbstractDigitsHandler implements FieldAnnotationHandler {
 
         abstract int getFraction(Annotation annotation);
@@ -163,6 +169,35 @@ class CommonBeanValidationHandlerMap extends AnnotationHandlerMap {
         }
     }
 
+    abstract static class AbstractPatternHandler implements FieldAnnotationHandler {
+
+        abstract String getRegexp(Annotation annotation);
+
+        abstract int getFlags(Annotation annotation);
+
+        @Override
+        public final void process(final Annotation annotation,
+                                  final GeneratorSpec<?> spec,
+                                  final Class<?> targetClass,
+                                  final GeneratorContext generatorContext) {
+
+            if (spec instanceof final StringGenerator generator) {
+                final String regexp = getRegexp(annotation);
+                final RegexGenerator regexGenerator;
+                try {
+                    regexGenerator = new RegexGenerator(
+                            generator.getContext(), regexp, getFlags(annotation));
+                } catch (InstancioApiException ex) {
+                    // fall back to generating random strings
+                    LOG.trace("Unable to generate values for @Pattern(regexp = \"{}\")", regexp, ex);
+                    return;
+                }
+                regexGenerator.length(generator.getMinLength(), generator.getMaxLength());
+                generator.setDelegate(regexGenerator);
+            }
+        }
+    }
+
     static final class PositiveHandler implements FieldAnnotationHandler {
         private final BigDecimal min;
 
@@ -38,6 +38,7 @@ final class JakartaBeanValidationHandlerMap extends CommonBeanValidationHandlerM
         put(() -> jakarta.validation.constraints.NotEmpty.class, new NotEmptyHandler());
         put(() -> jakarta.validation.constraints.NotNull.class, new NotNullHandler());
         put(() -> jakarta.validation.constraints.NegativeOrZero.class, new NegativeHandler(BigDecimal.ZERO));
+        put(() -> jakarta.validation.constraints.Pattern.class, new PatternHandler());
         put(() -> jakarta.validation.constraints.Past.class, new PastHandler());
         put(() -> jakarta.validation.constraints.PastOrPresent.class, new PastHandler());
         put(() -> jakarta.validation.constraints.Positive.class, new PositiveHandler(new BigDecimal("0.5")));
@@ -94,6 +95,24 @@ final class JakartaBeanValidationHandlerMap extends CommonBeanValidationHandlerM
         }
     }
 
+    private static final class PatternHandler extends AbstractPatternHandler {
+
+        @Override
+        String getRegexp(Annotation annotation) {
+            return ((jakarta.validation.constraints.Pattern) annotation).regexp();
+        }
+
+        @Override
+        int getFlags(Annotation annotation) {
+            int flags = 0;
+            for (jakarta.validation.constraints.Pattern.Flag flag :
+                    ((jakarta.validation.constraints.Pattern) annotation).flags()) {
+                flags |= flag.getValue();
+            }
+            return flags;
+        }
+    }
+
     private static final class SizeHandler extends AbstractSizeHandler {
 
         @Override
@@ -19,12 +19,13 @@ import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.spi.InternalExtension;
 import org.instancio.internal.spi.InternalExtension.InternalAssignerSettingsProvider;
+import org.instancio.internal.spi.InternalExtensions;
+import org.instancio.internal.spi.TypePopulators;
 import org.instancio.settings.AssignmentType;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
+import org.instancio.spi.TypePopulator;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ final class AssignerResolverImpl implements AssignerResolver {
     private final Assigner primaryAssigner;
     private final SetterMethodResolverFacade setterMethodResolverFacade;
     private final List<InternalAssignerSettingsProvider> assignerSettingsProviders;
+    private final boolean usePopulators;
     private final Map<Class<?>, Assigner> assignerByTargetClass = new HashMap<>();
 
     AssignerResolverImpl(final ModelContext context) {
@@ -42,35 +44,22 @@ final class AssignerResolverImpl implements AssignerResolver {
         this.setterMethodResolverFacade = new SetterMethodResolverFacade(
                 context.getServiceProviders().getSetterMethodResolvers());
         this.primaryAssigner = resolvePrimaryAssigner();
-        this.assignerSettingsProviders = getAssignerSettingsProviders(
-                context.getInternalExtensions());
+        this.assignerSettingsProviders = InternalExtensions.collect(
+                context.getInternalExtensions(), InternalExtension::getAssignerSettingsProvider);
+        this.usePopulators = context.getSettings().get(Keys.ASSIGNMENT_TYPE) == AssignmentType.FIELD
+                && !TypePopulators.isEmpty();
     }
 
     @Override
     public Assigner resolve(final GeneratorResult generatorResult) {
         final Object value = generatorResult.getValue();
-        if (value == null || assignerSettingsProviders.isEmpty()) {
+        if (value == null || (assignerSettingsProviders.isEmpty() && !usePopulators)) {
             return primaryAssigner;
         }
         final Class<?> targetClass = value.getClass();
         return assignerByTargetClass.computeIfAbsent(targetClass, this::createAssignerForClass);
     }
 
-    private static List<InternalAssignerSettingsProvider> getAssignerSettingsProviders(
-            final List<InternalExtension> internalExtensions) {
-
-        final List<InternalAssignerSettingsProvider> providers = new ArrayList<>(
-                internalExtensions.size());
-
-        for (InternalExtension extension : internalExtensions) {
-            final InternalAssignerSettingsProvider provider = extension.getAssignerSettingsProvider();
-            if (provider != null) {
-                providers.add(provider);
-            }
-        }
-        return Collections.unmodifiableList(providers);
-    }
-
     private Assigner resolvePrimaryAssigner() {
         final Settings settings = context.getSettings();
         final AssignmentType assignment = settings.get(Keys.ASSIGNMENT_TYPE);
@@ -89,6 +78,12 @@ final class AssignerResolverImpl implements AssignerResolver {
                 return new MethodAssigner(effectiveSettings, setterMethodResolverFacade);
             }
         }
+        if (usePopulators) {
+            final TypePopulator<?> populator = TypePopulators.get(targetClass);
+            if (populator != null) {
+                return new PopulatorAssigner(populator, primaryAssigner);
+            }
+        }
         return primaryAssigner;
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.assigners;
+
+import org.instancio.internal.PrimitiveWrapperBiLookup;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.spi.TypePopulator;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.reflect.Field;
+
+/**
+ * Assigns fields declared by a class using a generated {@link TypePopulator}.
+ * Fields not supported by the populator, including inherited fields,
+ * are assigned by the delegate.
+ */
+final class PopulatorAssigner implements Assigner {
+
+    private final TypePopulator<Object> populator;
+    private final Assigner delegate;
+
+    @SuppressWarnings("unchecked")
+    PopulatorAssigner(final TypePopulator<?> populator, final Assigner delegate) {
+        this.populator = (TypePopulator<Object>) populator;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void assign(final InternalNode node, final Object target, @Nullable final Object value) {
+        final Field field = node.getField();
+
+        // A value of the wrong type is passed to the delegate, which reports
+        // the type mismatch. Checking the type up front, rather than catching
+        // the ClassCastException, ensures the value is never assigned twice.
+        if (field != null
+                && field.getDeclaringClass() == populator.getTargetClass()
+                && isCompatible(field, value)
+                && populator.setValue(target, field.getName(), value)) {
+            return;
+        }
+        delegate.assign(node, target, value);
+    }
+
+    private static boolean isCompatible(final Field field, @Nullable final Object value) {
+        return value == null
+                || PrimitiveWrapperBiLookup.isAssignableConsideringBoxing(field.getType(), value.getClass());
+    }
+}
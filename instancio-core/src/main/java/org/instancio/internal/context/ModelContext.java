@@ -53,13 +53,12 @@ import org.instancio.internal.selectors.SelectorProcessor;
 import org.instancio.internal.selectors.SetterSelectorHolder;
 import org.instancio.internal.settings.InternalSettings;
 import org.instancio.internal.spi.InternalExtension;
-import org.instancio.internal.spi.InternalExtensionImpl;
+import org.instancio.internal.spi.InternalExtensions;
 import org.instancio.internal.spi.InternalServiceProviderContext;
 import org.instancio.internal.spi.Providers;
 import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ErrorMessageUtils;
 import org.instancio.internal.util.Fail;
-import org.instancio.internal.util.ServiceLoaders;
 import org.instancio.internal.util.Sonar;
 import org.instancio.internal.util.TypeUtils;
 import org.instancio.internal.util.Verify;
@@ -91,11 +90,6 @@ import static org.instancio.internal.util.ObjectUtils.defaultIfNull;
 @SuppressWarnings({"PMD.CouplingBetweenObjects", "PMD.ExcessiveImports"})
 public final class ModelContext {
 
-    private static final List<InternalExtension> INTERNAL_EXTENSIONS =
-            CollectionUtils.combine(
-                    ServiceLoaders.loadAll(InternalExtension.class),
-                    new InternalExtensionImpl());
-
     private final ModelContextSource contextSource;
     private final RootType rootType;
     private final @Nullable Integer maxDepth;
@@ -149,7 +143,7 @@ public final class ModelContext {
     }
 
     public List<InternalExtension> getInternalExtensions() {
-        return INTERNAL_EXTENSIONS;
+        return InternalExtensions.getAll();
     }
 
     public Providers getServiceProviders() {
@@ -234,6 +228,19 @@ public final class ModelContext {
         }
     }
 
+    /**
+     * Returns the {@code withUnique()} filter matching the given node, if any.
+     *
+     * @param node to look up
+     * @return the unique filter, or {@code null} if none
+     */
+    @Nullable
+    public UniqueFilterPredicate getUniqueFilter(final InternalNode node) {
+        return selectorMaps.getFilterSelectorMap().getPredicate(node) instanceof UniqueFilterPredicate unique
+                ? unique
+                : null;
+    }
+
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public Optional<Generator<?>> getGenerator(final InternalNode node) {
         return selectorMaps.getGeneratorSelectorMap().getGenerator(node);
@@ -379,7 +386,7 @@ public final class ModelContext {
             ApiValidator.validateRootClass(rootType);
             this.rootType = rootType;
             this.selectorProcessor = new SelectorProcessor(
-                    TypeUtils.getRawType(rootType), INTERNAL_EXTENSIONS, setMethodSelectorHolder);
+                    TypeUtils.getRawType(rootType), InternalExtensions.getAll(), setMethodSelectorHolder);
         }
 
         public Builder withFillObject(final Object fillObject) {
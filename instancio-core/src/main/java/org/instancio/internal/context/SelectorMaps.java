@@ -266,6 +266,10 @@ public final class SelectorMaps {
         return !assignmentSelectorMap.getOriginSelectors().getSelectorMap().isEmpty();
     }
 
+    public boolean hasFilters() {
+        return !filterSelectorMap.getSelectorMap().isEmpty();
+    }
+
     public boolean hasSetModels() {
         return !setModelSelectorMap.getSelectorMap().isEmpty();
     }
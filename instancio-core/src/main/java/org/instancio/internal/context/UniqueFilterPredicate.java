@@ -16,6 +16,9 @@
 package org.instancio.internal.context;
 
 import org.instancio.FilterPredicate;
+import org.instancio.Random;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.UniqueValueSequence;
 import org.jspecify.annotations.Nullable;
 
 import java.util.HashSet;
@@ -26,13 +29,69 @@ import java.util.Set;
  * a lambda) so that the engine can distinguish uniqueness filters from user-supplied
  * {@code filter()} predicates: values copied to assignment destinations are duplicates
  * by design and are exempt from uniqueness, but not from user filters.
+ *
+ * <p>If the values come from a generator with a finite domain, they can be
+ * produced constructively via {@link #nextValue(FiniteDomain, Random)},
+ * which enumerates the domain in a random order. Such values are not stored
+ * and never need to be regenerated. Values produced by other means are
+ * tracked in a set as before, and skipped when the sequence reaches them.
  */
-final class UniqueFilterPredicate implements FilterPredicate<@Nullable Object> {
+public final class UniqueFilterPredicate implements FilterPredicate<@Nullable Object> {
 
     private final Set<@Nullable Object> generatedValues = new HashSet<>();
+    private @Nullable UniqueValueSequence sequence;
+
+    // position of the value most recently returned by nextValue(), until it is tested
+    private long pendingPosition = -1;
+
+    UniqueFilterPredicate() {
+        // created via ModelContext.Builder.withUnique()
+    }
 
     @Override
     public boolean test(final @Nullable Object obj) {
+        if (sequence != null) {
+            final long position = sequence.positionOf(obj);
+
+            if (position >= 0 && position == pendingPosition) {
+                pendingPosition = -1;
+                return true;
+            }
+            if (position >= 0 && position < sequence.getPosition()) {
+                return false;
+            }
+        }
         return generatedValues.add(obj);
     }
+
+    /**
+     * Returns the next unique value from the given domain. The first domain
+     * passed to this method is used for the lifetime of this predicate.
+     *
+     * @param domain of the generator producing values for the current node
+     * @param random for seeding the order in which values are produced
+     * @return the next value, or {@code null} if the domain is exhausted,
+     * or differs from the domain this predicate was first used with
+     */
+    @Nullable
+    public Object nextValue(final FiniteDomain domain, final Random random) {
+        if (sequence == null) {
+            sequence = new UniqueValueSequence(domain, random.longRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        } else if (!sequence.getDomain().equals(domain)) {
+            return null;
+        }
+
+        while (sequence.hasNext()) {
+            final long position = sequence.getPosition();
+            final Object value = sequence.next();
+
+            // skip values that were already produced outside of the sequence;
+            // any further duplicates are rejected based on their position
+            if (!generatedValues.remove(value)) {
+                pendingPosition = position;
+                return value;
+            }
+        }
+        return null;
+    }
 }
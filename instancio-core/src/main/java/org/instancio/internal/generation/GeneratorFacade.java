@@ -16,6 +16,7 @@
 package org.instancio.internal.generation;
 
 import org.instancio.exception.InstancioTerminatingException;
+import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.NullSubstitutorFacade;
 import org.instancio.internal.assignment.InternalAssignment;
@@ -24,9 +25,13 @@ import org.instancio.internal.generator.GeneratorResolver;
 import org.instancio.internal.generator.GeneratorResult;
 import org.instancio.internal.generator.InternalGeneratorContext;
 import org.instancio.internal.generator.SpiGeneratorResolver;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
 import org.instancio.internal.nodes.InternalNode;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.Format;
+import org.instancio.internal.util.Sonar;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,8 +47,16 @@ public class GeneratorFacade {
     private final NodeHandler userSuppliedGeneratorHandler;
     private final GeneratedPojoStore generatedPojoStore;
     private final NullSubstitutorFacade nullSubstitutorFacade;
+    private final GeneratorResolver generatorResolver;
     private final List<NodeHandler> nodeHandlers = new ArrayList<>();
 
+    /**
+     * Whether values of all nodes are produced by built-in generators,
+     * that is, there are no selectors, generator SPIs, or annotation
+     * handlers that could take precedence.
+     */
+    private final boolean builtInGeneratorsOnly;
+
     public GeneratorFacade(
             final ModelContext context,
             final NullSubstitutorFacade nullSubstitutorFacade,
@@ -56,7 +69,7 @@ public class GeneratorFacade {
         final GeneratorContext generatorContext = new InternalGeneratorContext(
                 context.getSettings(), context.getRandom());
 
-        final GeneratorResolver generatorResolver = new GeneratorResolver(generatorContext);
+        generatorResolver = new GeneratorResolver(generatorContext);
         final SpiGeneratorResolver spiGeneratorResolver = new SpiGeneratorResolver(
                 context, generatorContext, generatorResolver);
 
@@ -66,13 +79,23 @@ public class GeneratorFacade {
         assignmentNodeHandler = AssignmentNodeHandler.create(context, assignmentObjectStore, userSuppliedGeneratorProcessor);
         userSuppliedGeneratorHandler = UserSuppliedGeneratorHandler.create(context, userSuppliedGeneratorProcessor);
 
+        final NodeHandler annotationNodeHandler = AnnotationNodeHandler.create(context, generatorResolver);
+        final boolean builtInGeneratorsNotOverridden = !spiGeneratorResolver.hasProviders()
+                && annotationNodeHandler == NodeHandler.NOOP_HANDLER;
+
         // handlers in order of precedence, starting from highest
         addHandler(ElementOfGeneratorNodeHandler.create(context, userSuppliedGeneratorProcessor));
         addHandler(assignmentNodeHandler);
+        addHandler(UniqueValueNodeHandler.create(
+                context, generatorResolver, userSuppliedGeneratorProcessor, builtInGeneratorsNotOverridden));
         addHandler(userSuppliedGeneratorHandler);
         addHandler(new SpiGeneratorNodeHandler(context, spiGeneratorResolver));
-        addHandler(AnnotationNodeHandler.create(context, generatorResolver));
+        addHandler(annotationNodeHandler);
         addHandler(new UsingGeneratorResolverHandler(context, generatorResolver));
+
+        builtInGeneratorsOnly = builtInGeneratorsNotOverridden
+                && context.getSelectorMaps().allEmpty()
+                && !context.hasElementOfSelectors();
     }
 
     private void addHandler(final NodeHandler handler) {
@@ -138,6 +161,44 @@ public class GeneratorFacade {
         return result;
     }
 
+    /**
+     * Returns the built-in generator that would produce every value of the
+     * given node, or {@code null} if values of the node may be produced
+     * by other means (for example, user-supplied generators, assignments,
+     * generator SPIs, or annotations). This allows callers to generate
+     * values in bulk, bypassing per-value node processing.
+     *
+     * @param node to resolve the generator for
+     * @return the generator, or {@code null} if bulk generation is not supported
+     */
+    @Nullable
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    public Generator<?> getBulkGenerator(final InternalNode node) {
+        if (!builtInGeneratorsOnly || node.isStaticallyIgnored() || node.isCyclic()) {
+            return null;
+        }
+        return generatorResolver.getCached(node);
+    }
+
+    /**
+     * Returns the finite domain of values of the given node, or {@code null}
+     * if the node's values are not restricted to a finite domain, or may
+     * be produced by other means than a built-in generator
+     * (see {@link #getBulkGenerator(InternalNode)}).
+     *
+     * @param node to resolve the domain for
+     * @return the domain, or {@code null} if it cannot be determined
+     */
+    @Nullable
+    public FiniteDomain getFiniteDomain(final InternalNode node) {
+        if (context.isNullable(node)) {
+            return null;
+        }
+        return getBulkGenerator(node) instanceof FiniteDomainGenerator domainGenerator
+                ? domainGenerator.getFiniteDomain()
+                : null;
+    }
+
     public void storeGeneratedPojo(final InternalNode node, final GeneratorResult result) {
         generatedPojoStore.putValue(node, result);
     }
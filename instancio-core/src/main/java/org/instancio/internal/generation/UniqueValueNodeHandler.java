@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generation;
+
+import org.instancio.generator.Generator;
+import org.instancio.generator.Hints;
+import org.instancio.internal.context.ModelContext;
+import org.instancio.internal.context.UniqueFilterPredicate;
+import org.instancio.internal.generator.GeneratorResolver;
+import org.instancio.internal.generator.GeneratorResult;
+import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
+import org.instancio.internal.nodes.InternalNode;
+import org.instancio.internal.util.Sonar;
+import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Generates values for nodes targeted by {@code withUnique()} constructively
+ * if the generator that would otherwise be used has a {@link FiniteDomain}.
+ * Values are produced by enumerating the domain in a random order, so that
+ * duplicates do not need to be discarded and regenerated.
+ *
+ * <p>If the generator has no finite domain, or the domain is exhausted,
+ * the result is unresolved and the value is generated as usual,
+ * with duplicates rejected by the unique filter.
+ *
+ * <p>Values are post-processed the same way as values produced by
+ * the handler that would otherwise be used: user-supplied generators
+ * are processed by the {@link UserSuppliedGeneratorProcessor}, and values
+ * of built-in generators are passed through the string prefixing
+ * post-processor.
+ */
+final class UniqueValueNodeHandler implements NodeHandler {
+
+    private final ModelContext context;
+    private final GeneratorResolver generatorResolver;
+    private final UserSuppliedGeneratorProcessor userSuppliedGeneratorProcessor;
+    private final GeneratedValuePostProcessor stringPostProcessor;
+    private final boolean useBuiltInGenerators;
+
+    private UniqueValueNodeHandler(
+            final ModelContext context,
+            final GeneratorResolver generatorResolver,
+            final UserSuppliedGeneratorProcessor userSuppliedGeneratorProcessor,
+            final boolean useBuiltInGenerators) {
+
+        this.context = context;
+        this.generatorResolver = generatorResolver;
+        this.userSuppliedGeneratorProcessor = userSuppliedGeneratorProcessor;
+        this.stringPostProcessor = new StringPrefixingPostProcessor(
+                context.getSettings().get(Keys.STRING_FIELD_PREFIX_ENABLED));
+        this.useBuiltInGenerators = useBuiltInGenerators;
+    }
+
+    /**
+     * Creates the handler.
+     *
+     * @param context                        the model context
+     * @param generatorResolver              for resolving built-in generators
+     * @param userSuppliedGeneratorProcessor for processing user-supplied generators
+     * @param useBuiltInGenerators           whether built-in generators may be used,
+     *                                       that is, they cannot be overridden by
+     *                                       generator SPIs or annotations
+     * @return the handler, or a no-op handler if there are no filters
+     */
+    static NodeHandler create(
+            final ModelContext context,
+            final GeneratorResolver generatorResolver,
+            final UserSuppliedGeneratorProcessor userSuppliedGeneratorProcessor,
+            final boolean useBuiltInGenerators) {
+
+        if (!context.getSelectorMaps().hasFilters()) {
+            return NOOP_HANDLER;
+        }
+        return new UniqueValueNodeHandler(
+                context, generatorResolver, userSuppliedGeneratorProcessor, useBuiltInGenerators);
+    }
+
+    @Override
+    public GeneratorResult getResult(final InternalNode node) {
+        final UniqueFilterPredicate uniqueFilter = context.getUniqueFilter(node);
+        if (uniqueFilter == null) {
+            return GeneratorResult.unresolvedResult();
+        }
+
+        final Optional<Generator<?>> userSupplied = context.getGenerator(node);
+        final Generator<?> generator = userSupplied.isPresent()
+                ? userSuppliedGeneratorProcessor.processGenerator(node, userSupplied.get())
+                : getBuiltInGenerator(node);
+
+        if (!(generator instanceof FiniteDomainGenerator domainGenerator)) {
+            return GeneratorResult.unresolvedResult();
+        }
+
+        final Hints hints = requireNonNull(generator.hints());
+        final InternalGeneratorHint internalHint = hints.get(InternalGeneratorHint.class);
+        if (internalHint != null && (internalHint.nullableResult() || internalHint.emptyResult())) {
+            return GeneratorResult.unresolvedResult();
+        }
+
+        final FiniteDomain domain = domainGenerator.getFiniteDomain();
+        if (domain == null) {
+            return GeneratorResult.unresolvedResult();
+        }
+
+        final Object value = uniqueFilter.nextValue(domain, context.getRandom());
+        if (value == null) {
+            return GeneratorResult.unresolvedResult();
+        }
+        // user-supplied values are not prefixed, same as in UserSuppliedGeneratorHandler
+        return userSupplied.isPresent()
+                ? GeneratorResult.resolved(value, hints)
+                : GeneratorResult.resolved(stringPostProcessor.process(value, node, generator), hints);
+    }
+
+    @Nullable
+    @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
+    private Generator<?> getBuiltInGenerator(final InternalNode node) {
+        return useBuiltInGenerators ? generatorResolver.getCached(node) : null;
+    }
+}
@@ -56,7 +56,7 @@ public final class UserSuppliedGeneratorProcessor {
     }
 
     GeneratorResult getGeneratorResult(final InternalNode node, final Generator<?> g) {
-        final Generator<?> generator = processGenerator(g, node);
+        final Generator<?> generator = processGenerator(node, g);
 
         if (generator instanceof EmitGenerator<?> emitGenerator) {
             return emitGeneratorHelper.getResult(emitGenerator, node);
@@ -93,8 +93,16 @@ public final class UserSuppliedGeneratorProcessor {
                 && abstractGenerator.isNullable();
     }
 
+    /**
+     * Validates the generator against the node and resolves
+     * its delegate, if the generator is a delegating generator.
+     *
+     * @param node      the target node
+     * @param generator the user-supplied generator
+     * @return the generator that should be used for generating values
+     */
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
-    private Generator<?> processGenerator(final Generator<?> generator, final InternalNode node) {
+    Generator<?> processGenerator(final InternalNode node, final Generator<?> generator) {
         ApiValidator.validateGeneratorUsage(node, generator);
 
         // If gen.array().subtype() was specified, then node targetClass
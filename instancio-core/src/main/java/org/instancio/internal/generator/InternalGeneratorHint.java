@@ -42,6 +42,7 @@ public final class InternalGeneratorHint implements Hint<InternalGeneratorHint>
     private final boolean emptyResult;
     private final boolean emitNull;
     private final @Nullable Integer explicitMaxSize;
+    private final boolean presizable;
 
     private InternalGeneratorHint(final Builder builder) {
         targetClass = builder.targetClass;
@@ -50,6 +51,7 @@ public final class InternalGeneratorHint implements Hint<InternalGeneratorHint>
         emptyResult = builder.emptyResult;
         emitNull = builder.emitNull;
         explicitMaxSize = builder.explicitMaxSize;
+        presizable = builder.presizable;
     }
 
     /**
@@ -125,6 +127,20 @@ public final class InternalGeneratorHint implements Hint<InternalGeneratorHint>
         return explicitMaxSize;
     }
 
+    /**
+     * Indicates that the generated value is a newly created, empty
+     * collection or map. This allows the engine to replace it with
+     * an instance of the same type that has sufficient capacity
+     * for the elements to be added.
+     *
+     * @return {@code true} if the engine may replace the generated
+     * container with a pre-sized instance
+     * @since 6.0.0
+     */
+    public boolean presizable() {
+        return presizable;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", "GeneratorHint[", "]")
@@ -133,6 +149,7 @@ public final class InternalGeneratorHint implements Hint<InternalGeneratorHint>
                 .add("emptyResult=" + emptyResult)
                 .add("emitNull=" + emitNull)
                 .add("explicitMaxSize=" + explicitMaxSize)
+                .add("presizable=" + presizable)
                 .add("excludeFromCallbacks=" + excludeFromCallbacks)
                 .toString();
     }
@@ -148,6 +165,7 @@ public final class InternalGeneratorHint implements Hint<InternalGeneratorHint>
         private boolean emptyResult;
         private boolean emitNull;
         private @Nullable Integer explicitMaxSize;
+        private boolean presizable;
 
         private Builder() {
         }
@@ -182,6 +200,11 @@ public final class InternalGeneratorHint implements Hint<InternalGeneratorHint>
             return this;
         }
 
+        public Builder presizable(final boolean presizable) {
+            this.presizable = presizable;
+            return this;
+        }
+
         /**
          * Builds the object.
          *
@@ -58,6 +58,10 @@ public class SpiGeneratorResolver {
         this.afterGenerate = modelContext.getSettings().get(Keys.AFTER_GENERATE_HINT);
     }
 
+    public boolean hasProviders() {
+        return !providerEntries.isEmpty();
+    }
+
     @Nullable
     @SuppressWarnings(Sonar.GENERIC_WILDCARD_IN_RETURN)
     public Generator<?> getSpiGenerator(final InternalNode node) {
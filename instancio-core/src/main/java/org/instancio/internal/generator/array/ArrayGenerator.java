@@ -17,6 +17,7 @@ package org.instancio.internal.generator.array;
 
 import org.instancio.Random;
 import org.instancio.generator.AfterGenerate;
+import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.Hints;
 import org.instancio.generator.hints.ArrayHint;
@@ -24,7 +25,13 @@ import org.instancio.generator.specs.ArrayGeneratorSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.generator.lang.AbstractRandomNumberGeneratorSpec;
+import org.instancio.internal.generator.lang.ByteGenerator;
+import org.instancio.internal.generator.lang.IntegerGenerator;
+import org.instancio.internal.generator.lang.LongGenerator;
+import org.instancio.internal.generator.lang.ShortGenerator;
 import org.instancio.internal.util.CollectionUtils;
+import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.NumberUtils;
 import org.instancio.settings.Keys;
 import org.jspecify.annotations.Nullable;
@@ -33,6 +40,7 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.ObjIntConsumer;
 
 import static java.util.Objects.requireNonNull;
 
@@ -152,4 +160,115 @@ public class ArrayGenerator<T> extends AbstractGenerator<T> implements ArrayGene
                         .build())
                 .build();
     }
+
+    /**
+     * Fills a primitive array with values produced by the given element
+     * generator, bypassing per-element node processing.
+     *
+     * <p>Values are generated in index order using the same sequence
+     * of random draws as element-by-element generation, therefore the
+     * result is the same for a given seed. If the generator produces
+     * a {@code null}, the value is regenerated, up to a total of
+     * {@code maxNullRetries} times for the whole array; elements that
+     * remain {@code null} retain the default value.
+     *
+     * @param array            primitive array to fill
+     * @param elementGenerator generator of the array's component type
+     * @param random           for generating values
+     * @param maxNullRetries   maximum number of times {@code null} values are regenerated
+     */
+    public static void fillPrimitiveArray(
+            final Object array,
+            final Generator<?> elementGenerator,
+            final Random random,
+            final int maxNullRetries) {
+
+        if (fillFromRandom(array, elementGenerator, random)) {
+            return;
+        }
+
+        final ObjIntConsumer<Object> sink = elementSink(array);
+        final int length = Array.getLength(array);
+        int failedAttempts = 0;
+
+        for (int i = 0; i < length; i++) {
+            Object value = elementGenerator.generate(random);
+
+            while (value == null && failedAttempts < maxNullRetries) {
+                failedAttempts++;
+                value = elementGenerator.generate(random);
+            }
+            if (value != null) {
+                sink.accept(value, i);
+            }
+        }
+    }
+
+    /**
+     * Generates values directly from the random if the element
+     * generator draws each value from a single fixed range.
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static boolean fillFromRandom(
+            final Object array,
+            final Generator<?> elementGenerator,
+            final Random random) {
+
+        if (!(elementGenerator instanceof AbstractRandomNumberGeneratorSpec<?> spec) || !spec.isFixedRange()) {
+            return false;
+        }
+
+        final Class<?> generatorClass = elementGenerator.getClass();
+
+        if (array instanceof int[] a && generatorClass == IntegerGenerator.class) {
+            final int min = (Integer) spec.getMin();
+            final int max = (Integer) spec.getMax();
+            for (int i = 0; i < a.length; i++) {
+                a[i] = random.intRange(min, max);
+            }
+        } else if (array instanceof long[] a && generatorClass == LongGenerator.class) {
+            final long min = (Long) spec.getMin();
+            final long max = (Long) spec.getMax();
+            for (int i = 0; i < a.length; i++) {
+                a[i] = random.longRange(min, max);
+            }
+        } else if (array instanceof byte[] a && generatorClass == ByteGenerator.class) {
+            final byte min = (Byte) spec.getMin();
+            final byte max = (Byte) spec.getMax();
+            for (int i = 0; i < a.length; i++) {
+                a[i] = random.byteRange(min, max);
+            }
+        } else if (array instanceof short[] a && generatorClass == ShortGenerator.class) {
+            final short min = (Short) spec.getMin();
+            final short max = (Short) spec.getMax();
+            for (int i = 0; i < a.length; i++) {
+                a[i] = random.shortRange(min, max);
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("PMD.CyclomaticComplexity")
+    private static ObjIntConsumer<Object> elementSink(final Object array) {
+        if (array instanceof int[] a) {
+            return (value, i) -> a[i] = (Integer) value;
+        } else if (array instanceof long[] a) {
+            return (value, i) -> a[i] = (Long) value;
+        } else if (array instanceof double[] a) {
+            return (value, i) -> a[i] = (Double) value;
+        } else if (array instanceof byte[] a) {
+            return (value, i) -> a[i] = (Byte) value;
+        } else if (array instanceof float[] a) {
+            return (value, i) -> a[i] = (Float) value;
+        } else if (array instanceof short[] a) {
+            return (value, i) -> a[i] = (Short) value;
+        } else if (array instanceof char[] a) {
+            return (value, i) -> a[i] = (Character) value;
+        } else if (array instanceof boolean[] a) {
+            return (value, i) -> a[i] = (Boolean) value;
+        }
+        throw Fail.withInternalError("not a primitive array: %s", array.getClass());
+    }
 }
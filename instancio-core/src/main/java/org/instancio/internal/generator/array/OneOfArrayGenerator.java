@@ -24,6 +24,7 @@ import org.instancio.generator.specs.OneOfArraySpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.random.AliasTable;
 import org.instancio.internal.util.Sonar;
 import org.jspecify.annotations.Nullable;
 
@@ -39,6 +40,7 @@ public class OneOfArrayGenerator<T> extends AbstractGenerator<T>
             .build();
 
     private @Nullable T[] values;
+    private @Nullable AliasTable weights;
     private boolean allowRandomValues;
 
     public OneOfArrayGenerator(final GeneratorContext context) {
@@ -55,6 +57,14 @@ public class OneOfArrayGenerator<T> extends AbstractGenerator<T>
     @Override
     public final OneOfArrayGenerator<T> oneOf(@Nullable final T... values) {
         this.values = ApiValidator.notEmpty(values, "Array must have at least one element");
+        this.weights = null;
+        return this;
+    }
+
+    @Override
+    public OneOfArrayGenerator<T> weights(final double... weights) {
+        ApiValidator.validateWeights(weights, values.length);
+        this.weights = new AliasTable(weights);
         return this;
     }
 
@@ -73,6 +83,9 @@ public class OneOfArrayGenerator<T> extends AbstractGenerator<T>
     @Nullable
     @Override
     public T tryGenerateNonNull(final Random random) {
+        if (weights != null) {
+            return values[weights.nextIndex(random)];
+        }
         return random.oneOf(values);
     }
 
@@ -49,7 +49,7 @@ public abstract class BaseModCheckGenerator extends AbstractGenerator<String> {
             // single, consistent snapshot of its configuration, so a violation here means
             // the snapshot was not consistent (for example, a generator whose state was
             // modified while it was generating a value). Failing here reports the offending
-            // values instead of an opaque StringIndexOutOfBoundsException later on.
+            // values instead of an opaque ArrayIndexOutOfBoundsException later on.
             final int size = prefixLength + payloadLength + suffixLength;
 
             if (prefixLength < 0 || payloadLength < 1 || suffixLength < 0
@@ -79,36 +79,39 @@ public abstract class BaseModCheckGenerator extends AbstractGenerator<String> {
     @Override
     protected String tryGenerateNonNull(final Random random) {
         final Layout layout = layout(random);
-        final String prefix = random.digits(layout.prefixLength());
-        final String payload = payload(random, layout.payloadLength());
-        final char checkDigit = getCheckDigit(payload);
-        final String suffix = random.digits(layout.suffixLength());
-        final StringBuilder result = new StringBuilder(prefix).append(payload).append(suffix);
-        result.setCharAt(layout.checkPosition(), checkDigit);
-        return result.toString();
+        final int payloadOffset = layout.prefixLength();
+        final int payloadLength = layout.payloadLength();
+        final int suffixOffset = payloadOffset + payloadLength;
+        final char[] number = new char[suffixOffset + layout.suffixLength()];
+
+        DigitBuffer.randomDigits(random, number, 0, payloadOffset);
+        payload(random, number, payloadOffset, payloadLength);
+        final char checkDigit = getCheckDigit(number, payloadOffset, payloadLength);
+        DigitBuffer.randomDigits(random, number, suffixOffset, layout.suffixLength());
+        number[layout.checkPosition()] = checkDigit;
+        return asString(number);
     }
 
-    protected String payload(final Random random, final int length) {
-        final char[] res = new char[length];
-
+    /**
+     * Writes {@code length} payload digits into the number,
+     * starting at {@code offset}.
+     */
+    protected void payload(final Random random, final char[] number, final int offset, final int length) {
         // Avoid generating numbers that start with zero to prevent the loss of
         // the leading digit if the generated string is converted to an int/long
-        res[0] = random.characterRange('1', '9');
-        for (int i = 1; i < length; i++) {
-            res[i] = random.characterRange('0', '9');
-        }
-        return new String(res);
+        number[offset] = random.characterRange('1', '9');
+        DigitBuffer.randomDigits(random, number, offset + 1, length - 1);
     }
 
-    protected char getCheckDigit(final String payload) {
-        final int checkValue = base() - modulo(payload);
-        return checkValue < 10 ? (char) (checkValue + '0') : nonDigitCheckValue(checkValue);
+    protected char getCheckDigit(final char[] number, final int offset, final int length) {
+        final int checkValue = base() - modulo(number, offset, length);
+        return checkValue < 10 ? DigitBuffer.toChar(checkValue) : nonDigitCheckValue(checkValue);
     }
 
     /**
      * Maps a check value that does not fit into a single digit.
      *
-     * <p>Since {@link #modulo(String)} returns a value in {@code [0, base() - 1]},
+     * <p>Since {@link #modulo(char[], int, int)} returns a value in {@code [0, base() - 1]},
      * the check value is in {@code [1, base()]}. Therefore, the argument can only
      * be {@code 10} for a base-10 generator, and {@code 10} or {@code 11}
      * for a base-11 generator.
@@ -117,16 +120,21 @@ public abstract class BaseModCheckGenerator extends AbstractGenerator<String> {
         return '0';
     }
 
-    protected int modulo(final String payload) {
-        final String newPayload = direction() == Direction.RIGHT_TO_LEFT
-                ? new StringBuilder(payload).reverse().toString()
-                : payload;
+    /**
+     * Calculates the weighted sum of the payload digits modulo {@link #base()}.
+     * Positions are counted from the end of the payload that {@link #direction()}
+     * starts from, so the payload is never copied or reversed.
+     */
+    protected int modulo(final char[] number, final int offset, final int length) {
+        final boolean rightToLeft = direction() == Direction.RIGHT_TO_LEFT;
+        final boolean sumDigits = sumDigits();
+        final int last = offset + length - 1;
 
         int sum = 0;
-        int bound = payload.length();
-        for (int i = 0; i < bound; i++) {
-            int n = extractDigit(i, newPayload);
-            if (sumDigits()) {
+        for (int position = 0; position < length; position++) {
+            final int digit = DigitBuffer.digitAt(number, rightToLeft ? last - position : offset + position);
+            int n = digit * (position % 2 == 0 ? even(position) : odd(position));
+            if (sumDigits && n > 9) {
                 n = NumberUtils.sumDigits(n);
                 n = NumberUtils.sumDigits(n);
             }
@@ -135,9 +143,12 @@ public abstract class BaseModCheckGenerator extends AbstractGenerator<String> {
         return sum % base();
     }
 
-    private int extractDigit(final int position, final String string) {
-        int digit = string.charAt(position) - '0';
-        return position % 2 == 0 ? digit * even(position) : digit * odd(position);
+    /**
+     * Converts the assembled number to the generated value.
+     * Subclasses can override this method to format the number.
+     */
+    protected String asString(final char[] number) {
+        return new String(number);
     }
 
     protected int even(final int position) {
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.checksum;
+
+import org.instancio.Random;
+
+/**
+ * Helper methods for assembling numbers in a {@code char[]} buffer.
+ *
+ * <p>Checksum and national ID generators write random digits directly
+ * into a buffer sized for the whole number, calculate check digits
+ * from the buffer, and materialise the result as a {@code String}
+ * only once, after all the digits are in place.
+ */
+public final class DigitBuffer {
+
+    private DigitBuffer() {
+        // non-instantiable
+    }
+
+    /**
+     * Fills {@code length} positions starting at {@code offset} with random digits.
+     * Consumes the same random values as {@link Random#digits(int)}.
+     *
+     * @param random the random instance
+     * @param buffer the buffer to write to
+     * @param offset the index of the first digit
+     * @param length the number of digits to write
+     */
+    public static void randomDigits(final Random random, final char[] buffer, final int offset, final int length) {
+        final int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            buffer[i] = random.characterRange('0', '9');
+        }
+    }
+
+    /**
+     * Returns the numeric value of the digit at the given index.
+     */
+    public static int digitAt(final char[] buffer, final int index) {
+        return buffer[index] - '0';
+    }
+
+    /**
+     * Converts a value in the range {@code [0, 9]} to a digit character.
+     */
+    public static char toChar(final int digit) {
+        return (char) ('0' + digit);
+    }
+
+    /**
+     * Returns the sum of digits starting at {@code offset},
+     * each multiplied by the corresponding weight.
+     *
+     * @param buffer  the buffer containing the digits
+     * @param offset  the index of the first digit
+     * @param weights the weights, one per digit
+     * @return the weighted sum of {@code weights.length} digits
+     */
+    public static int weightedSum(final char[] buffer, final int offset, final int[] weights) {
+        int sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += digitAt(buffer, offset + i) * weights[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Writes a non-negative value as exactly {@code width} digits,
+     * padded with leading zeros. Higher-order digits that do not fit
+     * into the given width are discarded.
+     *
+     * @param buffer the buffer to write to
+     * @param offset the index of the first (most significant) digit
+     * @param width  the number of digits to write
+     * @param value  the value to write
+     */
+    public static void writeDigits(final char[] buffer, final int offset, final int width, final int value) {
+        int remaining = value;
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = toChar(remaining % 10);
+            remaining /= 10;
+        }
+    }
+
+    /**
+     * Returns the number of digits in a non-negative value.
+     */
+    public static int digitCount(final int value) {
+        int count = 1;
+        for (int n = value; n >= 10; n /= 10) {
+            count++;
+        }
+        return count;
+    }
+}
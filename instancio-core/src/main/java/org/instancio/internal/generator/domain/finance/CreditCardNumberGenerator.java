@@ -20,6 +20,7 @@ import org.instancio.documentation.VisibleForTesting;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.CreditCardSpec;
 import org.instancio.internal.generator.checksum.BaseModCheckGenerator;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -68,8 +69,8 @@ public class CreditCardNumberGenerator extends BaseModCheckGenerator implements
     }
 
     @Override
-    protected String payload(final Random random, final int length) {
-        final String payload = super.payload(random, length);
+    protected void payload(final Random random, final char[] number, final int offset, final int length) {
+        super.payload(random, number, offset, length);
 
         // Resolved again rather than remembered from layout(): generating a value
         // must not modify the generator's state, otherwise the first generated value
@@ -77,9 +78,8 @@ public class CreditCardNumberGenerator extends BaseModCheckGenerator implements
         // Restricting the choice to types of the required length keeps the prefix
         // consistent with the layout.
         final CCTypeImpl type = resolveCardTypeOfLength(random, length + 1);
-        final String prefix = random.oneOf(type.getPrefixes()).toString();
-
-        return prefix + payload.substring(prefix.length());
+        final int prefix = random.oneOf(type.getPrefixes());
+        DigitBuffer.writeDigits(number, offset, DigitBuffer.digitCount(prefix), prefix);
     }
 
     private CCTypeImpl resolveCardType(final Random random) {
@@ -20,17 +20,30 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.HashSpec;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.lang.StringGenerator;
+import org.instancio.internal.util.HexUtils;
+import org.instancio.settings.Keys;
+import org.instancio.settings.StringCase;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+
 public class HashGenerator extends AbstractGenerator<String>
         implements HashSpec {
 
-    private final StringGenerator delegate;
+    private static final int HEX_DIGITS_PER_LONG = 16;
+
+    private final StringCase stringCase;
     private Type type = Type.MD5;
 
+    /**
+     * Only used for mixed-case hashes, which cannot be
+     * encoded directly from random bits.
+     */
+    private @Nullable StringGenerator mixedCaseDelegate;
+
     public HashGenerator(final GeneratorContext context) {
         super(context);
-        delegate = new StringGenerator(context);
+        stringCase = context.settings().get(Keys.STRING_CASE);
     }
 
     @Override
@@ -72,9 +85,30 @@ public class HashGenerator extends AbstractGenerator<String>
     @Nullable
     @Override
     protected String tryGenerateNonNull(final Random random) {
-        return delegate.hex()
-                .length(type.length)
-                .tryGenerateNonNull(random);
+        if (stringCase == StringCase.MIXED) {
+            return generateMixedCase(random);
+        }
+
+        // Since the hash is not derived from any input, there is no need
+        // to compute a digest: random bits are encoded directly,
+        // 16 hex digits per random long
+        final int length = type.length;
+        final boolean upperCase = stringCase == StringCase.UPPER;
+        final byte[] result = new byte[length];
+
+        for (int i = 0; i < length; i += HEX_DIGITS_PER_LONG) {
+            final long bits = random.longRange(Long.MIN_VALUE, Long.MAX_VALUE);
+            HexUtils.putHex(bits, Math.min(HEX_DIGITS_PER_LONG, length - i), upperCase, result, i);
+        }
+        return new String(result, StandardCharsets.ISO_8859_1);
+    }
+
+    @Nullable
+    private String generateMixedCase(final Random random) {
+        if (mixedCaseDelegate == null) {
+            mixedCaseDelegate = new StringGenerator(getContext()).hex();
+        }
+        return mixedCaseDelegate.length(type.length).tryGenerateNonNull(random);
     }
 
     private enum Type {
@@ -19,10 +19,17 @@ import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.bra.CnpjSpec;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 
 public class CnpjGenerator extends AbstractGenerator<String> implements CnpjSpec {
 
     private static final int CNPJ_LENGTH = 12;
+    private static final int FORMATTED_LENGTH = 18;
+
+    // Weights cycle from 9 down to 2; the second verifier
+    // is calculated over the base digits and the first verifier
+    private static final int[] FIRST_WEIGHTS = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
 
     private boolean format;
 
@@ -49,66 +56,39 @@ public class CnpjGenerator extends AbstractGenerator<String> implements CnpjSpec
 
     @Override
     protected String tryGenerateNonNull(Random random) {
-        String baseCnpj = random.digits(CNPJ_LENGTH);
-        int firstDigitVerifier = generateFirstDigit(baseCnpj);
-        int secondDigitVerifier = generateSecondDigit(baseCnpj, firstDigitVerifier);
-        if (!format) {
-            return baseCnpj + firstDigitVerifier + secondDigitVerifier;
-        }
-        return format(baseCnpj, String.format("%d%d", firstDigitVerifier, secondDigitVerifier));
-    }
+        final char[] cnpj = new char[CNPJ_LENGTH + 2];
+        DigitBuffer.randomDigits(random, cnpj, 0, CNPJ_LENGTH);
 
-    /**
-     * Formats the given CNPJ using the following pattern: {@code xx.xxx.xxx/xxxx-xx}
-     *
-     * @param baseCNPJ The base CNPJ
-     * @param digits   The verifier digits
-     * @return The CPF formatted
-     */
-    private String format(String baseCNPJ, String digits) {
-        return baseCNPJ.substring(0, 2) +
-                '.' +
-                baseCNPJ.substring(2, 5) +
-                '.' +
-                baseCNPJ.substring(5, 8) +
-                '/' +
-                baseCNPJ.substring(8, 12) +
-                '-' +
-                digits;
-    }
+        final int firstDigitVerifier = verifier(DigitBuffer.weightedSum(cnpj, 0, FIRST_WEIGHTS));
+        cnpj[CNPJ_LENGTH] = DigitBuffer.toChar(firstDigitVerifier);
 
-    /**
-     * Generates the first CNPJ digit verifier
-     *
-     * @param baseCnpj The base random CNPJ
-     * @return the first CNPJ verifier
-     */
-    private int generateFirstDigit(String baseCnpj) {
-        return generateDigit(baseCnpj, 5);
+        final int secondDigitVerifier = verifier(DigitBuffer.weightedSum(cnpj, 0, SECOND_WEIGHTS));
+        cnpj[CNPJ_LENGTH + 1] = DigitBuffer.toChar(secondDigitVerifier);
+
+        return format ? format(cnpj) : new String(cnpj);
     }
 
     /**
-     * Generates the second CNPJ digit verifier
+     * Formats the given CNPJ using the following pattern: {@code xx.xxx.xxx/xxxx-xx}
      *
-     * @param baseCnpj   The base random CNPJ
-     * @param firstDigit The first CNPJ digit verifier
-     * @return the second CNPJ verifier
+     * @param cnpj the CNPJ digits, including the verifiers
+     * @return The CNPJ formatted
      */
-    private int generateSecondDigit(String baseCnpj, int firstDigit) {
-        return generateDigit(baseCnpj + firstDigit, 6);
+    private static String format(char[] cnpj) {
+        return new StringBuilder(FORMATTED_LENGTH)
+                .append(cnpj, 0, 2)
+                .append('.')
+                .append(cnpj, 2, 3)
+                .append('.')
+                .append(cnpj, 5, 3)
+                .append('/')
+                .append(cnpj, 8, 4)
+                .append('-')
+                .append(cnpj, 12, 2)
+                .toString();
     }
 
-    private int generateDigit(String baseCnpj, int initialWeight) {
-        int weight = initialWeight;
-        int sum = 0;
-        for (int i = 0; i < baseCnpj.length(); i++) {
-            char digit = baseCnpj.charAt(i);
-            sum += Character.getNumericValue(digit) * weight;
-            weight--;
-            if (weight == 1) {
-                weight = 9;
-            }
-        }
+    private static int verifier(int sum) {
         int mod = sum % 11;
         if (mod < 2) {
             return 0;
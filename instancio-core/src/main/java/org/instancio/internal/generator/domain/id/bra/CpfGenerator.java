@@ -19,10 +19,12 @@ import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.bra.CpfSpec;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 
 public class CpfGenerator extends AbstractGenerator<String> implements CpfSpec {
 
     private static final int CPF_LENGTH = 9;
+    private static final int FORMATTED_LENGTH = 14;
 
     private boolean format;
 
@@ -49,61 +51,47 @@ public class CpfGenerator extends AbstractGenerator<String> implements CpfSpec {
 
     @Override
     protected String tryGenerateNonNull(Random random) {
-        String baseCpf = random.digits(CPF_LENGTH);
-        int firstDigitVerifier = generateFirstDigit(baseCpf);
-        int secondDigitVerifier = generateSecondDigit(baseCpf, firstDigitVerifier);
-        if (!format) {
-            return baseCpf + firstDigitVerifier + secondDigitVerifier;
+        final char[] cpf = new char[CPF_LENGTH + 2];
+        DigitBuffer.randomDigits(random, cpf, 0, CPF_LENGTH);
+
+        // Both verifiers are weighted sums of the base digits: the first one
+        // with weights 1..9, the second one with weights 0..8 followed by
+        // the first verifier with weight 9. Both sums are computed in one pass.
+        int firstSum = 0;
+        int secondSum = 0;
+        for (int i = 0; i < CPF_LENGTH; i++) {
+            final int digit = DigitBuffer.digitAt(cpf, i);
+            firstSum += digit * (i + 1);
+            secondSum += digit * i;
         }
-        return format(baseCpf, String.format("%d%d", firstDigitVerifier, secondDigitVerifier));
-    }
 
-    /**
-     * Formats the given CPF using the following pattern: {@code xxx.xxx.xxx-xx}
-     *
-     * @param baseCPF The base CPF
-     * @param digits  The verifier digits
-     * @return The CPF formatted
-     */
-    String format(String baseCPF, String digits) {
-        return baseCPF.substring(0, 3) +
-                '.' +
-                baseCPF.substring(3, 6) +
-                '.' +
-                baseCPF.substring(6, 9) +
-                '-' +
-                digits;
-    }
+        final int firstDigitVerifier = verifier(firstSum);
+        final int secondDigitVerifier = verifier(secondSum + firstDigitVerifier * CPF_LENGTH);
+        cpf[CPF_LENGTH] = DigitBuffer.toChar(firstDigitVerifier);
+        cpf[CPF_LENGTH + 1] = DigitBuffer.toChar(secondDigitVerifier);
 
-    /**
-     * Generates the first CPF digit verifier
-     *
-     * @param baseCpf The base random CPF
-     * @return the first CPF verifier
-     */
-    private int generateFirstDigit(String baseCpf) {
-        return generateDigit(baseCpf, 1);
+        return format ? format(cpf) : new String(cpf);
     }
 
     /**
-     * Generates the second CPF digit verifier
+     * Formats the given CPF using the following pattern: {@code xxx.xxx.xxx-xx}
      *
-     * @param baseCpf    The base random CPF
-     * @param firstDigit The first CPF digit verifier
-     * @return the second CPF verifier
+     * @param cpf the CPF digits, including the verifiers
+     * @return The CPF formatted
      */
-    private int generateSecondDigit(String baseCpf, int firstDigit) {
-        return generateDigit(baseCpf + firstDigit, 0);
+    private static String format(char[] cpf) {
+        return new StringBuilder(FORMATTED_LENGTH)
+                .append(cpf, 0, 3)
+                .append('.')
+                .append(cpf, 3, 3)
+                .append('.')
+                .append(cpf, 6, 3)
+                .append('-')
+                .append(cpf, 9, 2)
+                .toString();
     }
 
-    private int generateDigit(String baseCpf, int initialWeight) {
-        int weight = initialWeight;
-        int sum = 0;
-        for (int i = 0; i < baseCpf.length(); i++) {
-            char digit = baseCpf.charAt(i);
-            sum += Character.getNumericValue(digit) * weight;
-            weight++;
-        }
+    private static int verifier(int sum) {
         int result = sum % 11;
         if (result == 10) {
             return 0;
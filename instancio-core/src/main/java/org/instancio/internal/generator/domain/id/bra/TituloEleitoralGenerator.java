@@ -19,10 +19,12 @@ import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.bra.TituloEleitoralSpec;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 
 public class TituloEleitoralGenerator extends AbstractGenerator<String> implements TituloEleitoralSpec {
 
     private static final int TITULO_LENGTH = 8;
+    private static final int[] BASE_WEIGHTS = {2, 3, 4, 5, 6, 7, 8, 9};
 
     public TituloEleitoralGenerator(final GeneratorContext context) {
         super(context);
@@ -41,47 +43,23 @@ public class TituloEleitoralGenerator extends AbstractGenerator<String> implemen
 
     @Override
     protected String tryGenerateNonNull(Random random) {
-        String baseTitulo = random.digits(TITULO_LENGTH);
-        int firstDigitVerifier = generateFirstDigit(baseTitulo);
-        int stateCode = random.intRange(1, 28);
-        int secondDigitVerifier = generateSecondDigit(firstDigitVerifier, stateCode);
-        return baseTitulo + (stateCode < 10 ? "0" + stateCode : stateCode) + firstDigitVerifier + secondDigitVerifier;
-    }
-
+        final char[] titulo = new char[TITULO_LENGTH + 4];
+        DigitBuffer.randomDigits(random, titulo, 0, TITULO_LENGTH);
+        final int firstDigitVerifier = verifier(DigitBuffer.weightedSum(titulo, 0, BASE_WEIGHTS));
+        final int stateCode = random.intRange(1, 28);
 
-    /**
-     * Generates the first Titulo eleitoral digit verifier
-     *
-     * @param baseTitulo The base random Titulo
-     * @return the first Titulo eleitoral digit verifier
-     */
-    private int generateFirstDigit(String baseTitulo) {
-        return generateDigit(baseTitulo, 2);
-    }
+        // The second verifier is calculated from the two state code digits
+        // and the first verifier, with weights 7, 8 and 9 respectively
+        final int secondDigitVerifier = verifier(
+                (stateCode / 10) * 7 + (stateCode % 10) * 8 + firstDigitVerifier * 9);
 
-    /**
-     * Generates the second Titulo Eleitoral digit verifier
-     *
-     * @param firstDigit The first Titulo Eleitoral digit verifier
-     * @param stateCode  The state code of the Titulo Eleitoral
-     * @return the second Titulo Eleitoral verifier
-     */
-    private int generateSecondDigit(int firstDigit, int stateCode) {
-        if (stateCode < 10) {
-            return generateDigit(String.format("0%d%d", stateCode, firstDigit), 7);
-        }
-        return generateDigit(String.format("%d%d", stateCode, firstDigit), 7);
+        DigitBuffer.writeDigits(titulo, TITULO_LENGTH, 2, stateCode);
+        titulo[TITULO_LENGTH + 2] = DigitBuffer.toChar(firstDigitVerifier);
+        titulo[TITULO_LENGTH + 3] = DigitBuffer.toChar(secondDigitVerifier);
+        return new String(titulo);
     }
 
-    private int generateDigit(String baseNumber, int initialWeight) {
-        int weight = initialWeight;
-        int sum = 0;
-        for (int i = 0; i < baseNumber.length(); i++) {
-            char digit = baseNumber.charAt(i);
-            sum += Character.getNumericValue(digit) * weight;
-            weight++;
-        }
-
+    private static int verifier(int sum) {
         if (sum % 11 == 10) {
             return 0;
         }
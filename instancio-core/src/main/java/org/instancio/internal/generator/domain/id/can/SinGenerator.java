@@ -18,6 +18,7 @@ package org.instancio.internal.generator.domain.id.can;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.can.SinSpec;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 import org.instancio.internal.generator.checksum.LuhnGenerator;
 import org.jspecify.annotations.Nullable;
 
@@ -63,30 +64,24 @@ public class SinGenerator extends LuhnGenerator implements SinSpec {
     }
 
     @Override
-    protected String tryGenerateNonNull(final Random random) {
-        final String sin = super.tryGenerateNonNull(random);
-
+    protected String asString(final char[] number) {
         if (separator == null) {
-            return sin;
+            return super.asString(number);
         }
 
-        return sin.substring(0, 3) +
-                separator +
-                sin.substring(3, 6) +
-                separator +
-                sin.substring(6, 9);
+        return new StringBuilder(SIN_LENGTH + 2 * separator.length())
+                .append(number, 0, 3)
+                .append(separator)
+                .append(number, 3, 3)
+                .append(separator)
+                .append(number, 6, 3)
+                .toString();
     }
 
     @Override
-    protected String payload(final Random random, final int length) {
-        final char[] res = new char[length];
-
-        res[0] = getFirstDigit(random);
-
-        for (int i = 1; i < length; i++) {
-            res[i] = random.characterRange('0', '9');
-        }
-        return new String(res);
+    protected void payload(final Random random, final char[] number, final int offset, final int length) {
+        number[offset] = getFirstDigit(random);
+        DigitBuffer.randomDigits(random, number, offset + 1, length - 1);
     }
 
     private char getFirstDigit(final Random random) {
@@ -22,11 +22,9 @@ import org.instancio.internal.util.Fail;
 import org.instancio.settings.Keys;
 import org.instancio.support.Log;
 
-import java.util.List;
-
 public class NipGenerator extends WeightsModCheckGenerator implements NipSpec {
 
-    private static final List<Integer> NIP_WEIGHTS = List.of(6, 5, 7, 2, 3, 4, 5, 6, 7);
+    private static final int[] NIP_WEIGHTS = {6, 5, 7, 2, 3, 4, 5, 6, 7};
     private static final String FALLBACK = "123456321";
 
     public NipGenerator(final GeneratorContext context) {
@@ -45,12 +43,12 @@ public class NipGenerator extends WeightsModCheckGenerator implements NipSpec {
     }
 
     @Override
-    protected String payload(final Random random, final int length) {
+    protected void payload(final Random random, final char[] number, final int offset, final int length) {
         final int maxGenerationAttempts = getContext().settings().get(Keys.MAX_GENERATION_ATTEMPTS);
         for (int count = 0; count < maxGenerationAttempts; count++) {
-            final String payload = super.payload(random, length);
-            if (modulo(payload) < 10) {
-                return payload;
+            super.payload(random, number, offset, length);
+            if (modulo(number, offset, length) < 10) {
+                return;
             }
         }
 
@@ -67,11 +65,11 @@ public class NipGenerator extends WeightsModCheckGenerator implements NipSpec {
                 maxGenerationAttempts,
                 Keys.MAX_GENERATION_ATTEMPTS.propertyKey());
 
-        return FALLBACK;
+        FALLBACK.getChars(0, FALLBACK.length(), number, offset);
     }
 
     @Override
-    protected List<Integer> weights() {
+    protected int[] weights() {
         return NIP_WEIGHTS;
     }
 }
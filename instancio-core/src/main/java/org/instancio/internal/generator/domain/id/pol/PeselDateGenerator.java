@@ -20,27 +20,22 @@ import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 import org.instancio.internal.generator.time.LocalDateGenerator;
 import org.jspecify.annotations.Nullable;
 
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-
-import static java.time.temporal.ChronoField.DAY_OF_MONTH;
 
 class PeselDateGenerator extends AbstractGenerator<String> {
 
+    /**
+     * The date is encoded as {@code YYMMDD}.
+     */
+    static final int DATE_LENGTH = 6;
+
     private static final LocalDate MIN = LocalDate.of(1800, 1, 1);
     private static final LocalDate MAX = LocalDate.of(2300, 1, 1).minusDays(1);
 
-    private static final String MONTH_LITERAL = "MM";
-    private static final DateTimeFormatter PESEL_DATE_FORMATTER = new DateTimeFormatterBuilder()
-            .appendPattern("uu")
-            .appendLiteral(MONTH_LITERAL)
-            .appendValue(DAY_OF_MONTH, 2)
-            .toFormatter();
-
     private Generator<LocalDate> localDateGenerator;
 
     PeselDateGenerator(final GeneratorContext context) {
@@ -56,10 +51,21 @@ class PeselDateGenerator extends AbstractGenerator<String> {
 
     @Override
     protected String tryGenerateNonNull(final Random random) {
+        final char[] date = new char[DATE_LENGTH];
+        writeDate(random, date, 0);
+        return new String(date);
+    }
+
+    /**
+     * Generates a date and writes its {@link #DATE_LENGTH} digits
+     * into the number, starting at {@code offset}.
+     */
+    void writeDate(final Random random, final char[] number, final int offset) {
         final LocalDate localDate = localDateGenerator.generate(random);
         ApiValidator.notNull(localDate, "generated PESEL date must not be null");
-        return localDate.format(PESEL_DATE_FORMATTER)
-                .replace(MONTH_LITERAL, codedMonthFromDate(localDate));
+        DigitBuffer.writeDigits(number, offset, 2, Math.abs(localDate.getYear() % 100));
+        DigitBuffer.writeDigits(number, offset + 2, 2, codedMonthFromDate(localDate));
+        DigitBuffer.writeDigits(number, offset + 4, 2, localDate.getDayOfMonth());
     }
 
     PeselDateGenerator withLocalDate(@Nullable final Generator<LocalDate> localDateGenerator) {
@@ -69,7 +75,7 @@ class PeselDateGenerator extends AbstractGenerator<String> {
         return this;
     }
 
-    private static String codedMonthFromDate(LocalDate localDate) {
+    private static int codedMonthFromDate(LocalDate localDate) {
         final int century = localDate.getYear() / 100;
         int codedMonth = localDate.getMonthValue();
         int offset = switch (century) {
@@ -79,6 +85,6 @@ class PeselDateGenerator extends AbstractGenerator<String> {
             case 22 -> 60;
             default -> 0;
         };
-        return String.format("%02d", codedMonth + offset);
+        return codedMonth + offset;
     }
 }
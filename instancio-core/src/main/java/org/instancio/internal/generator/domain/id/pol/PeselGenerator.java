@@ -19,19 +19,16 @@ import org.instancio.Random;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.pol.PeselSpec;
-import org.instancio.internal.util.CollectionUtils;
-import org.instancio.internal.util.NumberUtils;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 import org.jspecify.annotations.Nullable;
 
 import java.time.LocalDate;
-import java.util.List;
-
-import static java.util.Objects.requireNonNull;
 
 public class PeselGenerator extends WeightsModCheckGenerator implements PeselSpec {
 
-    private static final List<Integer> PESEL_WEIGHTS = CollectionUtils.asUnmodifiableList(1, 3, 7, 9, 1, 3, 7, 9, 1, 3);
+    private static final int[] PESEL_WEIGHTS = {1, 3, 7, 9, 1, 3, 7, 9, 1, 3};
     private static final int GENDER_DIGIT_POSITION = 9;
+    private static final Gender[] GENDERS = Gender.values();
 
     private final PeselDateGenerator peselDateGenerator;
     private @Nullable Gender gender;
@@ -47,23 +44,23 @@ public class PeselGenerator extends WeightsModCheckGenerator implements PeselSpe
     }
 
     @Override
-    protected String payload(final Random random, final int length) {
-        final String birthdate = requireNonNull(peselDateGenerator.tryGenerateNonNull(random));
-        final String serialNumber = random.digits(length - birthdate.length());
-        final Gender selectedGender = gender == null ? random.oneOf(Gender.values()) : gender;
-        final StringBuilder payload = new StringBuilder(birthdate).append(serialNumber);
-        final Character ch = random.oneOf(selectedGender.digits);
-        payload.setCharAt(GENDER_DIGIT_POSITION, ch);
-        return payload.toString();
+    protected void payload(final Random random, final char[] number, final int offset, final int length) {
+        peselDateGenerator.writeDate(random, number, offset);
+        DigitBuffer.randomDigits(random, number, offset + PeselDateGenerator.DATE_LENGTH,
+                length - PeselDateGenerator.DATE_LENGTH);
+
+        final Gender selectedGender = gender == null ? random.oneOf(GENDERS) : gender;
+        final char[] digits = selectedGender.digits;
+        number[offset + GENDER_DIGIT_POSITION] = digits[random.intRange(0, digits.length - 1)];
     }
 
     @Override
-    protected char getCheckDigit(final String payload) {
-        final int modulo = modulo(payload);
+    protected char getCheckDigit(final char[] number, final int offset, final int length) {
+        final int modulo = modulo(number, offset, length);
         if (modulo == 0) {
             return '0';
         }
-        return NumberUtils.toDigitChar(base() - modulo);
+        return DigitBuffer.toChar(base() - modulo);
     }
 
     @Override
@@ -91,7 +88,7 @@ public class PeselGenerator extends WeightsModCheckGenerator implements PeselSpe
     }
 
     @Override
-    protected List<Integer> weights() {
+    protected int[] weights() {
         return PESEL_WEIGHTS;
     }
 
@@ -104,10 +101,10 @@ public class PeselGenerator extends WeightsModCheckGenerator implements PeselSpe
         MALE('1', '3', '5', '7', '9'),
         FEMALE('0', '2', '4', '6', '8');
 
-        private final List<Character> digits;
+        private final char[] digits;
 
-        Gender(final Character... digits) {
-            this.digits = CollectionUtils.asUnmodifiableList(digits);
+        Gender(final char... digits) {
+            this.digits = digits;
         }
     }
 }
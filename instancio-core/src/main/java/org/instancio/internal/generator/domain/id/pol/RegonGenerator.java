@@ -17,9 +17,6 @@ package org.instancio.internal.generator.domain.id.pol;
 
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.pol.RegonSpec;
-import org.instancio.internal.util.CollectionUtils;
-
-import java.util.List;
 
 public class RegonGenerator extends WeightsModCheckGenerator implements RegonSpec {
 
@@ -53,7 +50,7 @@ public class RegonGenerator extends WeightsModCheckGenerator implements RegonSpe
     }
 
     @Override
-    protected List<Integer> weights() {
+    protected int[] weights() {
         return type.weights;
     }
 
@@ -61,10 +58,10 @@ public class RegonGenerator extends WeightsModCheckGenerator implements RegonSpe
         REGON9(8, 9, 2, 3, 4, 5, 6, 7),
         REGON14(2, 4, 8, 5, 0, 9, 7, 3, 6, 1, 2, 4, 8);
 
-        private final List<Integer> weights;
+        private final int[] weights;
 
-        RegonType(final Integer... weights) {
-            this.weights = CollectionUtils.asUnmodifiableList(weights);
+        RegonType(final int... weights) {
+            this.weights = weights;
         }
     }
 }
@@ -18,9 +18,7 @@ package org.instancio.internal.generator.domain.id.pol;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.generator.checksum.BaseModCheckGenerator;
-import org.instancio.internal.util.NumberUtils;
-
-import java.util.List;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 
 abstract class WeightsModCheckGenerator extends BaseModCheckGenerator {
 
@@ -28,31 +26,25 @@ abstract class WeightsModCheckGenerator extends BaseModCheckGenerator {
         super(context);
     }
 
-    protected abstract List<Integer> weights();
+    protected abstract int[] weights();
 
     @Override
     protected Layout layout(final Random random) {
-        return Layout.of(weights().size());
+        return Layout.of(weights().length);
     }
 
     @Override
-    protected char getCheckDigit(final String payload) {
-        final int result = modulo(payload);
+    protected char getCheckDigit(final char[] number, final int offset, final int length) {
+        final int result = modulo(number, offset, length);
         if (result == 10) {
             return '0';
         }
-        return NumberUtils.toDigitChar(result);
+        return DigitBuffer.toChar(result);
     }
 
     @Override
-    protected int modulo(final String payload) {
-        int sum = 0;
-        for (int i = 0; i < payload.length(); i++) {
-            int n = NumberUtils.toDigitInt(payload.charAt(i));
-            n *= weights().get(i);
-            sum += n;
-        }
-        return sum % base();
+    protected int modulo(final char[] number, final int offset, final int length) {
+        return DigitBuffer.weightedSum(number, offset, weights()) % base();
     }
 
     @Override
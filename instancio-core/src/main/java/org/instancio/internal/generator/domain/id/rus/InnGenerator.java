@@ -19,6 +19,7 @@ import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.rus.InnSpec;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 import org.jspecify.annotations.Nullable;
 
 public class InnGenerator extends AbstractGenerator<String> implements InnSpec {
@@ -68,25 +69,23 @@ public class InnGenerator extends AbstractGenerator<String> implements InnSpec {
     }
 
     private String generateIndividualInn(Random random) {
-        String baseInn = random.digits(10);
-        int firstCheck = getCheckSum(baseInn, INDIVIDUAL_WEIGHTS_11);
-        int secondCheck = getCheckSum(baseInn + firstCheck, INDIVIDUAL_WEIGHTS_12);
-        return baseInn + firstCheck + secondCheck;
+        final char[] inn = new char[12];
+        DigitBuffer.randomDigits(random, inn, 0, 10);
+        inn[10] = getCheckDigit(inn, INDIVIDUAL_WEIGHTS_11);
+        inn[11] = getCheckDigit(inn, INDIVIDUAL_WEIGHTS_12);
+        return new String(inn);
     }
 
     private String generateJuridicalInn(Random random) {
-        String baseInn = random.digits(9);
-        int firstCheck = getCheckSum(baseInn, JURIDICAL_WEIGHTS);
-        return baseInn + firstCheck;
+        final char[] inn = new char[10];
+        DigitBuffer.randomDigits(random, inn, 0, 9);
+        inn[9] = getCheckDigit(inn, JURIDICAL_WEIGHTS);
+        return new String(inn);
     }
 
-    private int getCheckSum(String digits, int... weights) {
-        int sum = 0;
-        for (int i = 0; i < weights.length; i++) {
-            int digit = Character.getNumericValue(digits.charAt(i));
-            sum += digit * weights[i];
-        }
-        return (sum % 11) % 10;
+    private static char getCheckDigit(char[] inn, int[] weights) {
+        final int sum = DigitBuffer.weightedSum(inn, 0, weights);
+        return DigitBuffer.toChar((sum % 11) % 10);
     }
 
     private enum Type {
@@ -20,12 +20,15 @@ import org.instancio.documentation.VisibleForTesting;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.usa.SsnSpec;
 import org.instancio.internal.generator.AbstractGenerator;
-import org.instancio.internal.util.StringUtils;
+import org.instancio.internal.generator.checksum.DigitBuffer;
 import org.jspecify.annotations.Nullable;
 
 public class SsnGenerator extends AbstractGenerator<String> implements SsnSpec {
 
     private static final int SSN_LENGTH = 9;
+    private static final String[] INVALID_PREFIXES = {
+            "000", "666", "078051120", "219099999", "123456789"
+    };
 
     private @Nullable String separator;
 
@@ -52,30 +55,52 @@ public class SsnGenerator extends AbstractGenerator<String> implements SsnSpec {
 
     @Override
     protected String tryGenerateNonNull(final Random random) {
-        final String ssn = generateValidSsn(random);
+        final char[] ssn = generateValidSsn(random);
 
         if (separator == null) {
-            return ssn;
+            return new String(ssn);
         }
 
-        return ssn.substring(0, 3) +
-                separator +
-                ssn.substring(3, 5) +
-                separator +
-                ssn.substring(5, SSN_LENGTH);
+        return new StringBuilder(SSN_LENGTH + 2 * separator.length())
+                .append(ssn, 0, 3)
+                .append(separator)
+                .append(ssn, 3, 2)
+                .append(separator)
+                .append(ssn, 5, 4)
+                .toString();
     }
 
-    private String generateValidSsn(final Random random) {
-        String ssn = random.digits(9);
-        while (isInvalid(ssn)) ssn = random.digits(9);
+    private static char[] generateValidSsn(final Random random) {
+        final char[] ssn = new char[SSN_LENGTH];
+        do {
+            DigitBuffer.randomDigits(random, ssn, 0, SSN_LENGTH);
+        } while (isInvalid(ssn));
         return ssn;
     }
 
     @VisibleForTesting
-    static boolean isInvalid(final String ssn) {
-        return (ssn.charAt(3) == '0' && ssn.charAt(4) == '0')
-                || ssn.endsWith("0000")
-                || StringUtils.startsWithAny(ssn,
-                "000", "666", "9", "078051120", "219099999", "123456789");
+    static boolean isInvalid(final char[] ssn) {
+        return (ssn[3] == '0' && ssn[4] == '0')
+                || (ssn[5] == '0' && ssn[6] == '0' && ssn[7] == '0' && ssn[8] == '0')
+                || ssn[0] == '9'
+                || startsWithAny(ssn);
+    }
+
+    private static boolean startsWithAny(final char[] ssn) {
+        for (String prefix : INVALID_PREFIXES) {
+            if (startsWith(ssn, prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWith(final char[] ssn, final String prefix) {
+        for (int i = 0; i < prefix.length(); i++) {
+            if (ssn[i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 }
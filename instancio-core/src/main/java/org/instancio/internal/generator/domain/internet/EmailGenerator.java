@@ -22,7 +22,7 @@ import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.specs.InternalLengthGeneratorSpec;
 
-import java.util.Locale;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Internal generator used for generating email addresses for fields annotated
@@ -31,7 +31,9 @@ import java.util.Locale;
 public class EmailGenerator extends AbstractGenerator<String>
         implements EmailSpec, InternalLengthGeneratorSpec<String> {
 
-    private static final String[] TLDS = {"com", "edu", "net", "org"};
+    private static final byte[][] TLDS = {
+            ascii(".com"), ascii(".edu"), ascii(".net"), ascii(".org")
+    };
 
     private int minLength = 7;
     private int maxLength = 24;
@@ -40,6 +42,10 @@ public class EmailGenerator extends AbstractGenerator<String>
         super(context);
     }
 
+    private static byte[] ascii(final String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
     @Override
     public String apiMethod() {
         return "email()";
@@ -79,25 +85,35 @@ public class EmailGenerator extends AbstractGenerator<String>
     @Override
     protected String tryGenerateNonNull(final Random random) {
         final int len = random.intRange(minLength, maxLength);
+        final byte[] buf = new byte[len];
 
         // If length is at least 7, can generate with TLD: x@y.com
         if (len >= 7) {
-            final String tld = "." + random.oneOf(TLDS);
-            final int rem = len - tld.length() - 1; // -1 for @
-            return emailWithoutTld(random, rem) + tld;
+            final byte[] tld = random.oneOf(TLDS);
+            final int rem = len - tld.length - 1; // -1 for @
+            writeEmailWithoutTld(random, buf, rem);
+            System.arraycopy(tld, 0, buf, rem + 1, tld.length);
         } else {
             // Generate without TLD: x@y
             final int rem = len - 1; // -1 for @
-            return emailWithoutTld(random, rem);
+            writeEmailWithoutTld(random, buf, rem);
         }
+        return new String(buf, StandardCharsets.ISO_8859_1);
     }
 
-    private static String emailWithoutTld(final Random random, final int length) {
+    private static void writeEmailWithoutTld(final Random random, final byte[] buf, final int length) {
         final int localPartLen = random.intRange(1, length - 1);
-        final int domainLen = length - localPartLen;
-        final String localPart = random.alphanumeric(localPartLen).toLowerCase(Locale.ROOT);
-        final String domain = random.alphanumeric(domainLen).toLowerCase(Locale.ROOT);
-        return localPart + '@' + domain;
+        writeLowerCaseAlphanumeric(random, buf, 0, localPartLen);
+        buf[localPartLen] = '@';
+        writeLowerCaseAlphanumeric(random, buf, localPartLen + 1, length + 1);
     }
-}
 
+    private static void writeLowerCaseAlphanumeric(
+            final Random random, final byte[] buf, final int from, final int to) {
+
+        for (int i = from; i < to; i++) {
+            // Setting the 0x20 bit lowercases ASCII letters and leaves digits unchanged
+            buf[i] = (byte) (random.alphanumericCharacter() | 0x20);
+        }
+    }
+}
@@ -23,9 +23,15 @@ import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.util.Fail;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
+
 public class Ip4Generator extends AbstractGenerator<String> implements Ip4Spec {
 
+    // "255.255.255.255"
+    private static final int MAX_LENGTH = 15;
+
     private @Nullable String cidr;
+    private int @Nullable [] cidrRange;
 
     public Ip4Generator(final GeneratorContext context) {
         super(context);
@@ -39,6 +45,7 @@ public class Ip4Generator extends AbstractGenerator<String> implements Ip4Spec {
     @Override
     public Ip4Generator fromCidr(final String cidr) {
         this.cidr = ApiValidator.notNull(cidr, "CIDR must not be null");
+        this.cidrRange = null;
         return this;
     }
 
@@ -54,23 +61,58 @@ public class Ip4Generator extends AbstractGenerator<String> implements Ip4Spec {
             return generateAny(random);
         }
         try {
-            return generateFromCidr(random, cidr);
+            int[] range = cidrRange;
+            if (range == null) {
+                range = parseCidr(cidr);
+                cidrRange = range;
+            }
+            return generateFromCidr(random, range);
         } catch (Exception ex) {
             throw Fail.withUsageError(
                     "error generating IPv4 address from: '%s'", cidr, ex);
         }
     }
 
-    private String generateAny(final Random random) {
-        return String.format("%d.%d.%d.%d",
-                random.intRange(1, 255),
-                random.intRange(0, 255),
-                random.intRange(0, 255),
-                random.intRange(0, 255));
+    private static String generateAny(final Random random) {
+        final byte[] buf = new byte[MAX_LENGTH];
+        int pos = writeOctet(buf, 0, random.intRange(1, 255));
+        for (int i = 1; i < 4; i++) {
+            buf[pos++] = '.';
+            pos = writeOctet(buf, pos, random.intRange(0, 255));
+        }
+        return new String(buf, 0, pos, StandardCharsets.ISO_8859_1);
+    }
+
+    private static String generateFromCidr(final Random random, final int[] cidrRange) {
+        final byte[] buf = new byte[MAX_LENGTH];
+        int pos = 0;
+        for (int i = 0; i < 4; i++) {
+            if (i > 0) {
+                buf[pos++] = '.';
+            }
+            pos = writeOctet(buf, pos, random.intRange(cidrRange[i], cidrRange[i + 4]));
+        }
+        return new String(buf, 0, pos, StandardCharsets.ISO_8859_1);
     }
 
+    private static int writeOctet(final byte[] buf, final int offset, final int octet) {
+        int pos = offset;
+        if (octet >= 100) {
+            buf[pos++] = (byte) ('0' + octet / 100);
+        }
+        if (octet >= 10) {
+            buf[pos++] = (byte) ('0' + octet / 10 % 10);
+        }
+        buf[pos++] = (byte) ('0' + octet % 10);
+        return pos;
+    }
+
+    /**
+     * Returns the lowest four octets followed by
+     * the highest four octets of the given CIDR block.
+     */
     // Source: https://stackoverflow.com/questions/62124452
-    private static String generateFromCidr(final Random random, final String cidr) {
+    private static int[] parseCidr(final String cidr) {
         final String[] cidrValue = cidr.split("/");
         final String[] buf = cidrValue[0].split("\\.");
         final byte[] ip = {
@@ -87,17 +129,11 @@ public class Ip4Generator extends AbstractGenerator<String> implements Ip4Spec {
                 (byte) (value & 0xff)
         };
 
-        final byte[] from = new byte[4];
-        final byte[] to = new byte[4];
-        for (int i = 0; i < to.length; i++) {
-            from[i] = (byte) (ip[i] & subnet[i]);
-            to[i] = (byte) (ip[i] | ~subnet[i]);
+        final int[] range = new int[8];
+        for (int i = 0; i < 4; i++) {
+            range[i] = Byte.toUnsignedInt((byte) (ip[i] & subnet[i]));
+            range[i + 4] = Byte.toUnsignedInt((byte) (ip[i] | ~subnet[i]));
         }
-
-        return String.format("%d.%d.%d.%d",
-                random.intRange(Byte.toUnsignedInt(from[0]), Byte.toUnsignedInt(to[0])),
-                random.intRange(Byte.toUnsignedInt(from[1]), Byte.toUnsignedInt(to[1])),
-                random.intRange(Byte.toUnsignedInt(from[2]), Byte.toUnsignedInt(to[2])),
-                random.intRange(Byte.toUnsignedInt(from[3]), Byte.toUnsignedInt(to[3])));
+        return range;
     }
 }
@@ -54,6 +54,17 @@ public abstract class AbstractRandomNumberGeneratorSpec<T extends @Nullable Numb
         return max;
     }
 
+    /**
+     * Returns {@code true} if every value is drawn from the
+     * {@code [min, max]} range, that is, the generator is not
+     * nullable and no {@code range()} alternatives were specified.
+     *
+     * @return {@code true} if values are drawn from a single fixed range
+     */
+    public final boolean isFixedRange() {
+        return !isNullable() && rangeStack.isEmpty();
+    }
+
     @Override
     public NumberGeneratorSpec<T> min(final @NonNull T min) {
         this.min = ApiValidator.notNull(min, "'min' must not be null");
@@ -96,7 +107,29 @@ public abstract class AbstractRandomNumberGeneratorSpec<T extends @Nullable Numb
         return tryGenerateNonNull(random);
     }
 
-    private void setRange(final Random random) {
+    /**
+     * Returns the range all values are drawn from, that is, the only
+     * {@code range()} specified, or {@code [min, max]} if none.
+     *
+     * @return the range, or {@code null} if the generator is nullable
+     * or multiple {@code range()} alternatives were specified
+     */
+    @Nullable
+    public final Range<@NonNull T> getSingleRange() {
+        if (isNullable() || rangeStack.size() > 1) {
+            return null;
+        }
+        return rangeStack.isEmpty() ? Range.of(min, max) : rangeStack.get(0);
+    }
+
+    /**
+     * Selects one of the ranges specified via {@code range()}, if any.
+     * Subclasses that generate primitive values without calling
+     * {@link #generate(Random)} must call this method before each value.
+     *
+     * @param random for selecting a range
+     */
+    protected final void setRange(final Random random) {
         // if range() and min()/max() are used at the same time, range() takes precedence
         // therefore, it's ok to overwrite the min/max fields
         if (!rangeStack.isEmpty()) {
@@ -20,11 +20,14 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.BooleanSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.unique.BooleanDomain;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
 import org.instancio.settings.Keys;
 import org.jspecify.annotations.Nullable;
 
 public class BooleanGenerator extends AbstractGenerator<Boolean>
-        implements BooleanSpec {
+        implements BooleanSpec, FiniteDomainGenerator {
 
     private double probability = 0.5;
 
@@ -58,4 +61,10 @@ public class BooleanGenerator extends AbstractGenerator<Boolean>
     protected Boolean tryGenerateNonNull(final Random random) {
         return random.diceRoll(isNullable()) ? null : random.trueOrFalse(probability);
     }
+
+    @Nullable
+    @Override
+    public FiniteDomain getFiniteDomain() {
+        return isNullable() ? null : new BooleanDomain(probability);
+    }
 }
@@ -18,10 +18,15 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.ByteSpec;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
+import org.instancio.internal.generator.unique.IntegralRangeDomain;
+import org.instancio.internal.util.Range;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<Byte>
-        implements ByteSpec {
+        implements ByteSpec, FiniteDomainGenerator {
 
     public ByteGenerator(final GeneratorContext context) {
         super(context,
@@ -69,4 +74,11 @@ public class ByteGenerator extends AbstractRandomComparableNumberGeneratorSpec<B
     protected Byte tryGenerateNonNull(final Random random) {
         return random.byteRange(getMin(), getMax());
     }
+
+    @Nullable
+    @Override
+    public FiniteDomain getFiniteDomain() {
+        final Range<Byte> range = getSingleRange();
+        return range == null ? null : IntegralRangeDomain.of(Byte.class, range.min(), range.max());
+    }
 }
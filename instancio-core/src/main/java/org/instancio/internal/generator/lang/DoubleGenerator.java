@@ -26,6 +26,7 @@ import org.instancio.settings.Keys;
 import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
+import java.util.stream.DoubleStream;
 
 public class DoubleGenerator extends AbstractGenerator<Double>
         implements DoubleSpec, InternalFractionalNumberGeneratorSpec<Double> {
@@ -119,4 +120,20 @@ public class DoubleGenerator extends AbstractGenerator<Double>
         final BigDecimal result = delegate.generate(random);
         return result == null ? null : result.doubleValue();
     }
+
+    @Override
+    public DoubleStream doubleStream() {
+        final Random random = getContext().random();
+        return DoubleStream.generate(() -> delegate.generateDouble(random));
+    }
+
+    @Override
+    public double[] doubleArray(final int size) {
+        final Random random = getContext().random();
+        final double[] array = new double[ApiValidator.validateSize(size)];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = delegate.generateDouble(random);
+        }
+        return array;
+    }
 }
@@ -23,24 +23,57 @@ import org.instancio.generator.specs.EnumSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.generator.unique.EnumDomain;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
+import org.instancio.internal.random.AliasTable;
 import org.jspecify.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.EnumSet;
-import java.util.Set;
+import java.util.List;
 
 public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E>
-        implements EnumSpec<E> {
+        implements EnumSpec<E>, FiniteDomainGenerator {
+
+    /**
+     * Caches enum constants, since {@link Class#getEnumConstants()}
+     * returns a new copy of the array on each invocation.
+     * The cached arrays must not be modified.
+     */
+    private static final ClassValue<Object[]> ENUM_CONSTANTS = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(final Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
 
     private final Class<E> enumClass;
-    private final Set<E> values;
-    private Set<E> valuesWithExclusions;
 
+    /**
+     * Values to choose from, in ordinal order, with exclusions
+     * (if any) removed. If all values are excluded, then
+     * exclusions are ignored.
+     */
+    private E[] values;
+
+    /**
+     * Weights indexed by ordinal, or {@code null} if no weights were specified.
+     */
+    private double @Nullable [] weights;
+
+    /**
+     * Alias table over {@link #values}, built lazily from
+     * {@link #weights} since weights and exclusions can be
+     * specified in any order.
+     */
+    private @Nullable AliasTable aliasTable;
+
+    @SuppressWarnings("unchecked")
     public EnumGenerator(final GeneratorContext context, final Class<E> enumClass) {
         super(context);
         this.enumClass = ApiValidator.notNull(enumClass, "enum class must not be null");
-        this.values = EnumSet.allOf(enumClass);
-        this.valuesWithExclusions = EnumSet.noneOf(enumClass);
+        this.values = (E[]) ENUM_CONSTANTS.get(enumClass);
     }
 
     @Override
@@ -50,13 +83,37 @@ public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E>
 
     @Override
     @SafeVarargs
+    @SuppressWarnings("unchecked")
     public final EnumGenerator<E> excluding(final E... values) {
         ApiValidator.notNull(values, "excluded values must not be null: excluding()");
 
         // Allow passing empty array, meaning 'no exclusions'
         if (values.length > 0) {
-            valuesWithExclusions = EnumSet.complementOf(EnumSet.copyOf(Arrays.asList(values)));
+            final List<E> excluded = Arrays.asList(values);
+            final E[] allValues = (E[]) ENUM_CONSTANTS.get(enumClass);
+            final E[] remaining = Arrays.copyOf(allValues, allValues.length);
+            int size = 0;
+            for (E value : allValues) {
+                if (!excluded.contains(value)) {
+                    remaining[size++] = value;
+                }
+            }
+            this.values = size == 0 ? allValues : Arrays.copyOf(remaining, size);
+            this.aliasTable = null;
+        }
+        return this;
+    }
+
+    @Override
+    public EnumGenerator<E> weight(final E value, final double weight) {
+        ApiValidator.notNull(value, "enum value must not be null: weight()");
+        ApiValidator.validateWeight(weight);
+
+        if (weights == null) {
+            weights = new double[ENUM_CONSTANTS.get(enumClass).length];
         }
+        weights[value.ordinal()] = weight;
+        aliasTable = null;
         return this;
     }
 
@@ -69,12 +126,47 @@ public class EnumGenerator<E extends Enum<E>> extends AbstractGenerator<E>
     @Nullable
     @Override
     protected E tryGenerateNonNull(final Random random) {
-        if (values.isEmpty()) {
+        if (values.length == 0) {
             return null;
         }
-        return valuesWithExclusions.isEmpty()
-                ? random.oneOf(values)
-                : random.oneOf(valuesWithExclusions);
+        if (weights != null) {
+            return values[getAliasTable(weights).nextIndex(random)];
+        }
+        return random.oneOf(values);
+    }
+
+    private AliasTable getAliasTable(final double[] weights) {
+        if (aliasTable == null) {
+            final double[] valueWeights = new double[values.length];
+            boolean hasPositiveWeight = false;
+            for (int i = 0; i < values.length; i++) {
+                valueWeights[i] = weights[values[i].ordinal()];
+                hasPositiveWeight |= valueWeights[i] > 0;
+            }
+            ApiValidator.isTrue(hasPositiveWeight,
+                    "at least one of the enum values must have a weight greater than zero: weight()");
+
+            aliasTable = new AliasTable(valueWeights);
+        }
+        return aliasTable;
+    }
+
+    @Nullable
+    @Override
+    public FiniteDomain getFiniteDomain() {
+        if (values.length == 0 || isNullable()) {
+            return null;
+        }
+        if (weights != null) {
+            final List<E> weighted = new ArrayList<>(values.length);
+            for (E value : values) {
+                if (weights[value.ordinal()] > 0) {
+                    weighted.add(value);
+                }
+            }
+            return new EnumDomain(weighted);
+        }
+        return new EnumDomain(Arrays.asList(values));
     }
 
     @Override
@@ -18,10 +18,18 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.IntegerSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
+import org.instancio.internal.generator.unique.IntegralRangeDomain;
+import org.instancio.internal.util.Range;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
+
+import java.util.stream.IntStream;
 
 public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpec<Integer>
-        implements IntegerSpec {
+        implements IntegerSpec, FiniteDomainGenerator {
 
     public IntegerGenerator(final GeneratorContext context) {
         super(context,
@@ -70,4 +78,31 @@ public class IntegerGenerator extends AbstractRandomComparableNumberGeneratorSpe
         return random.intRange(getMin(), getMax());
     }
 
+    @Override
+    public IntStream intStream() {
+        final Random random = getContext().random();
+        return IntStream.generate(() -> nextInt(random));
+    }
+
+    @Override
+    public int[] intArray(final int size) {
+        final Random random = getContext().random();
+        final int[] array = new int[ApiValidator.validateSize(size)];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = nextInt(random);
+        }
+        return array;
+    }
+
+    private int nextInt(final Random random) {
+        setRange(random);
+        return random.intRange(getMin(), getMax());
+    }
+
+    @Nullable
+    @Override
+    public FiniteDomain getFiniteDomain() {
+        final Range<Integer> range = getSingleRange();
+        return range == null ? null : IntegralRangeDomain.of(Integer.class, range.min(), range.max());
+    }
 }
@@ -18,10 +18,18 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.LongSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
+import org.instancio.internal.generator.unique.IntegralRangeDomain;
+import org.instancio.internal.util.Range;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
+
+import java.util.stream.LongStream;
 
 public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<Long>
-        implements LongSpec {
+        implements LongSpec, FiniteDomainGenerator {
 
     public LongGenerator(final GeneratorContext context) {
         super(context,
@@ -69,4 +77,32 @@ public class LongGenerator extends AbstractRandomComparableNumberGeneratorSpec<L
     protected Long tryGenerateNonNull(final Random random) {
         return random.longRange(getMin(), getMax());
     }
+
+    @Override
+    public LongStream longStream() {
+        final Random random = getContext().random();
+        return LongStream.generate(() -> nextLong(random));
+    }
+
+    @Override
+    public long[] longArray(final int size) {
+        final Random random = getContext().random();
+        final long[] array = new long[ApiValidator.validateSize(size)];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = nextLong(random);
+        }
+        return array;
+    }
+
+    private long nextLong(final Random random) {
+        setRange(random);
+        return random.longRange(getMin(), getMax());
+    }
+
+    @Nullable
+    @Override
+    public FiniteDomain getFiniteDomain() {
+        final Range<Long> range = getSingleRange();
+        return range == null ? null : IntegralRangeDomain.of(Long.class, range.min(), range.max());
+    }
 }
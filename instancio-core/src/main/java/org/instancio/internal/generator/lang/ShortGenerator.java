@@ -18,10 +18,15 @@ package org.instancio.internal.generator.lang;
 import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.ShortSpec;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
+import org.instancio.internal.generator.unique.IntegralRangeDomain;
+import org.instancio.internal.util.Range;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<Short>
-        implements ShortSpec {
+        implements ShortSpec, FiniteDomainGenerator {
 
     public ShortGenerator(final GeneratorContext context) {
         super(context,
@@ -69,4 +74,11 @@ public class ShortGenerator extends AbstractRandomComparableNumberGeneratorSpec<
     protected Short tryGenerateNonNull(final Random random) {
         return random.shortRange(getMin(), getMax());
     }
+
+    @Nullable
+    @Override
+    public FiniteDomain getFiniteDomain() {
+        final Range<Short> range = getSingleRange();
+        return range == null ? null : IntegralRangeDomain.of(Short.class, range.min(), range.max());
+    }
 }
@@ -22,6 +22,9 @@ import org.instancio.generator.specs.StringSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.specs.InternalLengthGeneratorSpec;
+import org.instancio.internal.generator.unique.FiniteDomain;
+import org.instancio.internal.generator.unique.FiniteDomainGenerator;
+import org.instancio.internal.generator.unique.StringDomain;
 import org.instancio.internal.util.Constants;
 import org.instancio.internal.util.NumberUtils;
 import org.instancio.internal.util.UnicodeBlocks;
@@ -29,6 +32,7 @@ import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
 import org.jspecify.annotations.Nullable;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -36,7 +40,9 @@ import java.util.Locale;
 
 @SuppressWarnings("PMD.GodClass")
 public class StringGenerator extends AbstractGenerator<String>
-        implements StringSpec, InternalLengthGeneratorSpec<String> {
+        implements StringSpec, InternalLengthGeneratorSpec<String>, FiniteDomainGenerator {
+
+    private static final char LATIN1_MAX = 0xFF;
 
     protected int minLength;
     protected int maxLength;
@@ -48,6 +54,12 @@ public class StringGenerator extends AbstractGenerator<String>
     private StringCase stringCase;
     private List<Character.UnicodeBlock> unicodeBlocks = Collections.emptyList();
 
+    /**
+     * Generation plan compiled from the current configuration on first use.
+     * Reset whenever a setting that affects the plan is modified.
+     */
+    private @Nullable Plan plan;
+
     /**
      * Delegate for internal use only. It is used to support Bean Validation.
      * If delegate is set, then it will be used for generating the value,
@@ -71,6 +83,10 @@ public class StringGenerator extends AbstractGenerator<String>
         return minLength;
     }
 
+    public final int getMaxLength() {
+        return maxLength;
+    }
+
     public void setDelegate(final Generator<?> delegate) {
         this.delegate = delegate;
     }
@@ -83,12 +99,14 @@ public class StringGenerator extends AbstractGenerator<String>
     @Override
     public StringGenerator prefix(final String prefix) {
         this.prefix = prefix;
+        plan = null;
         return this;
     }
 
     @Override
     public StringGenerator suffix(final String suffix) {
         this.suffix = suffix;
+        plan = null;
         return this;
     }
 
@@ -126,6 +144,7 @@ public class StringGenerator extends AbstractGenerator<String>
     public StringGenerator length(final int length) {
         this.minLength = ApiValidator.validateLength(length);
         this.maxLength = length;
+        updateDelegateLength();
         return this;
     }
 
@@ -136,9 +155,7 @@ public class StringGenerator extends AbstractGenerator<String>
         ApiValidator.isTrue(minLength <= maxLength,
                 "min length must be less than or equal to max (%s, %s)", minLength, maxLength);
 
-        if (delegate instanceof InternalLengthGeneratorSpec<?> lengthSpec) {
-            lengthSpec.length(minLength, maxLength);
-        }
+        updateDelegateLength();
         return this;
     }
 
@@ -146,6 +163,7 @@ public class StringGenerator extends AbstractGenerator<String>
     public StringGenerator minLength(final int length) {
         this.minLength = ApiValidator.validateLength(length);
         this.maxLength = NumberUtils.calculateNewMaxSize(maxLength, minLength);
+        updateDelegateLength();
         return this;
     }
 
@@ -153,48 +171,62 @@ public class StringGenerator extends AbstractGenerator<String>
     public StringGenerator maxLength(final int length) {
         this.maxLength = ApiValidator.validateLength(length);
         this.minLength = NumberUtils.calculateNewMinSize(minLength, maxLength);
+        updateDelegateLength();
         return this;
     }
 
+    private void updateDelegateLength() {
+        if (delegate instanceof InternalLengthGeneratorSpec<?> lengthSpec) {
+            lengthSpec.length(minLength, maxLength);
+        }
+    }
+
     @Override
     public StringGenerator lowerCase() {
         stringCase = StringCase.LOWER;
+        plan = null;
         return this;
     }
 
     @Override
     public StringGenerator upperCase() {
         stringCase = StringCase.UPPER;
+        plan = null;
         return this;
     }
 
     @Override
     public StringGenerator mixedCase() {
         stringCase = StringCase.MIXED;
+        plan = null;
         return this;
     }
 
     @Override
     public StringGenerator alphaNumeric() {
         stringType = StringType.ALPHANUMERIC;
+        plan = null;
         return this;
     }
 
     @Override
     public StringGenerator digits() {
         stringType = StringType.DIGITS;
+        plan = null;
         return this;
     }
 
     @Override
     public StringGenerator hex() {
         stringType = StringType.HEX;
+        plan = null;
         return this;
     }
 
     @Override
     public StringGenerator numericSequence() {
         stringType = StringType.NUMERIC_SEQUENCE;
+        plan = null;
         return this;
     }
 
@@ -202,6 +234,7 @@ public class StringGenerator extends AbstractGenerator<String>
     public StringGenerator unicode(Character.UnicodeBlock... blocks) {
         stringType = StringType.UNICODE;
         unicodeBlocks = Arrays.asList(blocks);
+        plan = null;
         return this;
     }
 
@@ -217,42 +250,46 @@ public class StringGenerator extends AbstractGenerator<String>
             return "";
         }
 
-        String result = generateString(random);
+        final Plan p = getPlan();
 
-        if (prefix != null) {
-            result = prefix + result;
-        }
-        if (suffix != null) {
-            result = result + suffix;
-        }
-        return result;
-    }
-
-    private String generateString(final Random random) {
         if (stringType == StringType.NUMERIC_SEQUENCE) {
-            return String.valueOf(++sequence);
+            return p.withAffixes(String.valueOf(++sequence));
         }
+
         final int length = random.intRange(minLength, maxLength);
 
         return stringType == StringType.UNICODE
-                ? generateUnicodeString(random, length)
-                : generateAsciiString(random, length);
+                ? generateUnicodeString(random, length, p)
+                : p.generate(random, length);
     }
 
-    private String generateAsciiString(final Random random, final int length) {
-        final char[] fromChars = getStringCharacters();
-        final char[] s = new char[length];
-
-        for (int i = 0; i < length; i++) {
-            s[i] = fromChars[random.intRange(0, fromChars.length - 1)];
+    @Nullable
+    @Override
+    public FiniteDomain getFiniteDomain() {
+        if (delegate != null
+                || isNullable()
+                || allowEmpty
+                || minLength != maxLength
+                || stringType == StringType.NUMERIC_SEQUENCE
+                || stringType == StringType.UNICODE) {
+            return null;
         }
+        return StringDomain.of(new String(getStringCharacters()), minLength, prefix, suffix);
+    }
 
-        return new String(s);
+    private Plan getPlan() {
+        Plan p = plan;
+        if (p == null) {
+            p = new Plan(getStringCharacters(), prefix, suffix);
+            plan = p;
+        }
+        return p;
     }
 
     @SuppressWarnings("PMD.AvoidReassigningLoopVariables")
-    private String generateUnicodeString(final Random random, final int length) {
-        final StringBuilder sb = new StringBuilder(length);
+    private String generateUnicodeString(final Random random, final int length, final Plan p) {
+        final StringBuilder sb = new StringBuilder(p.affixLength() + length);
+        p.appendPrefix(sb);
 
         for (int i = 0; i < length; ) {
             final int codePoint = getCodePoint(random);
@@ -266,6 +303,7 @@ public class StringGenerator extends AbstractGenerator<String>
             sb.appendCodePoint(codePoint);
             i++; // NOSONAR
         }
+        p.appendSuffix(sb);
         return sb.toString();
     }
 
@@ -279,6 +317,9 @@ public class StringGenerator extends AbstractGenerator<String>
     }
 
     private char[] getStringCharacters() {
+        if (stringType == StringType.NUMERIC_SEQUENCE || stringType == StringType.UNICODE) {
+            return new char[0];
+        }
         if (stringCase == StringCase.UPPER) {
             return stringType.upperCaseChars;
         }
@@ -291,6 +332,95 @@ public class StringGenerator extends AbstractGenerator<String>
         throw new IllegalStateException("Unknown StringType: " + stringType); // unreachable
     }
 
+    /**
+     * A compiled generation plan. Characters and affixes are pre-encoded
+     * so that an ASCII string, including its prefix and suffix, is written
+     * into a single pre-sized array, which is then used to create
+     * a compact (LATIN1) string.
+     */
+    private static final class Plan {
+        private final byte[] alphabet;
+        private final String prefix;
+        private final String suffix;
+        private final byte @Nullable [] prefixBytes;
+        private final byte @Nullable [] suffixBytes;
+
+        Plan(final char[] chars, @Nullable final String prefix, @Nullable final String suffix) {
+            this.alphabet = new byte[chars.length];
+            for (int i = 0; i < chars.length; i++) {
+                alphabet[i] = (byte) chars[i];
+            }
+            this.prefix = prefix == null ? "" : prefix;
+            this.suffix = suffix == null ? "" : suffix;
+            this.prefixBytes = toLatin1(this.prefix);
+            this.suffixBytes = toLatin1(this.suffix);
+        }
+
+        @SuppressWarnings("PMD.ReturnEmptyCollectionRatherThanNull")
+        private static byte @Nullable [] toLatin1(final String s) {
+            final byte[] bytes = new byte[s.length()];
+            for (int i = 0; i < bytes.length; i++) {
+                final char c = s.charAt(i);
+                if (c > LATIN1_MAX) {
+                    return null;
+                }
+                bytes[i] = (byte) c;
+            }
+            return bytes;
+        }
+
+        int affixLength() {
+            return prefix.length() + suffix.length();
+        }
+
+        void appendPrefix(final StringBuilder sb) {
+            sb.append(prefix);
+        }
+
+        void appendSuffix(final StringBuilder sb) {
+            sb.append(suffix);
+        }
+
+        String withAffixes(final String value) {
+            return affixLength() == 0 ? value : prefix + value + suffix;
+        }
+
+        String generate(final Random random, final int length) {
+            final byte[] pb = prefixBytes;
+            final byte[] sb = suffixBytes;
+            if (pb == null || sb == null) {
+                return generateUtf16(random, length);
+            }
+
+            final byte[] buf = new byte[pb.length + length + sb.length];
+            System.arraycopy(pb, 0, buf, 0, pb.length);
+
+            final int end = pb.length + length;
+            final int bound = alphabet.length - 1;
+            for (int i = pb.length; i < end; i++) {
+                buf[i] = alphabet[random.intRange(0, bound)];
+            }
+
+            System.arraycopy(sb, 0, buf, end, sb.length);
+            return new String(buf, StandardCharsets.ISO_8859_1);
+        }
+
+        // fallback for prefixes or suffixes containing non-LATIN1 characters
+        private String generateUtf16(final Random random, final int length) {
+            final char[] buf = new char[prefix.length() + length + suffix.length()];
+            prefix.getChars(0, prefix.length(), buf, 0);
+
+            final int end = prefix.length() + length;
+            final int bound = alphabet.length - 1;
+            for (int i = prefix.length(); i < end; i++) {
+                buf[i] = (char) alphabet[random.intRange(0, bound)];
+            }
+
+            suffix.getChars(0, suffix.length(), buf, end);
+            return new String(buf);
+        }
+    }
+
     private enum StringCase {
         LOWER, UPPER, MIXED
     }
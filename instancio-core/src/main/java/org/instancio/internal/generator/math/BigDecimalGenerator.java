@@ -22,9 +22,10 @@ import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.lang.AbstractRandomComparableNumberGeneratorSpec;
 import org.instancio.internal.generator.specs.InternalFractionalNumberGeneratorSpec;
 import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
 
 import java.math.BigDecimal;
-import java.math.MathContext;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 
 public class BigDecimalGenerator extends AbstractRandomComparableNumberGeneratorSpec<BigDecimal>
@@ -33,9 +34,43 @@ public class BigDecimalGenerator extends AbstractRandomComparableNumberGenerator
     private static final BigDecimal DEFAULT_MIN = new BigDecimal("0.01");
     private static final BigDecimal DEFAULT_MAX = new BigDecimal("10000.00");
 
+    // powers of ten that are exactly representable as a double
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7,
+            1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    // longs with a magnitude of at most 2^53 are exactly representable as a double
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    // the number of decimal digits that always fit into a long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private static final long[] LONG_POWERS_OF_TEN = new long[MAX_LONG_DIGITS + 1];
+
+    static {
+        LONG_POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < LONG_POWERS_OF_TEN.length; i++) {
+            LONG_POWERS_OF_TEN[i] = LONG_POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
     private int scale;
     private int precision;
 
+    /**
+     * The range {@code [min, max]} rounded to the configured scale, expressed
+     * as unscaled values. Values are generated by picking an unscaled value
+     * from this range, which avoids {@code BigDecimal} arithmetic.
+     * Recomputed whenever min, max, or scale change.
+     */
+    private @Nullable BigDecimal unscaledRangeMin;
+    private @Nullable BigDecimal unscaledRangeMax;
+    private int unscaledRangeScale;
+    private long unscaledMin;
+    private long unscaledMax;
+    private boolean hasUnscaledRange;
+
     public BigDecimalGenerator(final GeneratorContext context) {
         this(context, DEFAULT_MIN, DEFAULT_MAX, false);
     }
@@ -107,130 +142,142 @@ public class BigDecimalGenerator extends AbstractRandomComparableNumberGenerator
         precision = 0;
     }
 
+    /**
+     * Computes the range of unscaled values, if the rounded {@code [min, max]}
+     * range can be represented using {@code long} unscaled values.
+     *
+     * @return {@code true} if the unscaled range is available
+     */
+    private boolean updateUnscaledRange() {
+        final BigDecimal min = getMin();
+        final BigDecimal max = getMax();
+        if (min == unscaledRangeMin && max == unscaledRangeMax && scale == unscaledRangeScale) {
+            return hasUnscaledRange;
+        }
+
+        final BigInteger lo = setScaleAndRoundHalfUp(min, scale).unscaledValue();
+        final BigInteger hi = setScaleAndRoundHalfUp(max, scale).unscaledValue();
+
+        hasUnscaledRange = lo.bitLength() < Long.SIZE && hi.bitLength() < Long.SIZE;
+        if (hasUnscaledRange) {
+            unscaledMin = lo.longValue();
+            unscaledMax = hi.longValue();
+        }
+        unscaledRangeMin = min;
+        unscaledRangeMax = max;
+        unscaledRangeScale = scale;
+        return hasUnscaledRange;
+    }
+
     @Override
     public BigDecimal tryGenerateNonNull(final Random random) {
         // If precision is not set, generate a value in the [min, max] range
         if (precision == 0) {
-            final BigDecimal delta = getMax().subtract(getMin());
-            final BigDecimal rndDelta = delta.multiply(BigDecimal.valueOf(random.doubleRange(0, 1)));
-            final BigDecimal generated = setScaleAndRoundHalfUp(getMin().add(rndDelta), scale);
-
-            // given the differences between configured scale and those inherent to min and max
-            // then the generated number might be less than minimum or greater than max. If that
-            // is the case we return either min or max with the configured scale applied.
-            if (generated.compareTo(getMin()) < 0) {
-                return setScaleAndRoundHalfUp(getMin(), scale);
-            }
-
-            if (generated.compareTo(getMax()) > 0) {
-                return setScaleAndRoundHalfUp(getMax(), scale);
-            }
-
-            return generated;
+            return updateUnscaledRange()
+                    ? BigDecimal.valueOf(random.longRange(unscaledMin, unscaledMax), scale)
+                    : generateInLargeRange(random);
         }
 
-        // Generate value based on specified precision
-        final char[] result;
-
-        if (scale == 0) {
-            result = generateInteger(random);
-            // result: '[1-9][0-9]{precision - 1}'
-        } else if (scale < 0) {
-            result = generateWithNegativeScale(random);
-            // result: '[1-9][0-9]{precision - 1}0{abs(scale)}'
-        } else if (precision == scale) {
-            result = generateWithEqualPrecisionAndScale(random);
-            // result: '0.[1-9][0-9]{scale}'
-        } else if (precision > scale) {
-            result = generateFractionalWithPrecisionGreaterThanScale(random);
-            // result: '[1-9]{precision - scale}.[0-9]{scale}'
-        } else {
-            result = generateWithPrecisionLessThanScale(random);
-            // result: `0.[0]{scale - precision}[1-9]{precision}`
+        // Generate value based on specified precision. The unscaled value
+        // has exactly 'precision' digits, the first of which is non-zero:
+        //
+        // - if scale <= 0:         [1-9][0-9]{precision - 1} x 10^abs(scale)
+        // - if precision >= scale: [1-9][0-9]{precision - 1} x 10^-scale
+        // - otherwise:             [1-9]{precision} x 10^-scale
+        //
+        // the latter produces values such as '0.00123' (i.e. no zeros
+        // after the leading zeros to ensure the precision is honoured).
+        final boolean nonZeroDigits = precision < scale;
+
+        if (precision <= MAX_LONG_DIGITS) {
+            return BigDecimal.valueOf(generateDigits(random, precision, true, nonZeroDigits), scale);
         }
 
-        return new BigDecimal(
-                new String(result),
-                new MathContext(precision, RoundingMode.UNNECESSARY));
-    }
-
-    private static BigDecimal setScaleAndRoundHalfUp(BigDecimal bd, int newScale) {
-        return bd.setScale(newScale, RoundingMode.HALF_UP);
+        BigInteger unscaled = BigInteger.ZERO;
+        for (int remaining = precision; remaining > 0; remaining -= MAX_LONG_DIGITS) {
+            final int digits = Math.min(remaining, MAX_LONG_DIGITS);
+            final long chunk = generateDigits(random, digits, remaining == precision, nonZeroDigits);
+            unscaled = unscaled.multiply(BigInteger.valueOf(LONG_POWERS_OF_TEN[digits]))
+                    .add(BigInteger.valueOf(chunk));
+        }
+        return new BigDecimal(unscaled, scale);
     }
 
-    private char[] generateFractionalWithPrecisionGreaterThanScale(final Random random) {
-        final char[] digits = new char[precision + 1];
-        int i = 0;
-        digits[i++] = oneToNine(random);
-
-        while (i < precision - scale) {
-            digits[i++] = zeroToNine(random);
+    /**
+     * Generates a value in the [min, max] range using {@code BigDecimal}
+     * arithmetic. Used only if the unscaled values do not fit into a long.
+     */
+    private BigDecimal generateInLargeRange(final Random random) {
+        final BigDecimal delta = getMax().subtract(getMin());
+        final BigDecimal rndDelta = delta.multiply(BigDecimal.valueOf(random.doubleRange(0, 1)));
+        final BigDecimal generated = setScaleAndRoundHalfUp(getMin().add(rndDelta), scale);
+
+        // given the differences between configured scale and those inherent to min and max
+        // then the generated number might be less than minimum or greater than max. If that
+        // is the case we return either min or max with the configured scale applied.
+        if (generated.compareTo(getMin()) < 0) {
+            return setScaleAndRoundHalfUp(getMin(), scale);
         }
 
-        digits[i++] = '.';
-
-        while (i < digits.length) {
-            digits[i++] = zeroToNine(random);
+        if (generated.compareTo(getMax()) > 0) {
+            return setScaleAndRoundHalfUp(getMax(), scale);
         }
-        return digits;
-    }
 
-    private char[] generateWithEqualPrecisionAndScale(final Random random) {
-        final char[] digits = new char[1 + scale];
-        int i = 0;
-        digits[i++] = '.';
-        digits[i++] = oneToNine(random);
-
-        while (i < digits.length) {
-            digits[i++] = zeroToNine(random);
-        }
-        return digits;
+        return generated;
     }
 
-    private char[] generateWithNegativeScale(final Random random) {
-        final char[] digits = new char[precision + Math.abs(scale)];
-        int i = 0;
-        digits[i++] = oneToNine(random);
-
-        while (i < precision) {
-            digits[i++] = zeroToNine(random);
-        }
-        while (i < digits.length) {
-            digits[i++] = '0';
+    /**
+     * Generates a number with the given number of decimal digits.
+     *
+     * @param random            for generating the number
+     * @param digits            the number of digits, at most {@link #MAX_LONG_DIGITS}
+     * @param nonZeroFirstDigit whether the first digit must be non-zero
+     * @param nonZeroDigits     whether all digits must be non-zero
+     * @return the generated number
+     */
+    private static long generateDigits(final Random random,
+                                       final int digits,
+                                       final boolean nonZeroFirstDigit,
+                                       final boolean nonZeroDigits) {
+        if (!nonZeroDigits) {
+            // a single draw is equivalent to generating each digit separately
+            final long lo = nonZeroFirstDigit ? LONG_POWERS_OF_TEN[digits - 1] : 0;
+            return random.longRange(lo, LONG_POWERS_OF_TEN[digits] - 1);
         }
-        return digits;
-    }
-
-    private char[] generateInteger(final Random random) {
-        final char[] digits = new char[precision];
-        int i = 0;
-        digits[i++] = oneToNine(random);
-
-        while (i < digits.length) {
-            digits[i++] = zeroToNine(random);
+        long result = 0;
+        for (int i = 0; i < digits; i++) {
+            result = result * 10 + random.intRange(1, 9);
         }
-        return digits;
+        return result;
     }
 
-    private char[] generateWithPrecisionLessThanScale(final Random random) {
-        final char[] digits = new char[scale + 1];
-        int i = 0;
-        digits[i++] = '.';
-
-        while (i <= scale - precision) {
-            digits[i++] = '0';
-        }
-        while (i < digits.length) {
-            digits[i++] = oneToNine(random);
+    /**
+     * Generates a {@code double} using the same range and scale semantics
+     * as {@link #tryGenerateNonNull(Random)}, but without creating
+     * {@code BigDecimal} instances. Falls back to generating a
+     * {@code BigDecimal} if precision is set or the rounded range
+     * cannot be represented exactly using {@code long} unscaled values
+     * that are exactly representable as a {@code double}.
+     *
+     * <p>The {@code nullable} setting is ignored.
+     *
+     * @param random for generating the value
+     * @return generated value
+     */
+    public double generateDouble(final Random random) {
+        setRange(random);
+
+        if (precision == 0 && scale >= 0 && scale < POWERS_OF_TEN.length && updateUnscaledRange()
+                && unscaledMin >= -MAX_EXACT_DOUBLE && unscaledMax <= MAX_EXACT_DOUBLE) {
+            // both operands are exact, therefore, the quotient is the double closest
+            // to the decimal value, same as BigDecimal.doubleValue()
+            return random.longRange(unscaledMin, unscaledMax) / POWERS_OF_TEN[scale];
         }
-        return digits;
-    }
 
-    private static char zeroToNine(final Random random) {
-        return random.characterRange('0', '9');
+        return tryGenerateNonNull(random).doubleValue();
     }
 
-    private static char oneToNine(final Random random) {
-        return random.characterRange('1', '9');
+    private static BigDecimal setScaleAndRoundHalfUp(BigDecimal bd, int newScale) {
+        return bd.setScale(newScale, RoundingMode.HALF_UP);
     }
 }
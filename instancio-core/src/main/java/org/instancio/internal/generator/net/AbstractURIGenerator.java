@@ -28,7 +28,7 @@ import java.util.List;
 import static java.util.Objects.requireNonNull;
 
 abstract class AbstractURIGenerator<T> extends AbstractGenerator<T> {
-    private static final int DEFAULT_PORT = -1;
+    static final int DEFAULT_PORT = -1;
     private static final int WITH_RANDOM_PORT = -2;
     private static final int PORT_MIN = 1;
     private static final int PORT_MAX = 65_535;
@@ -71,6 +71,38 @@ abstract class AbstractURIGenerator<T> extends AbstractGenerator<T> {
                 : requireNonNull(hostGenerator.generate(random), "generated hostName is null");
     }
 
+    /**
+     * Returns {@code true} if the host is generated by this class
+     * rather than a user-supplied generator.
+     */
+    final boolean hasDefaultHost() {
+        return hostGenerator == null;
+    }
+
+    /**
+     * Appends a host to the given builder, generated the
+     * same way as {@link #getHost(Random)} with a default host.
+     */
+    static void appendDefaultHost(final Random random, final StringBuilder sb) {
+        final int length = random.intRange(HOST_MIN_LENGTH, HOST_MAX_LENGTH);
+        for (int i = 0; i < length; i++) {
+            sb.append(random.lowerCaseCharacter());
+        }
+    }
+
+    /**
+     * Returns the capacity of a builder for a URI containing
+     * the given scheme, a default host, and a port.
+     */
+    static int authorityOnlyCapacity(final String scheme) {
+        // "://" + host + ":65535"
+        return scheme.length() + 3 + HOST_MAX_LENGTH + 6;
+    }
+
+    final boolean hasPath() {
+        return pathGenerator != null;
+    }
+
     @Nullable
     final String getPath(final Random random, @Nullable final String defaultValue) {
         return pathGenerator == null ? defaultValue : pathGenerator.generate(random);
@@ -100,6 +100,11 @@ public class URIGenerator extends AbstractURIGenerator<URI> implements URISpec {
     protected URI tryGenerateNonNull(final Random random) {
         final String scheme = getScheme(random);
         final int port = getPort(random);
+
+        if (isAuthorityOnly()) {
+            return generateAuthorityOnly(random, scheme, port);
+        }
+
         final String host = getHost(random);
         final String path = getPath(random, null);
         final String query = queryGenerator == null ? null : queryGenerator.generate(random);
@@ -121,4 +126,34 @@ public class URIGenerator extends AbstractURIGenerator<URI> implements URISpec {
             throw Fail.withUsageError("error generating a URI using parameters: " + params, ex);
         }
     }
+
+    private boolean isAuthorityOnly() {
+        return hasDefaultHost() && userInfo == null && !hasPath()
+                && queryGenerator == null && fragmentGenerator == null;
+    }
+
+    /**
+     * Generates a URI consisting of the scheme, host, and port only
+     * into a single pre-sized buffer. None of these components require
+     * quoting, therefore the result is the same as that of the
+     * multi-argument {@link URI} constructor.
+     */
+    private static URI generateAuthorityOnly(final Random random, final String scheme, final int port) {
+        final StringBuilder sb = new StringBuilder(authorityOnlyCapacity(scheme))
+                .append(scheme).append("://");
+
+        appendDefaultHost(random, sb);
+
+        if (port != DEFAULT_PORT) {
+            sb.append(':').append(port);
+        }
+
+        try {
+            return new URI(sb.toString());
+        } catch (URISyntaxException ex) {
+            throw Fail.withUsageError("error generating a URI using parameters: "
+                    + "\n  scheme: " + singleQuote(scheme)
+                    + "\n  port: " + port, ex);
+        }
+    }
 }
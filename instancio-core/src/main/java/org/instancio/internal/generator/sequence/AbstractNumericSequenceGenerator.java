@@ -22,6 +22,7 @@ import org.instancio.generator.specs.NumericSequenceSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.util.Sonar;
+import org.jspecify.annotations.Nullable;
 
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -33,6 +34,7 @@ public abstract class AbstractNumericSequenceGenerator<T extends Number & Compar
 
     private T seq;
     private Function<T, T> next = Function.identity();
+    private @Nullable StripedSequence<T> striped;
 
     AbstractNumericSequenceGenerator(final GeneratorContext context) {
         super(context);
@@ -42,12 +44,21 @@ public abstract class AbstractNumericSequenceGenerator<T extends Number & Compar
     @Override
     public AbstractNumericSequenceGenerator<T> start(final T start) {
         this.seq = ApiValidator.notNull(start, "sequence 'start' value must not be null");
+        resetStripedSequence();
         return this;
     }
 
     @Override
     public AbstractNumericSequenceGenerator<T> next(final UnaryOperator<T> next) {
         this.next = ApiValidator.notNull(next, "sequence 'next' function must not be null");
+        resetStripedSequence();
+        return this;
+    }
+
+    @Override
+    public AbstractNumericSequenceGenerator<T> concurrent(final int blockSize) {
+        ApiValidator.isTrue(blockSize > 0, "sequence block size must be greater than zero: %s", blockSize);
+        this.striped = new StripedSequence<>(seq, next, blockSize);
         return this;
     }
 
@@ -59,8 +70,17 @@ public abstract class AbstractNumericSequenceGenerator<T extends Number & Compar
 
     @Override
     protected T tryGenerateNonNull(final Random random) {
+        if (striped != null) {
+            return striped.nextValue();
+        }
         final T curr = seq;
         seq = next.apply(seq);
         return curr;
     }
+
+    private void resetStripedSequence() {
+        if (striped != null) {
+            striped = new StripedSequence<>(seq, next, striped.getBlockSize());
+        }
+    }
 }
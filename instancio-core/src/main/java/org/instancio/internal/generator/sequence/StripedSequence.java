@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.sequence;
+
+import java.util.function.Function;
+
+/**
+ * A sequence that can be shared across threads.
+ *
+ * <p>Threads reserve blocks of consecutive sequence values from a shared
+ * cursor and then hand out values from their own block without further
+ * synchronisation. As a result, values are unique across threads, but
+ * are not globally ordered, and values left over in a block are never
+ * returned (the sequence may therefore contain gaps).
+ *
+ * @param <T> the sequence value type
+ */
+final class StripedSequence<T> {
+
+    private final Function<T, T> next;
+    private final int blockSize;
+    private final ThreadLocal<Block> blocks;
+
+    // guarded by 'this'
+    private T cursor;
+
+    StripedSequence(final T start, final Function<T, T> next, final int blockSize) {
+        this.cursor = start;
+        this.next = next;
+        this.blockSize = blockSize;
+        this.blocks = ThreadLocal.withInitial(() -> new Block(blockSize));
+    }
+
+    int getBlockSize() {
+        return blockSize;
+    }
+
+    T nextValue() {
+        final Block block = blocks.get();
+        if (block.position == block.values.length) {
+            reserve(block.values);
+            block.position = 0;
+        }
+        return block.take();
+    }
+
+    private synchronized void reserve(final Object[] values) {
+        for (int i = 0; i < blockSize; i++) {
+            values[i] = cursor;
+            cursor = next.apply(cursor);
+        }
+    }
+
+    private final class Block {
+        private final Object[] values;
+        private int position;
+
+        Block(final int size) {
+            values = new Object[size];
+            position = size;
+        }
+
+        @SuppressWarnings("unchecked")
+        T take() {
+            final T value = (T) values[position];
+            values[position++] = null;
+            return value;
+        }
+    }
+}
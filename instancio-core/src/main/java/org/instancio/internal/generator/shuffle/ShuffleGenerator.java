@@ -17,24 +17,34 @@ package org.instancio.internal.generator.shuffle;
 
 import org.instancio.Random;
 import org.instancio.documentation.Initializer;
+import org.instancio.documentation.VisibleForTesting;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.ShuffleSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
-import org.instancio.internal.util.CollectionUtils;
+import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.Sonar;
 import org.jspecify.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 @SuppressWarnings(Sonar.NULL_MARKED_NULL_VALUE)
 public class ShuffleGenerator<T extends @Nullable Object> extends AbstractGenerator<Collection<T>>
         implements ShuffleSpec<T> {
 
-    private List<T> items;
+    /**
+     * Samples are drawn without copying the items if the sample size
+     * is at most the number of items divided by this value.
+     */
+    private static final int SPARSE_SAMPLE_RATIO = 4;
+
+    private static final int ALL_ITEMS = -1;
+
+    private @Nullable Object[] items;
+    private int size = ALL_ITEMS;
 
     public ShuffleGenerator(final GeneratorContext context) {
         super(context);
@@ -53,7 +63,7 @@ public class ShuffleGenerator<T extends @Nullable Object> extends AbstractGenera
     @SafeVarargs
     public final ShuffleGenerator<T> shuffle(@Nullable final T... array) {
         ApiValidator.notNull(array, "array must not be null");
-        items = CollectionUtils.asUnmodifiableList(array);
+        items = array.clone();
         return this;
     }
 
@@ -61,7 +71,14 @@ public class ShuffleGenerator<T extends @Nullable Object> extends AbstractGenera
     @Override
     public ShuffleGenerator<T> shuffle(final Collection<T> collection) {
         ApiValidator.notNull(collection, "collection must not be null");
-        items = Collections.unmodifiableList(new ArrayList<>(collection));
+        items = collection.toArray();
+        return this;
+    }
+
+    @Override
+    public ShuffleGenerator<T> size(final int size) {
+        ApiValidator.isTrue(size >= 0, "shuffle size must not be negative: %s", size);
+        this.size = size;
         return this;
     }
 
@@ -74,9 +91,123 @@ public class ShuffleGenerator<T extends @Nullable Object> extends AbstractGenera
     @Override
     @SuppressWarnings(Sonar.METHOD_OVERRIDES_SHOULD_NOT_CHANGE_CONTRACTS)
     protected Collection<T> tryGenerateNonNull(final Random random) {
-        final List<T> shuffledCopy = new ArrayList<>(items);
-        CollectionUtils.shuffle(shuffledCopy, random);
-        return shuffledCopy;
+        if (size == ALL_ITEMS) {
+            return shuffleAll(random);
+        }
+        if (size > items.length) {
+            throw Fail.withUsageError("shuffle size must not exceed the number of elements: %s, %s",
+                    size, items.length);
+        }
+        return size <= items.length / SPARSE_SAMPLE_RATIO
+                ? sampleSparse(random)
+                : sampleDense(random);
+    }
+
+    /**
+     * Shuffles all the items directly into the result list
+     * using the "inside-out" variant of the Fisher-Yates shuffle.
+     */
+    @SuppressWarnings("unchecked")
+    private List<T> shuffleAll(final Random random) {
+        final List<T> result = new ArrayList<>(items.length);
+        for (int i = 0; i < items.length; i++) {
+            final int r = random.intRange(0, i);
+            if (r == i) {
+                result.add((T) items[i]);
+            } else {
+                result.add(result.get(r));
+                result.set(r, (T) items[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Selects {@link #size} items by running the first {@code size}
+     * steps of a Fisher-Yates shuffle on a copy of the items.
+     */
+    @VisibleForTesting
+    @SuppressWarnings("unchecked")
+    List<T> sampleDense(final Random random) {
+        final List<T> result = new ArrayList<>(size);
+        final Object[] buffer = items.clone();
+        final int last = buffer.length - 1;
+        for (int i = 0; i < size; i++) {
+            final int r = random.intRange(i, last);
+            final Object selected = buffer[r];
+            buffer[r] = buffer[i];
+            result.add((T) selected);
+        }
+        return result;
+    }
+
+    /**
+     * Produces the same result as {@link #sampleDense(Random)}, but instead
+     * of copying all the items, only records the items that were swapped.
+     * This keeps the cost proportional to the sample size when selecting
+     * a few elements from a large number of items.
+     */
+    @VisibleForTesting
+    @SuppressWarnings("unchecked")
+    List<T> sampleSparse(final Random random) {
+        final List<T> result = new ArrayList<>(size);
+        final SwappedItems swapped = new SwappedItems(items, size);
+        final int last = items.length - 1;
+        for (int i = 0; i < size; i++) {
+            final int r = random.intRange(i, last);
+            final Object selected = swapped.get(r);
+            // position i is never read again, so only position r needs updating
+            swapped.put(r, swapped.get(i));
+            result.add((T) selected);
+        }
+        return result;
     }
 
+    /**
+     * A view of the items that overlays the items swapped so far
+     * on top of the original array, stored in an open addressing
+     * hash table keyed by position.
+     */
+    private static final class SwappedItems {
+        private static final int EMPTY = -1;
+
+        private final @Nullable Object[] items;
+        private final int[] positions;
+        private final @Nullable Object[] values;
+        private final int mask;
+
+        SwappedItems(final @Nullable Object[] items, final int maxSwaps) {
+            // at most half full, to keep probe sequences short
+            final int capacity = Integer.highestOneBit(Math.max(1, maxSwaps) * 2 - 1) << 1;
+            this.items = items;
+            this.positions = new int[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(positions, EMPTY);
+        }
+
+        @Nullable
+        Object get(final int position) {
+            for (int slot = slot(position); positions[slot] != EMPTY; slot = (slot + 1) & mask) {
+                if (positions[slot] == position) {
+                    return values[slot];
+                }
+            }
+            return items[position];
+        }
+
+        void put(final int position, @Nullable final Object value) {
+            int slot = slot(position);
+            while (positions[slot] != EMPTY && positions[slot] != position) {
+                slot = (slot + 1) & mask;
+            }
+            positions[slot] = position;
+            values[slot] = value;
+        }
+
+        private int slot(final int position) {
+            final int hash = position * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
 }
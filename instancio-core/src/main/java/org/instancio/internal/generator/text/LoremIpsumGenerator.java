@@ -26,15 +26,14 @@ import static org.instancio.internal.util.StringUtils.capitalise;
 public class LoremIpsumGenerator extends AbstractGenerator<String>
         implements LoremIpsumSpec {
 
-    private static final String[] WORD_BANK = {
+    private static final WordDictionary WORD_BANK = WordDictionary.of(
             "ad", "adipiscing", "aliqua", "aliquip", "amet", "anim", "aute", "cillum", "commodo",
             "consectetur", "consequat", "culpa", "cupidatat", "deserunt", "do", "dolor", "dolore",
             "duis", "ea", "eiusmod", "elit", "enim", "esse", "est", "et", "eu", "ex", "excepteur",
             "exercitation", "fugiat", "id", "in", "incididunt", "ipsum", "irure", "labore", "laboris",
             "laborum", "lorem", "magna", "minim", "mollit", "nisi", "non", "nostrud", "nulla",
             "occaecat", "officia", "pariatur", "proident", "qui", "quis", "reprehenderit", "sed",
-            "sint", "sit", "sunt", "tempor", "ullamco", "ut", "velit", "veniam", "voluptate",
-    };
+            "sint", "sit", "sunt", "tempor", "ullamco", "ut", "velit", "veniam", "voluptate");
 
     private static final int AVG_WORD_LENGTH = 9;
 
@@ -101,9 +100,9 @@ public class LoremIpsumGenerator extends AbstractGenerator<String>
     }
 
     private static void appendSentence(final Random random, final StringBuilder sb, final int words) {
-        sb.append(capitalise(random.oneOf(WORD_BANK)));
+        sb.append(capitalise(WORD_BANK.random(random)));
         for (int i = 1; i < words; i++) {
-            sb.append(' ').append(random.oneOf(WORD_BANK));
+            WORD_BANK.appendRandom(random, sb.append(' '));
         }
         sb.append('.');
     }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.Random;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.specs.RegexSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.generator.specs.InternalLengthGeneratorSpec;
+import org.instancio.internal.generator.text.regex.RegexAutomaton;
+import org.instancio.settings.Keys;
+
+public class RegexGenerator extends AbstractGenerator<String>
+        implements RegexSpec, InternalLengthGeneratorSpec<String> {
+
+    private final RegexAutomaton automaton;
+    private int minLength;
+    private int maxLength;
+
+    public RegexGenerator(final GeneratorContext context, final String regex) {
+        this(context, regex, 0);
+    }
+
+    /**
+     * Creates a generator for the given regex.
+     *
+     * @param context generator context
+     * @param regex   the regex generated values must match
+     * @param flags   {@link java.util.regex.Pattern} flags
+     * @throws org.instancio.exception.InstancioApiException if the regex
+     *                                                       is invalid or not supported
+     */
+    public RegexGenerator(final GeneratorContext context, final String regex, final int flags) {
+        super(context);
+        ApiValidator.notNull(regex, "regex must not be null");
+        this.automaton = RegexAutomaton.compile(regex, flags);
+        this.minLength = context.settings().get(Keys.STRING_MIN_LENGTH);
+        this.maxLength = context.settings().get(Keys.STRING_MAX_LENGTH);
+    }
+
+    @Override
+    public String apiMethod() {
+        return "regex()";
+    }
+
+    /**
+     * Sets the preferred length of generated values. Since the regex
+     * determines which lengths are possible, the range is treated as a hint:
+     * if the regex does not match any strings within the range,
+     * values of the closest possible length will be generated.
+     *
+     * @param min minimum length (inclusive)
+     * @param max maximum length (inclusive)
+     * @return this generator
+     */
+    @Override
+    public RegexGenerator length(final int min, final int max) {
+        this.minLength = ApiValidator.validateLength(min);
+        this.maxLength = ApiValidator.validateLength(max);
+        ApiValidator.isTrue(min <= max,
+                "min length must be less than or equal to max (%s, %s)", min, max);
+        return this;
+    }
+
+    @Override
+    public RegexGenerator nullable() {
+        super.nullable();
+        return this;
+    }
+
+    @Override
+    protected String tryGenerateNonNull(final Random random) {
+        return automaton.generate(random, minLength, maxLength);
+    }
+}
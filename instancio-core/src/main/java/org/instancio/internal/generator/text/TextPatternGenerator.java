@@ -21,6 +21,10 @@ import org.instancio.generator.specs.TextPatternSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.util.Fail;
+import org.jspecify.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 public class TextPatternGenerator extends AbstractGenerator<String>
         implements TextPatternSpec {
@@ -41,8 +45,11 @@ public class TextPatternGenerator extends AbstractGenerator<String>
     private static final char UCASE_HEX_CHAR = 'H';
     private static final char DIGIT = 'd';
     private static final char HASH = '#';
+    private static final char LITERAL = 0;
+
     private final String pattern;
     private boolean allowEmpty;
+    private @Nullable Program program;
 
     public TextPatternGenerator(GeneratorContext context, final String pattern) {
         super(context);
@@ -67,48 +74,14 @@ public class TextPatternGenerator extends AbstractGenerator<String>
     }
 
     @Override
-    @SuppressWarnings("PMD.CyclomaticComplexity")
     protected String tryGenerateNonNull(final Random random) {
         if (random.diceRoll(allowEmpty)) {
             return "";
         }
-
-        final StringBuilder res = new StringBuilder(pattern.length());
-        final char[] p = pattern.toCharArray();
-
-        int i = 0;
-        while (i < p.length) {
-            final char c = p[i++];
-
-            if (c == HASH) {
-                ApiValidator.isFalse(i == p.length,
-                        "invalid text pattern '%s'. Expected a character after the last '#'", pattern);
-
-                final char tag = p[i++];
-                if (tag == ALNUM_CHAR) {
-                    res.append(random.alphanumericCharacter());
-                } else if (tag == LCASE_CHAR) {
-                    res.append(random.lowerCaseCharacter());
-                } else if (tag == UCASE_CHAR) {
-                    res.append(random.upperCaseCharacter());
-                } else if (tag == LCASE_HEX_CHAR) {
-                    res.append(Character.toLowerCase(upperCaseHexChar(random)));
-                } else if (tag == UCASE_HEX_CHAR) {
-                    res.append(upperCaseHexChar(random));
-                } else if (tag == DIGIT) {
-                    res.append(random.digits(1));
-                } else if (tag == HASH) {
-                    res.append(HASH);
-                } else {
-                    throw Fail.withUsageError("text pattern '" + pattern
-                            + "' contains an invalid hashtag '#" + tag + "'" + ALLOWED_HASHTAGS_MESSAGE);
-                }
-            } else {
-                res.append(c);
-            }
+        if (program == null) {
+            program = Program.compile(pattern);
         }
-
-        return res.toString();
+        return program.generate(random);
     }
 
     private static char upperCaseHexChar(final Random random) {
@@ -116,4 +89,149 @@ public class TextPatternGenerator extends AbstractGenerator<String>
                 ? random.characterRange('0', '9')
                 : random.characterRange('A', 'F');
     }
+
+    /**
+     * A text pattern parsed into a sequence of operations, each of which
+     * either appends a literal run of characters, or appends a number
+     * of random characters of the same kind (for example, {@code #d#d#d}
+     * is a single operation that appends three random digits).
+     */
+    private static final class Program {
+        private final char[] ops;
+        private final int[] counts;
+        private final String[] literals;
+        private final int length;
+        private final boolean latin1;
+
+        private Program(final char[] ops, final int[] counts, final String[] literals) {
+            this.ops = ops;
+            this.counts = counts;
+            this.literals = literals;
+
+            int len = 0;
+            boolean isLatin1 = true;
+            for (int i = 0; i < ops.length; i++) {
+                len += counts[i];
+                if (ops[i] == LITERAL) {
+                    isLatin1 &= isLatin1(literals[i]);
+                }
+            }
+            this.length = len;
+            this.latin1 = isLatin1;
+        }
+
+        @SuppressWarnings("PMD.CyclomaticComplexity")
+        static Program compile(final String pattern) {
+            final int n = pattern.length();
+            final char[] ops = new char[n];
+            final int[] counts = new int[n];
+            final String[] literals = new String[n];
+            final StringBuilder literal = new StringBuilder();
+            int size = 0;
+
+            int i = 0;
+            while (i < n) {
+                final char c = pattern.charAt(i++);
+                char op = LITERAL;
+
+                if (c == HASH) {
+                    ApiValidator.isFalse(i == n,
+                            "invalid text pattern '%s'. Expected a character after the last '#'", pattern);
+
+                    final char tag = pattern.charAt(i++);
+                    if (tag == ALNUM_CHAR || tag == LCASE_CHAR || tag == UCASE_CHAR
+                            || tag == LCASE_HEX_CHAR || tag == UCASE_HEX_CHAR || tag == DIGIT) {
+                        op = tag;
+                    } else if (tag == HASH) {
+                        literal.append(HASH);
+                    } else {
+                        throw Fail.withUsageError("text pattern '" + pattern
+                                + "' contains an invalid hashtag '#" + tag + "'" + ALLOWED_HASHTAGS_MESSAGE);
+                    }
+                } else {
+                    literal.append(c);
+                }
+
+                if (op == LITERAL) {
+                    continue;
+                }
+                if (!literal.isEmpty()) {
+                    ops[size] = LITERAL;
+                    counts[size] = literal.length();
+                    literals[size++] = literal.toString();
+                    literal.setLength(0);
+                }
+                if (size > 0 && ops[size - 1] == op) {
+                    counts[size - 1]++;
+                } else {
+                    ops[size] = op;
+                    counts[size++] = 1;
+                }
+            }
+            if (!literal.isEmpty()) {
+                ops[size] = LITERAL;
+                counts[size] = literal.length();
+                literals[size++] = literal.toString();
+            }
+            return new Program(
+                    Arrays.copyOf(ops, size),
+                    Arrays.copyOf(counts, size),
+                    Arrays.copyOf(literals, size));
+        }
+
+        String generate(final Random random) {
+            if (!latin1) {
+                final StringBuilder sb = new StringBuilder(length);
+                for (int i = 0; i < ops.length; i++) {
+                    if (ops[i] == LITERAL) {
+                        sb.append(literals[i]);
+                    } else {
+                        for (int j = 0; j < counts[i]; j++) {
+                            sb.append(randomChar(random, ops[i]));
+                        }
+                    }
+                }
+                return sb.toString();
+            }
+
+            final byte[] buf = new byte[length];
+            int pos = 0;
+            for (int i = 0; i < ops.length; i++) {
+                final int count = counts[i];
+                if (ops[i] == LITERAL) {
+                    final String literal = literals[i];
+                    for (int j = 0; j < count; j++) {
+                        buf[pos + j] = (byte) literal.charAt(j);
+                    }
+                } else {
+                    final char op = ops[i];
+                    for (int j = 0; j < count; j++) {
+                        buf[pos + j] = (byte) randomChar(random, op);
+                    }
+                }
+                pos += count;
+            }
+            return new String(buf, StandardCharsets.ISO_8859_1);
+        }
+
+        private static char randomChar(final Random random, final char op) {
+            return switch (op) {
+                case ALNUM_CHAR -> random.alphanumericCharacter();
+                case LCASE_CHAR -> random.lowerCaseCharacter();
+                case UCASE_CHAR -> random.upperCaseCharacter();
+                case LCASE_HEX_CHAR -> Character.toLowerCase(upperCaseHexChar(random));
+                case UCASE_HEX_CHAR -> upperCaseHexChar(random);
+                default -> random.characterRange('0', '9');
+            };
+        }
+
+        private static boolean isLatin1(final String s) {
+            for (int i = 0; i < s.length(); i++) {
+                if (s.charAt(i) > 0xFF) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
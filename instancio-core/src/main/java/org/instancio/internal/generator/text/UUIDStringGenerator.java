@@ -20,8 +20,10 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.UUIDStringSpec;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.util.UUIDGenerator;
+import org.instancio.internal.util.HexUtils;
 
-import java.util.Locale;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
 
 public class UUIDStringGenerator extends AbstractGenerator<String> implements UUIDStringSpec {
 
@@ -52,6 +54,12 @@ public class UUIDStringGenerator extends AbstractGenerator<String> implements UU
         return this;
     }
 
+    @Override
+    public UUIDStringGenerator version7() {
+        delegate.version7();
+        return this;
+    }
+
     @Override
     public UUIDStringGenerator nullable() {
         super.nullable();
@@ -60,13 +68,28 @@ public class UUIDStringGenerator extends AbstractGenerator<String> implements UU
 
     @Override
     protected String tryGenerateNonNull(final Random random) {
-        String uuid = delegate.tryGenerateNonNull(random).toString();
-        if (isUpperCase) {
-            uuid = uuid.toUpperCase(Locale.ROOT);
-        }
+        final UUID uuid = delegate.tryGenerateNonNull(random);
+        final long msb = uuid.getMostSignificantBits();
+        final long lsb = uuid.getLeastSignificantBits();
+
         if (isWithoutDashes) {
-            uuid = uuid.replace("-", "");
+            final byte[] result = new byte[32];
+            HexUtils.putHex(msb, 16, isUpperCase, result, 0);
+            HexUtils.putHex(lsb, 16, isUpperCase, result, 16);
+            return new String(result, StandardCharsets.ISO_8859_1);
         }
-        return uuid;
+
+        // 8-4-4-4-12
+        final byte[] result = new byte[36];
+        HexUtils.putHex(msb >>> 32, 8, isUpperCase, result, 0);
+        result[8] = '-';
+        HexUtils.putHex(msb >>> 16, 4, isUpperCase, result, 9);
+        result[13] = '-';
+        HexUtils.putHex(msb, 4, isUpperCase, result, 14);
+        result[18] = '-';
+        HexUtils.putHex(lsb >>> 48, 4, isUpperCase, result, 19);
+        result[23] = '-';
+        HexUtils.putHex(lsb, 12, isUpperCase, result, 24);
+        return new String(result, StandardCharsets.ISO_8859_1);
     }
 }
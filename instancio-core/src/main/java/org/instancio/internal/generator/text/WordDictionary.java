@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.Random;
+import org.instancio.internal.util.Fail;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable list of words packed into a single string.
+ *
+ * <p>Word {@code i} is located between {@code offsets[i]} (inclusive)
+ * and {@code offsets[i + 1]} (exclusive). Since dictionaries typically
+ * contain Latin-1 characters only, the packed text is backed by a single
+ * compact {@code byte[]}, instead of an object per word. Instances are
+ * immutable and can be safely shared between threads.
+ */
+final class WordDictionary {
+
+    private final String text;
+    private final int[] offsets;
+    private final int maxWordLength;
+
+    private WordDictionary(final String text, final int[] offsets) {
+        this.text = text;
+        this.offsets = offsets;
+
+        int max = 0;
+        for (int i = 1; i < offsets.length; i++) {
+            max = Math.max(max, offsets[i] - offsets[i - 1]);
+        }
+        this.maxWordLength = max;
+    }
+
+    static WordDictionary of(final String... words) {
+        final StringBuilder sb = new StringBuilder();
+        final int[] offsets = new int[words.length + 1];
+        for (int i = 0; i < words.length; i++) {
+            sb.append(words[i]);
+            offsets[i + 1] = sb.length();
+        }
+        return new WordDictionary(sb.toString(), offsets);
+    }
+
+    /**
+     * Loads a dictionary from a classpath resource containing
+     * one word per line. Blank lines are ignored.
+     *
+     * @param resource the resource name
+     * @return the dictionary
+     */
+    static WordDictionary load(final String resource) {
+        final String content;
+        try (InputStream in = WordDictionary.class.getResourceAsStream(resource)) {
+            content = new String(requireNonNull(in, resource).readAllBytes(), StandardCharsets.UTF_8);
+        } catch (Exception ex) {
+            throw Fail.withInternalError("Error loading input stream", ex);
+        }
+
+        final StringBuilder sb = new StringBuilder(content.length());
+        int[] offsets = new int[1024];
+        int count = 0;
+
+        for (String line : content.split("\r?\n")) {
+            if (line.isEmpty()) {
+                continue;
+            }
+            sb.append(line);
+            if (++count == offsets.length) {
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count] = sb.length();
+        }
+        return new WordDictionary(sb.toString(), Arrays.copyOf(offsets, count + 1));
+    }
+
+    int size() {
+        return offsets.length - 1;
+    }
+
+    int maxWordLength() {
+        return maxWordLength;
+    }
+
+    String get(final int index) {
+        return text.substring(offsets[index], offsets[index + 1]);
+    }
+
+    /**
+     * Returns a random word. The random number generator is invoked
+     * in the same manner as {@link Random#oneOf(java.util.Collection)}.
+     *
+     * @param random for selecting a word
+     * @return a random word
+     */
+    String random(final Random random) {
+        return get(randomIndex(random));
+    }
+
+    /**
+     * Appends a random word to the given string builder
+     * without creating an intermediate string.
+     *
+     * @param random for selecting a word
+     * @param sb     the string builder to append to
+     */
+    void appendRandom(final Random random, final StringBuilder sb) {
+        final int index = randomIndex(random);
+        sb.append(text, offsets[index], offsets[index + 1]);
+    }
+
+    private int randomIndex(final Random random) {
+        return random.intRange(0, size() - 1);
+    }
+}
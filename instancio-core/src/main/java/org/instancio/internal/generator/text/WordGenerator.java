@@ -19,22 +19,15 @@ import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.WordSpec;
 import org.instancio.internal.generator.AbstractGenerator;
-import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.ObjectUtils;
 import org.jspecify.annotations.Nullable;
 
-import java.io.BufferedReader;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class WordGenerator extends AbstractGenerator<String> implements WordSpec {
 
-    private static final Map<WordClass, List<String>> CACHE = new EnumMap<>(WordClass.class);
+    private static final Map<WordClass, WordDictionary> CACHE = new ConcurrentHashMap<>();
 
     private @Nullable WordClass wordClass;
 
@@ -87,20 +80,12 @@ public class WordGenerator extends AbstractGenerator<String> implements WordSpec
         return getWord(random, wc);
     }
 
-    private String getWord(final Random random, final WordClass wordClass) {
-        final List<String> words = getWords(wordClass);
-        return random.oneOf(words);
+    private static String getWord(final Random random, final WordClass wordClass) {
+        return getDictionary(wordClass).random(random);
     }
 
-    private List<String> getWords(final WordClass wordClass) {
-        List<String> words = CACHE.get(wordClass);
-
-        if (words == null) {
-            words = load(wordClass.file);
-            CACHE.put(wordClass, words);
-        }
-
-        return words;
+    static WordDictionary getDictionary(final WordClass wordClass) {
+        return CACHE.computeIfAbsent(wordClass, wc -> WordDictionary.load(wc.file));
     }
 
     enum WordClass {
@@ -127,22 +112,4 @@ public class WordGenerator extends AbstractGenerator<String> implements WordSpec
             return null;
         }
     }
-
-    private static List<String> load(final String file) {
-        final List<String> results = new ArrayList<>(3000);
-
-        try {
-            final InputStream in = WordGenerator.class.getResourceAsStream(file);
-
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) { //NOPMD
-                    results.add(line);
-                }
-            }
-        } catch (Exception ex) {
-            throw Fail.withInternalError("Error loading input stream", ex);
-        }
-        return results;
-    }
 }
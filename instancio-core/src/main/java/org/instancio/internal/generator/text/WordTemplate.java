@@ -0,0 +1,144 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.Random;
+import org.instancio.internal.generator.text.WordGenerator.WordClass;
+import org.instancio.internal.util.Fail;
+import org.instancio.internal.util.StringUtils;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.instancio.internal.util.ErrorMessageUtils.invalidStringTemplate;
+
+/**
+ * A word template compiled into alternating literals and placeholders.
+ *
+ * <p>A template with {@code n} placeholders is represented by {@code n + 1}
+ * literals (some of which may be empty), where placeholder {@code i}
+ * is rendered between literals {@code i} and {@code i + 1}.
+ * Compiled templates are immutable and shared between generators.
+ */
+final class WordTemplate {
+
+    // templates are usually string literals, but the cache
+    // is bounded in case they are constructed dynamically
+    private static final int MAX_CACHE_SIZE = 512;
+    private static final Map<String, WordTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final String[] literals;
+    private final WordDictionary[] dictionaries;
+    private final WordCase[] cases;
+    private final int maxLength;
+
+    private WordTemplate(final String[] literals,
+                         final WordDictionary[] dictionaries,
+                         final WordCase[] cases) {
+        this.literals = literals;
+        this.dictionaries = dictionaries;
+        this.cases = cases;
+
+        int length = literals[dictionaries.length].length();
+        for (int i = 0; i < dictionaries.length; i++) {
+            length += literals[i].length() + dictionaries[i].maxWordLength();
+        }
+        this.maxLength = length;
+    }
+
+    static WordTemplate compile(final String template) {
+        WordTemplate result = CACHE.get(template);
+        if (result == null) {
+            result = parse(template);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(template, result);
+            }
+        }
+        return result;
+    }
+
+    private static WordTemplate parse(final String template) {
+        final List<String> templateKeys = StringUtils.getTemplateKeys(template);
+        final int size = templateKeys.size();
+        final String[] literals = new String[size + 1];
+        final WordDictionary[] dictionaries = new WordDictionary[size];
+        final WordCase[] cases = new WordCase[size];
+
+        int pos = 0;
+        for (int i = 0; i < size; i++) {
+            final String templateKey = templateKeys.get(i);
+            final WordClass wordClass = WordClass.getByKey(templateKey.toLowerCase(Locale.ROOT));
+            if (wordClass == null) {
+                final String reason = String.format("invalid template key '${%s}'", templateKey);
+                throw Fail.withUsageError(invalidStringTemplate(template, reason));
+            }
+
+            final String placeholder = "${" + templateKey + '}';
+            final int start = template.indexOf(placeholder, pos);
+            literals[i] = template.substring(pos, start);
+            dictionaries[i] = WordGenerator.getDictionary(wordClass);
+            cases[i] = WordCase.of(templateKey);
+            pos = start + placeholder.length();
+        }
+        literals[size] = template.substring(pos);
+        return new WordTemplate(literals, dictionaries, cases);
+    }
+
+    /**
+     * Returns the length of the longest string this template can produce,
+     * for sizing the buffer passed to {@link #render(Random, StringBuilder)}.
+     *
+     * @return the maximum rendered length
+     */
+    int maxLength() {
+        return maxLength;
+    }
+
+    void render(final Random random, final StringBuilder sb) {
+        for (int i = 0; i < dictionaries.length; i++) {
+            sb.append(literals[i]);
+
+            final int start = sb.length();
+            final WordCase wordCase = cases[i];
+            if (wordCase == WordCase.UPPER) {
+                sb.append(dictionaries[i].random(random).toUpperCase(Locale.ROOT));
+            } else {
+                dictionaries[i].appendRandom(random, sb);
+                if (wordCase == WordCase.CAPITALISED) {
+                    sb.setCharAt(start, Character.toUpperCase(sb.charAt(start)));
+                }
+            }
+        }
+        sb.append(literals[dictionaries.length]);
+    }
+
+    private enum WordCase {
+        AS_IS,
+        CAPITALISED,
+        UPPER;
+
+        static WordCase of(final String templateKey) {
+            if (!Character.isUpperCase(templateKey.charAt(0))) {
+                return AS_IS;
+            }
+            // if first and last char are uppercase, assume the entire string is uppercase
+            return Character.isUpperCase(templateKey.charAt(templateKey.length() - 1))
+                    ? UPPER : CAPITALISED;
+        }
+    }
+}
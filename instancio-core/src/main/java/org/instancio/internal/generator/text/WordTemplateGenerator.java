@@ -20,28 +20,15 @@ import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.WordTemplateSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
-import org.instancio.internal.generator.text.WordGenerator.WordClass;
-import org.instancio.internal.util.Fail;
-import org.instancio.internal.util.StringUtils;
-
-import java.util.HashMap;
-import java.util.List;
-import java.util.Locale;
-import java.util.Map;
-import java.util.regex.Pattern;
-
-import static java.util.Objects.requireNonNull;
-import static org.instancio.internal.util.ErrorMessageUtils.invalidStringTemplate;
+import org.jspecify.annotations.Nullable;
 
 public class WordTemplateGenerator extends AbstractGenerator<String> implements WordTemplateSpec {
 
-    private final Map<String, Pattern> patternCache = new HashMap<>();
-    private final WordGenerator wordGenerator;
     private final String template;
+    private @Nullable WordTemplate compiledTemplate;
 
     public WordTemplateGenerator(final GeneratorContext context, final String template) {
         super(context);
-        this.wordGenerator = new WordGenerator(context);
         this.template = ApiValidator.notNull(template, "'template' must not be null");
     }
 
@@ -58,39 +45,14 @@ public class WordTemplateGenerator extends AbstractGenerator<String> implements
 
     @Override
     protected String tryGenerateNonNull(final Random random) {
-        final List<String> templateKeys = StringUtils.getTemplateKeys(template);
-
-        String result = template;
-
-        for (String templateKey : templateKeys) {
-            final WordClass wordClass = WordClass.getByKey(templateKey.toLowerCase(Locale.ROOT));
-            if (wordClass == null) {
-                final String reason = String.format("invalid template key '${%s}'", templateKey);
-                throw Fail.withUsageError(invalidStringTemplate(template, reason));
-            }
-
-            String word = wordGenerator.wordClass(wordClass).generate(random);
-            requireNonNull(word);
-
-            if (Character.isUpperCase(templateKey.charAt(0))) {
-                // if first and last char are uppercase, assume the entire string is uppercase
-                if (Character.isUpperCase(templateKey.charAt(templateKey.length() - 1))) {
-                    word = word.toUpperCase(Locale.ROOT);
-                } else {
-                    word = Character.toUpperCase(word.charAt(0)) + word.substring(1);
-                }
-            }
-            result = regexPattern(templateKey).matcher(result).replaceFirst(word);
-        }
-        return result;
-    }
-
-    private Pattern regexPattern(final String templateKey) {
-        Pattern p = patternCache.get(templateKey);
-        if (p == null) {
-            p = Pattern.compile("\\$\\{" + templateKey + '}');
-            patternCache.put(templateKey, p);
+        // compiled lazily since invalid templates are reported on generation
+        WordTemplate t = compiledTemplate;
+        if (t == null) {
+            t = WordTemplate.compile(template);
+            compiledTemplate = t;
         }
-        return p;
+        final StringBuilder sb = new StringBuilder(t.maxLength());
+        t.render(random, sb);
+        return sb.toString();
     }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text.regex;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of characters represented as sorted,
+ * disjoint, non-adjacent inclusive ranges.
+ *
+ * <p>Sets that would be too large to generate from in a useful
+ * manner, such as the result of {@code .} or a negated class,
+ * are limited to printable ASCII characters. To ensure that generated
+ * strings always match the regex, a set that approximates a predefined
+ * class (for example, {@code \s}) always contains all printable ASCII
+ * members of that class, so that its complement does not contain any.
+ */
+final class CharSet {
+
+    static final CharSet EMPTY = new CharSet(new int[0]);
+    static final CharSet PRINTABLE = range(' ', '~');
+    static final CharSet DIGIT = range('0', '9');
+    static final CharSet LOWER = range('a', 'z');
+    static final CharSet UPPER = range('A', 'Z');
+    static final CharSet ALPHA = LOWER.union(UPPER);
+    static final CharSet ALNUM = ALPHA.union(DIGIT);
+    static final CharSet WORD = ALNUM.union(of('_'));
+    static final CharSet SPACE = of(' ');
+    static final CharSet HEX_DIGIT = DIGIT.union(range('a', 'f')).union(range('A', 'F'));
+    static final CharSet PUNCT = PRINTABLE.minus(ALNUM).minus(SPACE);
+
+    /**
+     * Pairs of inclusive {@code [lo, hi]} bounds.
+     */
+    private final int[] ranges;
+
+    private CharSet(final int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    static CharSet of(final int c) {
+        return range(c, c);
+    }
+
+    static CharSet range(final int lo, final int hi) {
+        return new CharSet(new int[]{lo, hi});
+    }
+
+    int rangeCount() {
+        return ranges.length / 2;
+    }
+
+    int lo(final int range) {
+        return ranges[range * 2];
+    }
+
+    int hi(final int range) {
+        return ranges[range * 2 + 1];
+    }
+
+    boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    CharSet union(final CharSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        final int[] all = Arrays.copyOf(ranges, ranges.length + other.ranges.length);
+        System.arraycopy(other.ranges, 0, all, ranges.length, other.ranges.length);
+        return normalise(all);
+    }
+
+    CharSet minus(final CharSet other) {
+        final int[] result = new int[ranges.length + other.ranges.length];
+        int size = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            int lo = ranges[i];
+            final int hi = ranges[i + 1];
+            for (int j = 0; j < other.ranges.length && lo <= hi; j += 2) {
+                final int olo = other.ranges[j];
+                final int ohi = other.ranges[j + 1];
+                if (ohi < lo || olo > hi) {
+                    continue;
+                }
+                if (olo > lo) {
+                    result[size++] = lo;
+                    result[size++] = olo - 1;
+                }
+                lo = ohi + 1;
+            }
+            if (lo <= hi) {
+                result[size++] = lo;
+                result[size++] = hi;
+            }
+        }
+        return new CharSet(Arrays.copyOf(result, size));
+    }
+
+    /**
+     * Returns the printable ASCII characters not contained in this set.
+     */
+    CharSet complement() {
+        return PRINTABLE.minus(this);
+    }
+
+    /**
+     * Returns this set with the other case of each ASCII letter added.
+     */
+    CharSet withCaseVariants() {
+        return union(shift(intersect(LOWER), 'A' - 'a')).union(shift(intersect(UPPER), 'a' - 'A'));
+    }
+
+    private CharSet intersect(final CharSet other) {
+        return minus(minus(other));
+    }
+
+    private CharSet shift(final CharSet set, final int delta) {
+        final int[] result = set.ranges.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] += delta;
+        }
+        return new CharSet(result);
+    }
+
+    private static CharSet normalise(final int[] pairs) {
+        final int n = pairs.length / 2;
+        final long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) pairs[i * 2] << 32) | pairs[i * 2 + 1];
+        }
+        Arrays.sort(packed);
+
+        final int[] result = new int[pairs.length];
+        int size = 0;
+        for (long p : packed) {
+            final int lo = (int) (p >>> 32);
+            final int hi = (int) p;
+            if (size > 0 && lo <= result[size - 1] + 1) {
+                result[size - 1] = Math.max(result[size - 1], hi);
+            } else {
+                result[size++] = lo;
+                result[size++] = hi;
+            }
+        }
+        return new CharSet(Arrays.copyOf(result, size));
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text.regex;
+
+import org.instancio.Random;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.internal.generator.text.regex.RegexNode.Alternation;
+import org.instancio.internal.generator.text.regex.RegexNode.Chars;
+import org.instancio.internal.generator.text.regex.RegexNode.Concat;
+import org.instancio.internal.generator.text.regex.RegexNode.Repeat;
+import org.instancio.internal.util.Fail;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A deterministic finite automaton that accepts strings matching a regex.
+ *
+ * <p>The regex is parsed and converted into an NFA using Thompson's
+ * construction, which is then converted to a DFA using the subset
+ * construction. The DFA's alphabet consists of disjoint character
+ * ranges, so that its size depends on the number of distinct ranges
+ * in the regex rather than the number of characters.
+ *
+ * <p>To generate a string of a given length, the automaton keeps track
+ * of the (relative) number of accepted strings of each length starting
+ * from each state. A string is then generated in a single pass by
+ * choosing each character with a probability proportional to the number
+ * of accepted strings it leads to. As a result, all matching strings
+ * of the chosen length are equally likely to be generated.
+ *
+ * <p>Compiled automata are immutable (apart from lazily computed
+ * string counts) and are shared between generators.
+ */
+public final class RegexAutomaton {
+
+    /**
+     * The maximum length of generated strings.
+     */
+    public static final int MAX_LENGTH = 1000;
+
+    private static final int MAX_NFA_STATES = 20_000;
+    private static final int MAX_DFA_STATES = 5_000;
+    private static final int MAX_CACHE_SIZE = 256;
+    private static final Map<CacheKey, RegexAutomaton> CACHE = new ConcurrentHashMap<>();
+
+    private final String regex;
+    private final int[] symbolStart;
+    private final int[] symbolSize;
+    private final int[][] transitions;
+    private final boolean[] accepting;
+    private final int minLength;
+
+    /**
+     * Relative number of accepted strings indexed by length and state,
+     * normalised so that the maximum of each length is {@code 1}.
+     */
+    @SuppressWarnings("PMD.AvoidUsingVolatile")
+    private volatile double[][] counts = new double[0][];
+
+    private RegexAutomaton(final String regex,
+                           final int[] symbolStart,
+                           final int[] symbolSize,
+                           final int[][] transitions,
+                           final boolean[] accepting) {
+        this.regex = regex;
+        this.symbolStart = symbolStart;
+        this.symbolSize = symbolSize;
+        this.transitions = transitions;
+        this.accepting = accepting;
+        this.minLength = shortestAcceptedLength();
+
+        if (minLength < 0) {
+            throw Fail.withUsageError("unable to generate values for regex '%s': "
+                    + "the regex does not match any string of printable characters", regex);
+        }
+        if (minLength > MAX_LENGTH) {
+            throw Fail.withUsageError("unable to generate values for regex '%s': "
+                    + "the regex only matches strings longer than %s characters", regex, MAX_LENGTH);
+        }
+    }
+
+    /**
+     * Compiles the given regex, or returns a cached automaton
+     * if the regex has been compiled previously.
+     *
+     * @param regex to compile
+     * @param flags {@link java.util.regex.Pattern} flags
+     * @return the compiled automaton
+     * @throws InstancioApiException if the regex is invalid or not supported
+     */
+    public static RegexAutomaton compile(final String regex, final int flags) {
+        final CacheKey key = new CacheKey(regex, flags);
+        RegexAutomaton result = CACHE.get(key);
+        if (result == null) {
+            result = new Builder(regex, RegexParser.parse(regex, flags)).build();
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the length of the shortest string matching the regex.
+     *
+     * @return minimum length
+     */
+    public int getMinLength() {
+        return minLength;
+    }
+
+    /**
+     * Generates a random string matching the regex. The length of the
+     * string is chosen uniformly from the lengths of matching strings
+     * between {@code minLength} and {@code maxLength}. If the regex
+     * does not match any strings within this range, the closest
+     * length below the range is chosen or, failing that,
+     * the length of the shortest matching string.
+     *
+     * @param random    for generating the string
+     * @param minLength the preferred minimum length (inclusive)
+     * @param maxLength the preferred maximum length (inclusive)
+     * @return a string matching the regex
+     */
+    public String generate(final Random random, final int minLength, final int maxLength) {
+        final int hi = Math.min(maxLength, MAX_LENGTH);
+        final int length = chooseLength(random, Math.max(minLength, this.minLength), hi);
+        final double[][] c = counts(length);
+        final char[] result = new char[length];
+
+        int state = 0;
+        for (int i = 0; i < length; i++) {
+            final double[] next = c[length - i - 1];
+            final int[] row = transitions[state];
+
+            double total = 0;
+            for (int k = 0; k < row.length; k++) {
+                if (row[k] >= 0) {
+                    total += symbolSize[k] * next[row[k]];
+                }
+            }
+
+            double r = random.doubleRange(0, total);
+            int symbol = -1;
+            for (int k = 0; k < row.length; k++) {
+                if (row[k] >= 0 && next[row[k]] > 0) {
+                    symbol = k;
+                    final double weight = symbolSize[k] * next[row[k]];
+                    if (r < weight) {
+                        break;
+                    }
+                    r -= weight;
+                }
+            }
+
+            result[i] = (char) (symbolStart[symbol] + random.intRange(0, symbolSize[symbol] - 1));
+            state = row[symbol];
+        }
+        return new String(result);
+    }
+
+    private int chooseLength(final Random random, final int lo, final int hi) {
+        if (hi < minLength) {
+            return minLength;
+        }
+        final double[][] c = counts(hi);
+        final int[] lengths = new int[Math.max(hi - lo + 1, 0)];
+        int size = 0;
+        for (int len = lo; len <= hi; len++) {
+            if (c[len][0] > 0) {
+                lengths[size++] = len;
+            }
+        }
+        if (size > 0) {
+            return lengths[random.intRange(0, size - 1)];
+        }
+        int len = Math.min(lo, hi + 1) - 1;
+        while (c[len][0] == 0) {
+            len--;
+        }
+        return len;
+    }
+
+    private double[][] counts(final int maxLength) {
+        double[][] c = counts;
+        if (c.length > maxLength) {
+            return c;
+        }
+        synchronized (this) {
+            c = counts;
+            if (c.length <= maxLength) {
+                final int newLength = Math.min(Math.max(maxLength + 1, c.length * 2), MAX_LENGTH + 1);
+                final double[][] grown = Arrays.copyOf(c, newLength);
+                for (int len = c.length; len < newLength; len++) {
+                    grown[len] = len == 0 ? countEmpty() : countLength(grown[len - 1]);
+                }
+                counts = grown;
+                c = grown;
+            }
+        }
+        return c;
+    }
+
+    private double[] countEmpty() {
+        final double[] result = new double[transitions.length];
+        for (int s = 0; s < transitions.length; s++) {
+            result[s] = accepting[s] ? 1 : 0;
+        }
+        return result;
+    }
+
+    private double[] countLength(final double[] shorter) {
+        final double[] result = new double[transitions.length];
+        double max = 0;
+        for (int s = 0; s < transitions.length; s++) {
+            final int[] row = transitions[s];
+            for (int k = 0; k < row.length; k++) {
+                if (row[k] >= 0) {
+                    result[s] += symbolSize[k] * shorter[row[k]];
+                }
+            }
+            max = Math.max(max, result[s]);
+        }
+        if (max > 0) {
+            for (int s = 0; s < result.length; s++) {
+                result[s] /= max;
+            }
+        }
+        return result;
+    }
+
+    private int shortestAcceptedLength() {
+        final int[] distance = new int[transitions.length];
+        Arrays.fill(distance, -1);
+        distance[0] = 0;
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            final int s = queue.poll();
+            if (accepting[s]) {
+                return distance[s];
+            }
+            for (int t : transitions[s]) {
+                if (t >= 0 && distance[t] < 0) {
+                    distance[t] = distance[s] + 1;
+                    queue.add(t);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private record CacheKey(String regex, int flags) {}
+
+    /**
+     * Converts a parsed regex to an NFA, and then to a DFA.
+     */
+    private static final class Builder {
+        private final String regex;
+        private final RegexNode root;
+
+        // NFA states: each has either a character transition or epsilon transitions
+        private final List<@Nullable CharSet> charSets = new ArrayList<>();
+        private final List<Integer> charTargets = new ArrayList<>();
+        private final List<List<Integer>> epsilons = new ArrayList<>();
+
+        Builder(final String regex, final RegexNode root) {
+            this.regex = regex;
+            this.root = root;
+        }
+
+        RegexAutomaton build() {
+            final int[] nfa = buildNfa(root);
+            final int nfaStart = nfa[0];
+            final int nfaAccept = nfa[1];
+
+            // partition characters into disjoint symbol ranges
+            final TreeSet<Integer> cuts = new TreeSet<>();
+            for (CharSet set : charSets) {
+                if (set != null) {
+                    for (int r = 0; r < set.rangeCount(); r++) {
+                        cuts.add(set.lo(r));
+                        cuts.add(set.hi(r) + 1);
+                    }
+                }
+            }
+            final int[] bounds = cuts.stream().mapToInt(Integer::intValue).toArray();
+            final int symbols = Math.max(bounds.length - 1, 0);
+
+            final Map<BitSet, Integer> dfaStates = new HashMap<>();
+            final List<BitSet> pending = new ArrayList<>();
+            final List<int[]> transitions = new ArrayList<>();
+
+            final BitSet start = closure(single(nfaStart));
+            dfaStates.put(start, 0);
+            pending.add(start);
+
+            for (int d = 0; d < pending.size(); d++) {
+                final BitSet[] moves = new BitSet[symbols];
+                final BitSet current = pending.get(d);
+
+                for (int s = current.nextSetBit(0); s >= 0; s = current.nextSetBit(s + 1)) {
+                    final CharSet set = charSets.get(s);
+                    if (set == null) {
+                        continue;
+                    }
+                    for (int r = 0; r < set.rangeCount(); r++) {
+                        for (int k = Arrays.binarySearch(bounds, set.lo(r)); bounds[k] <= set.hi(r); k++) {
+                            if (moves[k] == null) {
+                                moves[k] = new BitSet();
+                            }
+                            moves[k].set(charTargets.get(s));
+                        }
+                    }
+                }
+
+                final int[] row = new int[symbols];
+                for (int k = 0; k < symbols; k++) {
+                    if (moves[k] == null) {
+                        row[k] = -1;
+                        continue;
+                    }
+                    final BitSet target = closure(moves[k]);
+                    Integer index = dfaStates.get(target);
+                    if (index == null) {
+                        if (dfaStates.size() == MAX_DFA_STATES) {
+                            throw tooComplex();
+                        }
+                        index = dfaStates.size();
+                        dfaStates.put(target, index);
+                        pending.add(target);
+                    }
+                    row[k] = index;
+                }
+                transitions.add(row);
+            }
+
+            final int[] symbolStart = new int[symbols];
+            final int[] symbolSize = new int[symbols];
+            for (int k = 0; k < symbols; k++) {
+                symbolStart[k] = bounds[k];
+                symbolSize[k] = bounds[k + 1] - bounds[k];
+            }
+            final boolean[] accepting = new boolean[pending.size()];
+            for (int d = 0; d < accepting.length; d++) {
+                accepting[d] = pending.get(d).get(nfaAccept);
+            }
+            return new RegexAutomaton(regex, symbolStart, symbolSize,
+                    transitions.toArray(new int[0][]), accepting);
+        }
+
+        /**
+         * Builds an NFA fragment for the given node.
+         *
+         * @return start and end states of the fragment
+         */
+        private int[] buildNfa(final RegexNode node) {
+            if (node instanceof Chars chars) {
+                final int start = newState();
+                final int end = newState();
+                charSets.set(start, chars.chars());
+                charTargets.set(start, end);
+                return new int[]{start, end};
+            }
+            if (node instanceof Concat concat) {
+                final int start = newState();
+                int end = start;
+                for (RegexNode n : concat.nodes()) {
+                    final int[] fragment = buildNfa(n);
+                    epsilon(end, fragment[0]);
+                    end = fragment[1];
+                }
+                return new int[]{start, end};
+            }
+            if (node instanceof Alternation alternation) {
+                final int start = newState();
+                final int end = newState();
+                for (RegexNode n : alternation.nodes()) {
+                    final int[] fragment = buildNfa(n);
+                    epsilon(start, fragment[0]);
+                    epsilon(fragment[1], end);
+                }
+                return new int[]{start, end};
+            }
+            final Repeat repeat = (Repeat) node;
+            final int start = newState();
+            int current = start;
+            for (int i = 0; i < repeat.min(); i++) {
+                final int[] fragment = buildNfa(repeat.node());
+                epsilon(current, fragment[0]);
+                current = fragment[1];
+            }
+            final int end = newState();
+            if (repeat.max() < 0) {
+                final int[] fragment = buildNfa(repeat.node());
+                epsilon(current, fragment[0]);
+                epsilon(fragment[1], current);
+            } else {
+                for (int i = repeat.min(); i < repeat.max(); i++) {
+                    final int[] fragment = buildNfa(repeat.node());
+                    epsilon(current, end);
+                    epsilon(current, fragment[0]);
+                    current = fragment[1];
+                }
+            }
+            epsilon(current, end);
+            return new int[]{start, end};
+        }
+
+        private int newState() {
+            if (epsilons.size() == MAX_NFA_STATES) {
+                throw tooComplex();
+            }
+            charSets.add(null);
+            charTargets.add(-1);
+            epsilons.add(new ArrayList<>(2));
+            return epsilons.size() - 1;
+        }
+
+        private void epsilon(final int from, final int to) {
+            epsilons.get(from).add(to);
+        }
+
+        private BitSet closure(final BitSet states) {
+            final BitSet result = (BitSet) states.clone();
+            final Deque<Integer> stack = new ArrayDeque<>();
+            states.stream().forEach(stack::push);
+            while (!stack.isEmpty()) {
+                for (int next : epsilons.get(stack.pop())) {
+                    if (!result.get(next)) {
+                        result.set(next);
+                        stack.push(next);
+                    }
+                }
+            }
+            return result;
+        }
+
+        private static BitSet single(final int state) {
+            final BitSet result = new BitSet();
+            result.set(state);
+            return result;
+        }
+
+        private InstancioApiException tooComplex() {
+            return Fail.withUsageError("unable to generate values for regex '%s': "
+                    + "the regex is too complex", regex);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text.regex;
+
+import java.util.List;
+
+/**
+ * Abstract syntax tree of a parsed regex.
+ */
+sealed interface RegexNode {
+
+    RegexNode EMPTY = new Concat(List.of());
+
+    /**
+     * Matches a single character from the given set.
+     */
+    record Chars(CharSet chars) implements RegexNode {}
+
+    record Concat(List<RegexNode> nodes) implements RegexNode {}
+
+    record Alternation(List<RegexNode> nodes) implements RegexNode {}
+
+    /**
+     * Matches the node at least {@code min} and at most {@code max} times,
+     * where a negative {@code max} denotes an unbounded repetition.
+     */
+    record Repeat(RegexNode node, int min, int max) implements RegexNode {}
+}
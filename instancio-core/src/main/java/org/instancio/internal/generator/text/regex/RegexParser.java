@@ -0,0 +1,480 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text.regex;
+
+import org.instancio.exception.InstancioApiException;
+import org.instancio.internal.generator.text.regex.RegexNode.Alternation;
+import org.instancio.internal.generator.text.regex.RegexNode.Chars;
+import org.instancio.internal.generator.text.regex.RegexNode.Concat;
+import org.instancio.internal.generator.text.regex.RegexNode.Repeat;
+import org.instancio.internal.util.Fail;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A recursive descent parser for the subset of {@link Pattern} syntax
+ * that can be represented by a finite automaton.
+ *
+ * <p>The regex is expected to match the entire string, therefore
+ * anchors such as {@code ^} and {@code $} are ignored. Constructs that
+ * cannot be represented by a finite automaton, such as backreferences
+ * and lookarounds, are rejected, as are constructs that could result
+ * in generating non-matching strings, such as word boundaries.
+ */
+final class RegexParser {
+
+    private final String regex;
+    private int pos;
+    private boolean caseInsensitive;
+    private boolean comments;
+
+    private RegexParser(final String regex, final int flags) {
+        this.regex = regex;
+        this.caseInsensitive = (flags & Pattern.CASE_INSENSITIVE) != 0;
+        this.comments = (flags & Pattern.COMMENTS) != 0;
+    }
+
+    /**
+     * Parses the given regex.
+     *
+     * @param regex to parse
+     * @param flags {@link Pattern} flags
+     * @return the parsed regex
+     * @throws InstancioApiException if the regex is invalid or not supported
+     */
+    static RegexNode parse(final String regex, final int flags) {
+        try {
+            Pattern.compile(regex, flags);
+        } catch (PatternSyntaxException ex) {
+            throw Fail.withUsageError("invalid regex: %s", regex, ex);
+        }
+
+        final RegexParser parser = new RegexParser(regex, flags);
+        final RegexNode node = parser.parseAlternation();
+        if (parser.pos < regex.length()) {
+            throw parser.unsupported("unexpected character '" + regex.charAt(parser.pos) + "'");
+        }
+        return node;
+    }
+
+    private RegexNode parseAlternation() {
+        final List<RegexNode> alternatives = new ArrayList<>();
+        alternatives.add(parseSequence());
+        while (consume('|')) {
+            alternatives.add(parseSequence());
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+    }
+
+    private RegexNode parseSequence() {
+        final List<RegexNode> nodes = new ArrayList<>();
+        while (true) {
+            skipComments();
+            if (atEnd() || peek() == '|' || peek() == ')') {
+                break;
+            }
+            if (regex.startsWith("\\Q", pos)) {
+                // a quantifier following a quotation only applies to its last character
+                final List<RegexNode> quoted = parseQuotation();
+                if (quoted.isEmpty()) {
+                    continue;
+                }
+                nodes.addAll(quoted.subList(0, quoted.size() - 1));
+                nodes.add(parseQuantifiers(quoted.get(quoted.size() - 1)));
+                continue;
+            }
+            final RegexNode atom = parseAtom();
+            nodes.add(parseQuantifiers(atom));
+        }
+        return nodes.size() == 1 ? nodes.get(0) : new Concat(nodes);
+    }
+
+    private RegexNode parseQuantifiers(final RegexNode atom) {
+        skipComments();
+        final RegexNode node = parseQuantifier(atom);
+        skipComments();
+        if (node != atom && isQuantifier(peek())) {
+            throw unsupported("consecutive quantifiers are not supported");
+        }
+        return node;
+    }
+
+    private RegexNode parseQuantifier(final RegexNode atom) {
+        final char c = peek();
+        final int min;
+        final int max;
+        if (c == '*') {
+            min = 0;
+            max = -1;
+        } else if (c == '+') {
+            min = 1;
+            max = -1;
+        } else if (c == '?') {
+            min = 0;
+            max = 1;
+        } else if (c == '{') {
+            pos++;
+            min = parseInt();
+            if (consume(',')) {
+                max = peek() == '}' ? -1 : parseInt();
+            } else {
+                max = min;
+            }
+        } else {
+            return atom;
+        }
+        pos++;
+
+        if (consume('+')) {
+            throw unsupported("possessive quantifiers are not supported");
+        }
+        consume('?'); // reluctant quantifiers do not affect full matches
+        return new Repeat(atom, min, max);
+    }
+
+    private static boolean isQuantifier(final char c) {
+        return c == '*' || c == '+' || c == '?' || c == '{';
+    }
+
+    private RegexNode parseAtom() {
+        final char c = regex.charAt(pos++);
+        return switch (c) {
+            case '(' -> parseGroup();
+            case '[' -> chars(parseClass());
+            case '.' -> chars(CharSet.PRINTABLE);
+            case '^', '$' -> RegexNode.EMPTY;
+            case '\\' -> parseEscape();
+            default -> chars(CharSet.of(c));
+        };
+    }
+
+    private RegexNode parseGroup() {
+        final boolean savedCaseInsensitive = caseInsensitive;
+        final boolean savedComments = comments;
+
+        if (consume('?')) {
+            final char c = regex.charAt(pos);
+            if (c == '=' || c == '!' || c == '>' || c == '<' && (peek(1) == '=' || peek(1) == '!')) {
+                throw unsupported("lookaround and atomic groups are not supported");
+            } else if (c == '<') {
+                pos = regex.indexOf('>', pos) + 1; // named group
+            } else if (c != ':' && parseFlags()) {
+                // flags only, e.g. (?i), which apply until the end of the enclosing group
+                return RegexNode.EMPTY;
+            } else {
+                pos++; // ':'
+            }
+        }
+
+        final RegexNode node = parseAlternation();
+        expect(')');
+        caseInsensitive = savedCaseInsensitive;
+        comments = savedComments;
+        return node;
+    }
+
+    /**
+     * Parses inline flags and returns {@code true} if the group consists
+     * of flags only, or {@code false} if it is followed by a sub-expression.
+     */
+    private boolean parseFlags() {
+        boolean enable = true;
+        while (true) {
+            final char c = regex.charAt(pos++);
+            switch (c) {
+                case '-' -> enable = false;
+                case 'i' -> caseInsensitive = enable;
+                case 'x' -> comments = enable;
+                case ')' -> {
+                    return true;
+                }
+                case ':' -> {
+                    pos--;
+                    return false;
+                }
+                default -> {
+                    // other flags do not affect generated values
+                }
+            }
+        }
+    }
+
+    private CharSet parseClass() {
+        final boolean negated = consume('^');
+        CharSet result = CharSet.EMPTY;
+        boolean first = true;
+
+        while (true) {
+            skipComments();
+            if (!first && peek() == ']') {
+                break;
+            }
+            first = false;
+            final char c = regex.charAt(pos++);
+
+            if (c == '[') {
+                result = result.union(parseClass());
+            } else if (c == '&' && peek() == '&') {
+                throw unsupported("character class intersections are not supported");
+            } else {
+                final CharSet predefined = c == '\\' ? parseClassEscape() : null;
+                if (predefined != null) {
+                    result = result.union(predefined);
+                    continue;
+                }
+                final int lo = c == '\\' ? parseEscapedChar() : c;
+                skipComments();
+                if (peek() == '-' && peek(1) != ']') {
+                    pos++;
+                    final char d = regex.charAt(pos++);
+                    if (d == '[') {
+                        throw unsupported("invalid character class range");
+                    }
+                    final int hi = d == '\\' ? parseEscapedChar() : d;
+                    result = result.union(CharSet.range(lo, hi));
+                } else {
+                    result = result.union(CharSet.of(lo));
+                }
+            }
+        }
+        pos++; // ']'
+        return negated ? negate(result) : result;
+    }
+
+    /**
+     * Parses a predefined character class following a backslash inside
+     * a character class. Returns {@code null} (without advancing
+     * the position) if the escape is not a predefined class.
+     */
+    @Nullable
+    private CharSet parseClassEscape() {
+        final char c = peek();
+        final CharSet predefined = predefinedClass(c);
+        if (predefined != null) {
+            pos++;
+            return predefined;
+        }
+        if (c == 'p' || c == 'P') {
+            pos++;
+            return parseProperty(c == 'P');
+        }
+        return null;
+    }
+
+    private RegexNode parseEscape() {
+        final char c = peek();
+        final CharSet predefined = predefinedClass(c);
+        if (predefined != null) {
+            pos++;
+            return chars(predefined);
+        }
+        switch (c) {
+            case 'p', 'P' -> {
+                pos++;
+                return chars(parseProperty(c == 'P'));
+            }
+            case 'A', 'z', 'Z' -> {
+                pos++;
+                return RegexNode.EMPTY;
+            }
+            case 'b', 'B', 'G' -> throw unsupported("boundary matchers are not supported");
+            case 'k' -> throw unsupported("backreferences are not supported");
+            case 'R', 'X', 'N', 'H', 'V' -> throw unsupported("escape '\\" + c + "' is not supported");
+            default -> {
+                if (c >= '1' && c <= '9') {
+                    throw unsupported("backreferences are not supported");
+                }
+                return chars(CharSet.of(parseEscapedChar()));
+            }
+        }
+    }
+
+    private List<RegexNode> parseQuotation() {
+        pos += 2;
+        int end = regex.indexOf("\\E", pos);
+        if (end == -1) {
+            end = regex.length();
+        }
+        final List<RegexNode> literals = new ArrayList<>();
+        for (int i = pos; i < end; i++) {
+            literals.add(chars(CharSet.of(regex.charAt(i))));
+        }
+        pos = Math.min(end + 2, regex.length());
+        return literals;
+    }
+
+    @Nullable
+    private static CharSet predefinedClass(final char c) {
+        return switch (c) {
+            case 'd' -> CharSet.DIGIT;
+            case 'D' -> CharSet.DIGIT.complement();
+            case 'w' -> CharSet.WORD;
+            case 'W' -> CharSet.WORD.complement();
+            case 's', 'h' -> CharSet.SPACE;
+            case 'S' -> CharSet.SPACE.complement();
+            case 'v' -> CharSet.of('\n');
+            default -> null;
+        };
+    }
+
+    /**
+     * Parses a single escaped character, with the position
+     * pointing to the character following the backslash.
+     */
+    private int parseEscapedChar() {
+        final char c = regex.charAt(pos++);
+        return switch (c) {
+            case 't' -> '\t';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 'f' -> '\f';
+            case 'a' -> '\u0007';
+            case 'e' -> '\u001B';
+            case 'c' -> regex.charAt(pos++) ^ 64;
+            case '0' -> parseOctal();
+            case 'x' -> parseHex();
+            case 'u' -> parseHexDigits(4);
+            default -> {
+                if (Character.isLetterOrDigit(c)) {
+                    throw unsupported("escape '\\" + c + "' is not supported");
+                }
+                yield c;
+            }
+        };
+    }
+
+    private int parseOctal() {
+        int value = 0;
+        for (int i = 0; i < 3 && !atEnd() && peek() >= '0' && peek() <= '7' && value * 8 + peek() - '0' <= 0377; i++) {
+            value = value * 8 + regex.charAt(pos++) - '0';
+        }
+        return value;
+    }
+
+    private int parseHex() {
+        if (consume('{')) {
+            final int end = regex.indexOf('}', pos);
+            final int value = Integer.parseInt(regex.substring(pos, end), 16);
+            pos = end + 1;
+            if (value > Character.MAX_VALUE) {
+                throw unsupported("supplementary characters are not supported");
+            }
+            return value;
+        }
+        return parseHexDigits(2);
+    }
+
+    private int parseHexDigits(final int count) {
+        final int value = Integer.parseInt(regex.substring(pos, pos + count), 16);
+        pos += count;
+        return value;
+    }
+
+    private CharSet parseProperty(final boolean negated) {
+        final String name;
+        if (consume('{')) {
+            final int end = regex.indexOf('}', pos);
+            name = regex.substring(pos, end);
+            pos = end + 1;
+        } else {
+            name = String.valueOf(regex.charAt(pos++));
+        }
+
+        final CharSet set = switch (name.startsWith("Is") ? name.substring(2) : name) {
+            case "Lower", "Ll", "javaLowerCase", "Lowercase" -> CharSet.LOWER;
+            case "Upper", "Lu", "javaUpperCase", "Uppercase" -> CharSet.UPPER;
+            case "Alpha", "L", "Alphabetic", "Letter", "javaLetter", "Latin" -> CharSet.ALPHA;
+            case "Digit", "Nd", "javaDigit" -> CharSet.DIGIT;
+            case "Alnum", "javaLetterOrDigit" -> CharSet.ALNUM;
+            case "Punct" -> CharSet.PUNCT;
+            case "Graph" -> CharSet.SPACE.complement();
+            case "Print", "ASCII" -> CharSet.PRINTABLE;
+            case "Blank", "Space", "White_Space", "javaWhitespace" -> CharSet.SPACE;
+            case "XDigit", "Hex_Digit" -> CharSet.HEX_DIGIT;
+            default -> throw unsupported("character property '" + name + "' is not supported");
+        };
+        return negated ? negate(set) : set;
+    }
+
+    private CharSet negate(final CharSet set) {
+        return caseInsensitive ? set.withCaseVariants().complement() : set.complement();
+    }
+
+    private void skipComments() {
+        if (!comments) {
+            return;
+        }
+        while (!atEnd()) {
+            final char c = peek();
+            if (Character.isWhitespace(c)) {
+                pos++;
+            } else if (c == '#') {
+                while (!atEnd() && peek() != '\n') {
+                    pos++;
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int parseInt() {
+        final int start = pos;
+        while (!atEnd() && Character.isDigit(peek())) {
+            pos++;
+        }
+        return Integer.parseInt(regex.substring(start, pos));
+    }
+
+    private RegexNode chars(final CharSet chars) {
+        return new Chars(caseInsensitive ? chars.withCaseVariants() : chars);
+    }
+
+    private boolean atEnd() {
+        return pos >= regex.length();
+    }
+
+    private char peek() {
+        return peek(0);
+    }
+
+    private char peek(final int offset) {
+        final int i = pos + offset;
+        return i < regex.length() ? regex.charAt(i) : 0;
+    }
+
+    private boolean consume(final char c) {
+        if (peek() == c && !atEnd()) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (!consume(c)) {
+            throw unsupported("expected '" + c + "' at index " + pos);
+        }
+    }
+
+    private InstancioApiException unsupported(final String reason) {
+        return Fail.withUsageError("unable to generate values for regex '%s': %s", regex, reason);
+    }
+}
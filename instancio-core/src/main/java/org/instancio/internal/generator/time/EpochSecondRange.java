@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.time;
+
+import org.instancio.Random;
+
+import java.time.Instant;
+
+/**
+ * A range of instants stored as epoch seconds and nanos, so that
+ * temporal values can be generated using epoch arithmetic instead
+ * of converting the range bounds through time-zone rules per value.
+ */
+final class EpochSecondRange {
+
+    private static final int MAX_NANO = 999_999_999;
+
+    private final Object min;
+    private final Object max;
+    private final long minSecond;
+    private final long maxSecond;
+    private final int minNano;
+    private final int maxNano;
+
+    /**
+     * Creates a range.
+     *
+     * @param min        the lower bound as specified by the user
+     * @param max        the upper bound as specified by the user
+     * @param minInstant the lower bound as an instant
+     * @param maxInstant the upper bound as an instant
+     */
+    EpochSecondRange(final Object min, final Object max, final Instant minInstant, final Instant maxInstant) {
+        this.min = min;
+        this.max = max;
+        this.minSecond = minInstant.getEpochSecond();
+        this.maxSecond = maxInstant.getEpochSecond();
+        this.minNano = minInstant.getNano();
+        this.maxNano = maxInstant.getNano();
+    }
+
+    /**
+     * Returns {@code true} if this range was created from the given bounds.
+     * Since bounds are immutable, identity comparison is sufficient.
+     */
+    boolean isRangeOf(final Object min, final Object max) {
+        return this.min == min && this.max == max;
+    }
+
+    long nextSecond(final Random random) {
+        return random.longRange(minSecond, maxSecond);
+    }
+
+    int nextNano(final Random random, final long second) {
+        if (second == minSecond && second == maxSecond) {
+            return random.intRange(Math.min(minNano, maxNano), Math.max(minNano, maxNano));
+        } else if (second == minSecond) {
+            return random.intRange(Math.max(minNano, maxNano), MAX_NANO);
+        } else if (second == maxSecond) {
+            return random.intRange(0, maxNano);
+        }
+        return random.intRange(0, MAX_NANO);
+    }
+}
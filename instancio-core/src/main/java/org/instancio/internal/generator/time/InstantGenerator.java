@@ -23,11 +23,11 @@ import org.instancio.internal.util.Constants;
 
 import java.time.Instant;
 import java.time.temporal.TemporalUnit;
+import java.util.function.Function;
 
 public class InstantGenerator extends JavaTimeTemporalGenerator<Instant>
         implements InstantSpec {
 
-    private static final int MAX_NANO = 999_999_999;
     static final Instant DEFAULT_MIN = Constants.DEFAULT_MIN.atZone(Constants.ZONE_OFFSET).toInstant();
     static final Instant DEFAULT_MAX = Constants.DEFAULT_MAX.atZone(Constants.ZONE_OFFSET).toInstant();
 
@@ -99,20 +99,9 @@ public class InstantGenerator extends JavaTimeTemporalGenerator<Instant>
 
     @Override
     public Instant tryGenerateNonNull(final Random random) {
-        final long sec = random.longRange(min.getEpochSecond(), max.getEpochSecond());
-        final int nano;
-
-        if (sec == min.getEpochSecond() && sec == max.getEpochSecond()) {
-            nano = random.intRange(Math.min(min.getNano(), max.getNano()), Math.max(min.getNano(), max.getNano()));
-        } else if (sec == min.getEpochSecond()) {
-            nano = random.intRange(Math.max(min.getNano(), max.getNano()), MAX_NANO);
-        } else if (sec == max.getEpochSecond()) {
-            nano = random.intRange(0, max.getNano());
-        } else {
-            nano = random.intRange(0, MAX_NANO);
-        }
-
-        final Instant result = Instant.ofEpochSecond(sec, nano);
+        final EpochSecondRange range = epochSecondRange(Function.identity());
+        final long sec = range.nextSecond(random);
+        final Instant result = Instant.ofEpochSecond(sec, range.nextNano(random, sec));
         return truncateTo == null ? result : result.truncatedTo(truncateTo);
     }
 }
@@ -22,8 +22,10 @@ import org.instancio.internal.generator.AbstractGenerator;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
 
+import java.time.Instant;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalUnit;
+import java.util.function.Function;
 
 abstract class JavaTimeTemporalGenerator<T extends Temporal> extends AbstractGenerator<T>
         implements TemporalGeneratorSpec<T> {
@@ -34,6 +36,7 @@ abstract class JavaTimeTemporalGenerator<T extends Temporal> extends AbstractGen
     protected T min;
     protected T max;
     protected @Nullable TemporalUnit truncateTo;
+    private @Nullable EpochSecondRange epochSecondRange;
 
     JavaTimeTemporalGenerator(final GeneratorContext context, final T min, final T max) {
         super(context);
@@ -89,6 +92,21 @@ abstract class JavaTimeTemporalGenerator<T extends Temporal> extends AbstractGen
         return this;
     }
 
+    /**
+     * Returns the current range as epoch seconds. The conversion
+     * is cached until either {@code min} or {@code max} changes.
+     */
+    final EpochSecondRange epochSecondRange(final Function<T, Instant> toInstant) {
+        EpochSecondRange range = epochSecondRange;
+        if (range == null || !range.isRangeOf(min, max)) {
+            // min() and max() may have been set separately
+            validateRange();
+            range = new EpochSecondRange(min, max, toInstant.apply(min), toInstant.apply(max));
+            epochSecondRange = range;
+        }
+        return range;
+    }
+
     TemporalGeneratorSpec<T> truncatedTo(final TemporalUnit unit) {
         this.truncateTo = unit;
         return this;
@@ -23,8 +23,6 @@ import org.instancio.internal.util.Constants;
 
 import java.time.LocalDate;
 
-import static java.time.temporal.ChronoField.EPOCH_DAY;
-
 public class LocalDateGenerator extends JavaTimeTemporalGenerator<LocalDate>
         implements LocalDateSpec {
 
@@ -93,8 +91,6 @@ public class LocalDateGenerator extends JavaTimeTemporalGenerator<LocalDate>
 
     @Override
     public LocalDate tryGenerateNonNull(final Random random) {
-        return LocalDate.ofEpochDay(random.longRange(
-                min.getLong(EPOCH_DAY),
-                max.getLong(EPOCH_DAY)));
+        return LocalDate.ofEpochDay(random.longRange(min.toEpochDay(), max.toEpochDay()));
     }
 }
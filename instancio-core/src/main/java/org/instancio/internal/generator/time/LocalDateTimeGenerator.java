@@ -32,12 +32,8 @@ public class LocalDateTimeGenerator extends JavaTimeTemporalGenerator<LocalDateT
     static final LocalDateTime DEFAULT_MIN = Constants.DEFAULT_MIN;
     static final LocalDateTime DEFAULT_MAX = Constants.DEFAULT_MAX;
 
-    private final InstantGenerator delegate;
-
     public LocalDateTimeGenerator(final GeneratorContext context) {
         super(context, DEFAULT_MIN, DEFAULT_MAX);
-
-        delegate = new InstantGenerator(context);
     }
 
     @Override
@@ -104,8 +100,9 @@ public class LocalDateTimeGenerator extends JavaTimeTemporalGenerator<LocalDateT
 
     @Override
     protected LocalDateTime tryGenerateNonNull(final Random random) {
-        delegate.range(min.toInstant(ZONE_OFFSET), max.toInstant(ZONE_OFFSET));
-        final LocalDateTime result = LocalDateTime.ofInstant(delegate.generate(random), ZONE_OFFSET);
+        final EpochSecondRange range = epochSecondRange(value -> value.toInstant(ZONE_OFFSET));
+        final long sec = range.nextSecond(random);
+        final LocalDateTime result = LocalDateTime.ofEpochSecond(sec, range.nextNano(random, sec), ZONE_OFFSET);
         return truncateTo == null ? result : result.truncatedTo(truncateTo);
     }
 }
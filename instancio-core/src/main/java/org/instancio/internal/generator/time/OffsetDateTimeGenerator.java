@@ -33,11 +33,8 @@ public class OffsetDateTimeGenerator extends JavaTimeTemporalGenerator<OffsetDat
     static final OffsetDateTime DEFAULT_MIN = Constants.DEFAULT_MIN.atOffset(ZONE_OFFSET);
     static final OffsetDateTime DEFAULT_MAX = Constants.DEFAULT_MAX.atOffset(ZONE_OFFSET);
 
-    private final LocalDateTimeGenerator delegate;
-
     public OffsetDateTimeGenerator(final GeneratorContext context) {
         super(context, DEFAULT_MIN, DEFAULT_MAX);
-        delegate = new LocalDateTimeGenerator(context);
     }
 
     @Override
@@ -104,8 +101,10 @@ public class OffsetDateTimeGenerator extends JavaTimeTemporalGenerator<OffsetDat
 
     @Override
     protected OffsetDateTime tryGenerateNonNull(final Random random) {
-        delegate.range(min.toLocalDateTime(), max.toLocalDateTime());
-        final LocalDateTime ldt = delegate.tryGenerateNonNull(random);
+        // The local date-time of the bounds is used, ignoring their offsets
+        final EpochSecondRange range = epochSecondRange(value -> value.toLocalDateTime().toInstant(ZONE_OFFSET));
+        final long sec = range.nextSecond(random);
+        final LocalDateTime ldt = LocalDateTime.ofEpochSecond(sec, range.nextNano(random, sec), ZONE_OFFSET);
         final OffsetDateTime result = OffsetDateTime.of(ldt, ZONE_OFFSET);
         return truncateTo == null ? result : result.truncatedTo(truncateTo);
     }
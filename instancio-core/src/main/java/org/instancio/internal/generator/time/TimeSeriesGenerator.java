@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.time;
+
+import org.instancio.Random;
+import org.instancio.generator.GeneratorContext;
+import org.instancio.generator.specs.TimeSeriesSpec;
+import org.instancio.internal.ApiValidator;
+import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.util.Fail;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+
+public class TimeSeriesGenerator extends AbstractGenerator<Instant> implements TimeSeriesSpec {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    // interval and jitter are stored as nanos; the limit ensures
+    // their sum fits into a long
+    private static final Duration MAX_INTERVAL = Duration.ofDays(36_500);
+
+    private @Nullable Instant start;
+    private @Nullable Instant previous;
+    private long intervalNanos = NANOS_PER_SECOND;
+    private long jitterNanos;
+
+    public TimeSeriesGenerator(final GeneratorContext context) {
+        super(context);
+    }
+
+    @Override
+    public String apiMethod() {
+        return "timeSeries()";
+    }
+
+    @Override
+    public TimeSeriesGenerator start(final Instant start) {
+        this.start = ApiValidator.notNull(start, "time series 'start' must not be null");
+        this.previous = null;
+        return this;
+    }
+
+    @Override
+    public TimeSeriesGenerator interval(final Duration interval) {
+        ApiValidator.notNull(interval, "time series 'interval' must not be null");
+        ApiValidator.isTrue(!interval.isNegative() && !interval.isZero(),
+                "time series interval must be positive: %s", interval);
+        ApiValidator.isTrue(interval.compareTo(MAX_INTERVAL) <= 0,
+                "time series interval must not exceed %s: %s", MAX_INTERVAL, interval);
+
+        this.intervalNanos = interval.toNanos();
+        return this;
+    }
+
+    @Override
+    public TimeSeriesGenerator jitter(final Duration jitter) {
+        ApiValidator.notNull(jitter, "time series 'jitter' must not be null");
+        ApiValidator.isFalse(jitter.isNegative(), "time series jitter must not be negative: %s", jitter);
+        ApiValidator.isTrue(jitter.compareTo(MAX_INTERVAL) <= 0,
+                "time series jitter must not exceed %s: %s", MAX_INTERVAL, jitter);
+
+        this.jitterNanos = jitter.toNanos();
+        return this;
+    }
+
+    @Override
+    public TimeSeriesGenerator nullable() {
+        super.nullable();
+        return this;
+    }
+
+    @Override
+    protected Instant tryGenerateNonNull(final Random random) {
+        // Validated here since interval() and jitter() may be called in any order
+        if (jitterNanos >= intervalNanos) {
+            throw Fail.withUsageError("time series jitter must be less than the interval: %s, %s",
+                    Duration.ofNanos(jitterNanos), Duration.ofNanos(intervalNanos));
+        }
+
+        // the next value is computed lazily, so that the last value
+        // of a series can be returned even if it cannot be followed
+        final Instant current = previous == null
+                ? getStart(random)
+                : nextValue(previous, random);
+
+        previous = current;
+        return current;
+    }
+
+    private Instant getStart(final Random random) {
+        Instant result = start;
+        if (result == null) {
+            result = Instant.ofEpochSecond(random.longRange(
+                    InstantGenerator.DEFAULT_MIN.getEpochSecond(),
+                    InstantGenerator.DEFAULT_MAX.getEpochSecond()));
+            start = result;
+        }
+        return result;
+    }
+
+    private Instant nextValue(final Instant current, final Random random) {
+        final long step = jitterNanos == 0
+                ? intervalNanos
+                : intervalNanos + random.longRange(-jitterNanos, jitterNanos);
+
+        if (current.isAfter(Instant.MAX.minusNanos(step))) {
+            throw Fail.withUsageError("time series exceeded the maximum instant %s"
+                            + " (start: %s, interval: %s, jitter: %s)",
+                    Instant.MAX, start, Duration.ofNanos(intervalNanos), Duration.ofNanos(jitterNanos));
+        }
+        return current.plusNanos(step);
+    }
+}
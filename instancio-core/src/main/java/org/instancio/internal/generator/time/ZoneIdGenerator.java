@@ -36,6 +36,16 @@ public class ZoneIdGenerator extends AbstractGenerator<ZoneId> {
 
     @Override
     protected ZoneId tryGenerateNonNull(final Random random) {
-        return ZoneId.of(random.oneOf(ZoneId.getAvailableZoneIds()));
+        return random.oneOf(ZoneIds.VALUES);
+    }
+
+    /**
+     * Zone IDs are resolved once, since {@link ZoneId#getAvailableZoneIds()}
+     * returns a new set on each invocation.
+     */
+    private static final class ZoneIds {
+        private static final ZoneId[] VALUES = ZoneId.getAvailableZoneIds().stream()
+                .map(ZoneId::of)
+                .toArray(ZoneId[]::new);
     }
 }
@@ -21,6 +21,7 @@ import org.instancio.generator.specs.ZonedDateTimeSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.util.Constants;
 
+import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalUnit;
 
@@ -32,12 +33,8 @@ public class ZonedDateTimeGenerator extends JavaTimeTemporalGenerator<ZonedDateT
     static final ZonedDateTime DEFAULT_MIN = Constants.DEFAULT_MIN.atZone(ZONE_OFFSET);
     static final ZonedDateTime DEFAULT_MAX = Constants.DEFAULT_MAX.atZone(ZONE_OFFSET);
 
-    private final InstantGenerator delegate;
-
     public ZonedDateTimeGenerator(final GeneratorContext context) {
         super(context, DEFAULT_MIN, DEFAULT_MAX);
-
-        delegate = new InstantGenerator(context);
     }
 
     @Override
@@ -104,8 +101,10 @@ public class ZonedDateTimeGenerator extends JavaTimeTemporalGenerator<ZonedDateT
 
     @Override
     public ZonedDateTime tryGenerateNonNull(final Random random) {
-        delegate.range(min.toInstant(), max.toInstant());
-        final ZonedDateTime result = ZonedDateTime.ofInstant(delegate.tryGenerateNonNull(random), ZONE_OFFSET);
+        final EpochSecondRange range = epochSecondRange(ZonedDateTime::toInstant);
+        final long sec = range.nextSecond(random);
+        final LocalDateTime ldt = LocalDateTime.ofEpochSecond(sec, range.nextNano(random, sec), ZONE_OFFSET);
+        final ZonedDateTime result = ZonedDateTime.of(ldt, ZONE_OFFSET);
         return truncateTo == null ? result : result.truncatedTo(truncateTo);
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Domain of boolean values. A probability of {@code 0} or {@code 1}
+ * restricts the domain to {@code false} or {@code true}, respectively.
+ *
+ * @param probability the probability of generating {@code true}
+ */
+public record BooleanDomain(double probability) implements FiniteDomain {
+
+    @Override
+    public long size() {
+        return probability == 0 || probability == 1 ? 1 : 2;
+    }
+
+    @Override
+    public Object valueAt(final long index) {
+        return size() == 1 ? probability == 1 : index == 1;
+    }
+
+    @Override
+    public long indexOf(@Nullable final Object value) {
+        if (!(value instanceof Boolean b) || (size() == 1 && b != (probability == 1))) {
+            return -1;
+        }
+        return size() == 1 || !b ? 0 : 1;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Domain of enum constants.
+ *
+ * @param constants the constants, in a fixed order
+ */
+public record EnumDomain(List<? extends Enum<?>> constants) implements FiniteDomain {
+
+    public EnumDomain {
+        constants = List.copyOf(constants);
+    }
+
+    @Override
+    public long size() {
+        return constants.size();
+    }
+
+    @Override
+    public Object valueAt(final long index) {
+        return constants.get((int) index);
+    }
+
+    @Override
+    public long indexOf(@Nullable final Object value) {
+        return value == null ? -1 : constants.indexOf(value);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+/**
+ * A seeded bijection over {@code [0, size)} based on a balanced Feistel
+ * network. Indices are mapped within the smallest even power of two
+ * covering the range, and results outside the range are re-encrypted
+ * until they fall within it (cycle walking). Since the block size is
+ * less than four times the range, few iterations are needed on average.
+ *
+ * <p>The permutation is stateless, so mapping an index and its
+ * {@linkplain #inverse(long) inverse} require constant memory.
+ */
+public final class FeistelPermutation {
+
+    private static final int ROUNDS = 4;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys = new long[ROUNDS];
+
+    /**
+     * Creates a permutation of {@code [0, size)}.
+     *
+     * @param size the number of elements, must be positive
+     * @param seed for deriving round keys
+     */
+    public FeistelPermutation(final long size, final long seed) {
+        this.size = size;
+
+        // number of bits needed to represent (size - 1), rounded up to an even number
+        final int bits = Math.max(2, Long.SIZE - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+
+        long state = seed;
+        for (int i = 0; i < ROUNDS; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            keys[i] = mix(state);
+        }
+    }
+
+    /**
+     * Returns the element the given index is mapped to.
+     *
+     * @param index from {@code 0} to {@code size - 1}
+     * @return the mapped element, from {@code 0} to {@code size - 1}
+     */
+    public long apply(final long index) {
+        long x = index;
+        do {
+            x = encrypt(x);
+        } while (Long.compareUnsigned(x, size) >= 0);
+        return x;
+    }
+
+    /**
+     * Returns the index that is mapped to the given element.
+     *
+     * @param element from {@code 0} to {@code size - 1}
+     * @return the index, such that {@code apply(index) == element}
+     */
+    public long inverse(final long element) {
+        long x = element;
+        do {
+            x = decrypt(x);
+        } while (Long.compareUnsigned(x, size) >= 0);
+        return x;
+    }
+
+    private long encrypt(final long x) {
+        long left = x >>> halfBits;
+        long right = x & halfMask;
+        for (int i = 0; i < ROUNDS; i++) {
+            final long next = left ^ (mix(right ^ keys[i]) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+
+    private long decrypt(final long x) {
+        long left = x >>> halfBits;
+        long right = x & halfMask;
+        for (int i = ROUNDS - 1; i >= 0; i--) {
+            final long prev = right ^ (mix(left ^ keys[i]) & halfMask);
+            right = left;
+            left = prev;
+        }
+        return (left << halfBits) | right;
+    }
+
+    // SplitMix64 finaliser
+    private static long mix(final long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A finite set of values that a generator draws from,
+ * indexed from {@code 0} to {@code size() - 1}.
+ *
+ * <p>Implementations must implement {@code equals()} so that
+ * identically configured generators produce equal domains.
+ */
+public interface FiniteDomain {
+
+    /**
+     * Returns the number of values in this domain.
+     *
+     * @return the number of values, always positive
+     */
+    long size();
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index of the value, from {@code 0} to {@code size() - 1}
+     * @return the value at the given index
+     */
+    Object valueAt(long index);
+
+    /**
+     * Returns the index of the given value.
+     *
+     * @param value to look up
+     * @return the index of the value, or {@code -1} if the value
+     * is not in this domain
+     */
+    long indexOf(@Nullable Object value);
+}
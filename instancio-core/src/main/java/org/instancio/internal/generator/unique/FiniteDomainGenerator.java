@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A generator that can describe the values it produces
+ * as a {@link FiniteDomain}.
+ */
+public interface FiniteDomainGenerator {
+
+    /**
+     * Returns the domain of values produced by this generator
+     * with its current configuration.
+     *
+     * @return the domain, or {@code null} if the generator's values
+     * cannot be represented as a finite domain, for example,
+     * if the generator is nullable
+     */
+    @Nullable
+    FiniteDomain getFiniteDomain();
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.instancio.internal.util.Fail;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Domain of integral values in the {@code [min, max]} range.
+ *
+ * @param type the boxed type of values: {@code Byte}, {@code Short},
+ *             {@code Integer}, or {@code Long}
+ * @param min  the lower bound, inclusive
+ * @param max  the upper bound, inclusive
+ */
+public record IntegralRangeDomain(Class<?> type, long min, long max) implements FiniteDomain {
+
+    /**
+     * Creates a domain for the given range.
+     *
+     * @param type boxed type of values
+     * @param min  the lower bound, inclusive
+     * @param max  the upper bound, inclusive
+     * @return the domain, or {@code null} if the range is empty
+     * or contains more than {@code Long.MAX_VALUE} values
+     */
+    @Nullable
+    public static IntegralRangeDomain of(final Class<?> type, final long min, final long max) {
+        if (min > max || max - min < 0 || max - min == Long.MAX_VALUE) {
+            return null;
+        }
+        return new IntegralRangeDomain(type, min, max);
+    }
+
+    @Override
+    public long size() {
+        return max - min + 1;
+    }
+
+    @Override
+    public Object valueAt(final long index) {
+        final long value = min + index;
+
+        if (type == Integer.class) {
+            return (int) value;
+        } else if (type == Long.class) {
+            return value;
+        } else if (type == Short.class) {
+            return (short) value;
+        } else if (type == Byte.class) {
+            return (byte) value;
+        }
+        throw Fail.withInternalError("unsupported type: %s", type);
+    }
+
+    @Override
+    public long indexOf(@Nullable final Object value) {
+        if (value == null || value.getClass() != type) {
+            return -1;
+        }
+        final long v = ((Number) value).longValue();
+        return v >= min && v <= max ? v - min : -1;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Domain of fixed-length strings composed of characters from an alphabet,
+ * with an optional prefix and suffix. The index of a string is the
+ * value of its characters interpreted as digits in base {@code alphabet.length()}.
+ *
+ * @param alphabet characters that strings are composed of, with no duplicates
+ * @param length   the number of characters, excluding the prefix and suffix
+ * @param prefix   the prefix
+ * @param suffix   the suffix
+ */
+public record StringDomain(String alphabet, int length, String prefix, String suffix) implements FiniteDomain {
+
+    /**
+     * Creates a domain of strings.
+     *
+     * @param alphabet characters that strings are composed of
+     * @param length   the number of characters, excluding the prefix and suffix
+     * @param prefix   the prefix, may be {@code null}
+     * @param suffix   the suffix, may be {@code null}
+     * @return the domain, or {@code null} if the alphabet is empty or contains
+     * duplicates, or the domain contains more than {@code Long.MAX_VALUE} values
+     */
+    @Nullable
+    public static StringDomain of(
+            final String alphabet,
+            final int length,
+            @Nullable final String prefix,
+            @Nullable final String suffix) {
+
+        if (alphabet.isEmpty() || alphabet.chars().distinct().count() != alphabet.length()) {
+            return null;
+        }
+
+        try {
+            long size = 1;
+            for (int i = 0; i < length; i++) {
+                size = Math.multiplyExact(size, alphabet.length());
+            }
+        } catch (ArithmeticException ex) {
+            return null;
+        }
+        return new StringDomain(alphabet, length,
+                prefix == null ? "" : prefix,
+                suffix == null ? "" : suffix);
+    }
+
+    @Override
+    public long size() {
+        long size = 1;
+        for (int i = 0; i < length; i++) {
+            size *= alphabet.length();
+        }
+        return size;
+    }
+
+    @Override
+    public Object valueAt(final long index) {
+        final char[] chars = new char[prefix.length() + length + suffix.length()];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        suffix.getChars(0, suffix.length(), chars, prefix.length() + length);
+
+        final int base = alphabet.length();
+        long remaining = index;
+        for (int i = prefix.length() + length - 1; i >= prefix.length(); i--) {
+            chars[i] = alphabet.charAt((int) (remaining % base));
+            remaining /= base;
+        }
+        return new String(chars);
+    }
+
+    @Override
+    public long indexOf(@Nullable final Object value) {
+        if (!(value instanceof String s)
+                || s.length() != prefix.length() + length + suffix.length()
+                || !s.startsWith(prefix)
+                || !s.endsWith(suffix)) {
+            return -1;
+        }
+
+        final int base = alphabet.length();
+        long index = 0;
+        for (int i = prefix.length(); i < prefix.length() + length; i++) {
+            final int digit = alphabet.indexOf(s.charAt(i));
+            if (digit < 0) {
+                return -1;
+            }
+            index = index * base + digit;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A sequence of all values of a {@link FiniteDomain} in a random order,
+ * without repetitions. The order is defined by a seeded
+ * {@link FeistelPermutation}, therefore only the current position
+ * is stored, regardless of the number of values produced.
+ */
+public final class UniqueValueSequence {
+
+    private final FiniteDomain domain;
+    private final FeistelPermutation permutation;
+    private long position;
+
+    public UniqueValueSequence(final FiniteDomain domain, final long seed) {
+        this.domain = domain;
+        this.permutation = new FeistelPermutation(domain.size(), seed);
+    }
+
+    public FiniteDomain getDomain() {
+        return domain;
+    }
+
+    /**
+     * Returns the number of values consumed so far.
+     *
+     * @return the current position
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    public boolean hasNext() {
+        return position < domain.size();
+    }
+
+    /**
+     * Returns the value at the current position and advances the position.
+     *
+     * @return the next value
+     */
+    public Object next() {
+        return domain.valueAt(permutation.apply(position++));
+    }
+
+    /**
+     * Returns the position of the given value in this sequence.
+     *
+     * @param value to look up
+     * @return the position of the value, or {@code -1}
+     * if the value is not in the domain
+     */
+    public long positionOf(@Nullable final Object value) {
+        final long index = domain.indexOf(value);
+        return index < 0 ? -1 : permutation.inverse(index);
+    }
+}
@@ -28,12 +28,10 @@ import org.instancio.internal.util.CollectionUtils;
 import org.instancio.internal.util.ExceptionUtils;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.NumberUtils;
-import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.Sonar;
 import org.instancio.settings.Keys;
 import org.jspecify.annotations.Nullable;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -142,8 +140,7 @@ public class CollectionGenerator<T extends @Nullable Object>
         requireNonNull(collectionType);
 
         try {
-            Constructor<?> ctor = ReflectionUtils.setAccessible(collectionType.getDeclaredConstructor());
-            return (Collection<T>) ctor.newInstance();
+            return (Collection<T>) ContainerInstantiator.newInstance(collectionType);
         } catch (Exception ex) {
             final String msg = String.format("Error creating instance of: %s", collectionType);
 
@@ -169,6 +166,7 @@ public class CollectionGenerator<T extends @Nullable Object>
                 .with(InternalGeneratorHint.builder()
                         .targetClass(collectionType)
                         .nullableResult(isNullable())
+                        .presizable(true)
                         .explicitMaxSize(explicitMaxSize)
                         .build())
                 .build();
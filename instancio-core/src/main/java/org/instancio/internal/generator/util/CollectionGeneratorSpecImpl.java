@@ -18,7 +18,6 @@ package org.instancio.internal.generator.util;
 import org.instancio.Random;
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.GeneratorContext;
-import org.instancio.internal.util.ReflectionUtils;
 
 import java.util.Collection;
 
@@ -36,7 +35,7 @@ public class CollectionGeneratorSpecImpl<T> extends CollectionGenerator<T> {
     @SuppressWarnings("unchecked")
     protected Collection<T> tryGenerateNonNull(final Random random) {
         if (collectionType != null) {
-            return (Collection<T>) ReflectionUtils.newInstance(collectionType);
+            return (Collection<T>) ContainerInstantiator.newInstance(collectionType);
         }
         throw new InstancioException(getClass() + " should delegate to another generator");
     }
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.util;
+
+import org.instancio.exception.InstancioException;
+import org.instancio.internal.util.ReflectionUtils;
+import org.instancio.internal.util.Sonar;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Vector;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Creates collection and map instances for the built-in generators.
+ *
+ * <p>No-argument constructors are resolved once per type and
+ * invoked via a {@link MethodHandle} instead of being looked up
+ * reflectively for every instance.
+ *
+ * <p>In addition, common JDK types can be created with an initial
+ * capacity for a given number of elements. This avoids repeatedly
+ * growing (and, for hash-based types, rehashing) large containers
+ * while they are being populated.
+ */
+public final class ContainerInstantiator {
+
+    private static final MethodType NO_ARG_CONSTRUCTOR = MethodType.methodType(Object.class);
+
+    /**
+     * Containers with up to this many elements fit within the default
+     * capacity of {@link HashMap}, so there is no benefit in pre-sizing them.
+     */
+    private static final int DEFAULT_CAPACITY = 12;
+
+    private static final Map<Class<?>, IntFunction<Object>> PRESIZED_FACTORIES = presizedFactories();
+
+    private static final ClassValue<MethodHandle> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> type) {
+            try {
+                final Constructor<?> ctor = ReflectionUtils.setAccessible(type.getDeclaredConstructor());
+                return MethodHandles.lookup().unreflectConstructor(ctor).asType(NO_ARG_CONSTRUCTOR);
+            } catch (ReflectiveOperationException ex) {
+                throw new InstancioException("Error resolving the default constructor of " + type, ex);
+            }
+        }
+    };
+
+    /**
+     * Creates an instance of the given type using its no-argument constructor.
+     *
+     * @param type to instantiate
+     * @return a new instance
+     */
+    @SuppressWarnings(Sonar.CATCH_EXCEPTION_INSTEAD_OF_THROWABLE)
+    public static Object newInstance(final Class<?> type) {
+        final MethodHandle ctor = CONSTRUCTORS.get(type);
+        try {
+            return (Object) ctor.invokeExact();
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new InstancioException("Error instantiating " + type, ex);
+        }
+    }
+
+    /**
+     * Creates an instance of the given type with sufficient capacity
+     * for the expected number of elements.
+     *
+     * @param type         to instantiate
+     * @param expectedSize number of elements that will be added
+     * @return a new instance, or {@code null} if the type does not
+     * support pre-sizing or the expected size fits within its
+     * default capacity
+     */
+    @Nullable
+    public static Object newPresizedInstance(final Class<?> type, final int expectedSize) {
+        if (expectedSize <= DEFAULT_CAPACITY) {
+            return null;
+        }
+        final IntFunction<Object> factory = PRESIZED_FACTORIES.get(type);
+        return factory == null ? null : factory.apply(expectedSize);
+    }
+
+    /**
+     * Returns the initial capacity of a hash-based container with the default
+     * load factor that can hold the given number of elements without rehashing.
+     */
+    private static int hashCapacity(final int expectedSize) {
+        return (int) Math.ceil(expectedSize / 0.75);
+    }
+
+    private static Map<Class<?>, IntFunction<Object>> presizedFactories() {
+        final Map<Class<?>, IntFunction<Object>> map = new HashMap<>();
+        map.put(ArrayList.class, ArrayList::new);
+        map.put(Vector.class, Vector::new);
+        map.put(ArrayDeque.class, ArrayDeque::new);
+        map.put(HashSet.class, n -> new HashSet<>(hashCapacity(n)));
+        map.put(LinkedHashSet.class, n -> new LinkedHashSet<>(hashCapacity(n)));
+        map.put(HashMap.class, n -> new HashMap<>(hashCapacity(n)));
+        map.put(LinkedHashMap.class, n -> new LinkedHashMap<>(hashCapacity(n)));
+        map.put(Hashtable.class, n -> new Hashtable<>(hashCapacity(n)));
+        map.put(WeakHashMap.class, n -> new WeakHashMap<>(hashCapacity(n)));
+        // these constructors take the expected number of elements
+        map.put(IdentityHashMap.class, IdentityHashMap::new);
+        map.put(ConcurrentHashMap.class, ConcurrentHashMap::new);
+        return Map.copyOf(map);
+    }
+
+    private ContainerInstantiator() {
+        // non-instantiable
+    }
+}
@@ -24,6 +24,9 @@ import java.util.Locale;
 
 public class LocaleGenerator extends AbstractGenerator<Locale> {
 
+    // Locale.getAvailableLocales() returns a new copy of the array on each invocation
+    private static final Locale[] LOCALES = Locale.getAvailableLocales();
+
     public LocaleGenerator(final GeneratorContext context) {
         super(context);
     }
@@ -36,6 +39,6 @@ public class LocaleGenerator extends AbstractGenerator<Locale> {
 
     @Override
     public Locale tryGenerateNonNull(final Random random) {
-        return random.oneOf(Locale.getAvailableLocales());
+        return random.oneOf(LOCALES);
     }
 }
@@ -27,12 +27,10 @@ import org.instancio.internal.generator.InternalGeneratorHint;
 import org.instancio.internal.util.ExceptionUtils;
 import org.instancio.internal.util.Fail;
 import org.instancio.internal.util.NumberUtils;
-import org.instancio.internal.util.ReflectionUtils;
 import org.instancio.internal.util.Sonar;
 import org.instancio.settings.Keys;
 import org.jspecify.annotations.Nullable;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -147,8 +145,7 @@ public class MapGenerator<K extends @Nullable Object, V extends @Nullable Object
         requireNonNull(mapType);
 
         try {
-            Constructor<?> ctor = ReflectionUtils.setAccessible(mapType.getDeclaredConstructor());
-            return (Map<K, V>) ctor.newInstance();
+            return (Map<K, V>) ContainerInstantiator.newInstance(mapType);
         } catch (Exception ex) {
             final String msg = String.format("Error creating instance of: %s", mapType);
 
@@ -174,6 +171,7 @@ public class MapGenerator<K extends @Nullable Object, V extends @Nullable Object
                 .with(InternalGeneratorHint.builder()
                         .targetClass(mapType)
                         .nullableResult(isNullable())
+                        .presizable(true)
                         .build())
                 .build();
     }
@@ -18,7 +18,6 @@ package org.instancio.internal.generator.util;
 import org.instancio.Random;
 import org.instancio.exception.InstancioException;
 import org.instancio.generator.GeneratorContext;
-import org.instancio.internal.util.ReflectionUtils;
 
 import java.util.Map;
 
@@ -36,7 +35,7 @@ public class MapGeneratorSpecImpl<K, V> extends MapGenerator<K, V> {
     @SuppressWarnings("unchecked")
     public Map<K, V> tryGenerateNonNull(final Random random) {
         if (mapType != null) {
-            return (Map<K, V>) ReflectionUtils.newInstance(mapType);
+            return (Map<K, V>) ContainerInstantiator.newInstance(mapType);
         }
         throw new InstancioException(getClass() + " should delegate to another generator");
     }
@@ -24,7 +24,9 @@ import org.instancio.generator.specs.OneOfCollectionSpec;
 import org.instancio.internal.ApiValidator;
 import org.instancio.internal.generator.AbstractGenerator;
 import org.instancio.internal.generator.InternalGeneratorHint;
+import org.instancio.internal.random.AliasTable;
 import org.instancio.internal.util.Sonar;
+import org.jspecify.annotations.Nullable;
 
 import java.util.Collection;
 
@@ -39,7 +41,12 @@ public class OneOfCollectionGenerator<T> extends AbstractGenerator<T>
                     .build())
             .build();
 
-    private Collection<T> values;
+    /**
+     * A snapshot of the collection, so that a value can be
+     * selected in constant time regardless of the collection type.
+     */
+    private Object[] values;
+    private @Nullable AliasTable weights;
     private boolean allowRandomValues;
 
     public OneOfCollectionGenerator(final GeneratorContext context) {
@@ -54,7 +61,15 @@ public class OneOfCollectionGenerator<T> extends AbstractGenerator<T>
     @Initializer
     @Override
     public OneOfCollectionGenerator<T> oneOf(final Collection<T> values) {
-        this.values = ApiValidator.notEmpty(values, "Collection must have at least one element");
+        this.values = ApiValidator.notEmpty(values, "Collection must have at least one element").toArray();
+        this.weights = null;
+        return this;
+    }
+
+    @Override
+    public OneOfCollectionGenerator<T> weights(final double... weights) {
+        ApiValidator.validateWeights(weights, values.length);
+        this.weights = new AliasTable(weights);
         return this;
     }
 
@@ -71,8 +86,12 @@ public class OneOfCollectionGenerator<T> extends AbstractGenerator<T>
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T tryGenerateNonNull(final Random random) {
-        return random.oneOf(values);
+        if (weights != null) {
+            return (T) values[weights.nextIndex(random)];
+        }
+        return (T) random.oneOf(values);
     }
 
     @Override
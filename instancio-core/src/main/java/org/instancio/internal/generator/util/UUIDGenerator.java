@@ -19,11 +19,30 @@ import org.instancio.Random;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.UUIDSpec;
 import org.instancio.internal.generator.AbstractGenerator;
+import org.instancio.internal.util.Constants;
 
 import java.util.UUID;
 
 public class UUIDGenerator extends AbstractGenerator<UUID> implements UUIDSpec {
 
+    private static final long VERSION_MASK = 0xFFFFFFFFFFFF0FFFL;
+    private static final long VERSION_4 = 0x0000000000004000L;
+    private static final long VERSION_7 = 0x0000000000007000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_IETF = 0x8000000000000000L;
+
+    private static final long MIN_TIMESTAMP = Constants.DEFAULT_MIN.toInstant(Constants.ZONE_OFFSET).toEpochMilli();
+    private static final long MAX_TIMESTAMP = Constants.DEFAULT_MAX.toInstant(Constants.ZONE_OFFSET).toEpochMilli();
+    private static final int MAX_TIMESTAMP_INCREMENT = 1000;
+
+    private boolean version7;
+
+    /**
+     * Timestamp of the last version 7 UUID, in epoch milliseconds,
+     * or -1 if none have been generated yet.
+     */
+    private long timestamp = -1;
+
     public UUIDGenerator(final GeneratorContext context) {
         super(context);
     }
@@ -33,6 +52,12 @@ public class UUIDGenerator extends AbstractGenerator<UUID> implements UUIDSpec {
         return "uuid()";
     }
 
+    @Override
+    public UUIDGenerator version7() {
+        version7 = true;
+        return this;
+    }
+
     @Override
     public UUIDGenerator nullable() {
         super.nullable();
@@ -41,11 +66,31 @@ public class UUIDGenerator extends AbstractGenerator<UUID> implements UUIDSpec {
 
     @Override
     public UUID tryGenerateNonNull(final Random random) {
-        final byte[] randomBytes = new byte[16];
-        for (int i = 0; i < randomBytes.length; i++) {
-            randomBytes[i] = random.byteRange(Byte.MIN_VALUE, Byte.MAX_VALUE);
+        final long msb = version7
+                ? nextVersion7MostSigBits(random)
+                : (nextLong(random) & VERSION_MASK) | VERSION_4;
+
+        final long lsb = (nextLong(random) & VARIANT_MASK) | VARIANT_IETF;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * The first timestamp is chosen at random. Subsequent timestamps
+     * are incremented by a random positive number of milliseconds,
+     * which keeps UUIDs ordered while still being reproducible
+     * for a given seed.
+     */
+    private long nextVersion7MostSigBits(final Random random) {
+        if (timestamp < 0) {
+            timestamp = random.longRange(MIN_TIMESTAMP, MAX_TIMESTAMP);
+        } else {
+            timestamp += random.intRange(1, MAX_TIMESTAMP_INCREMENT);
         }
-        return UUID.nameUUIDFromBytes(randomBytes);
+        final long randA = random.intRange(0, 0xFFF);
+        return (timestamp << 16) | VERSION_7 | randA;
     }
 
+    private static long nextLong(final Random random) {
+        return random.longRange(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
 }
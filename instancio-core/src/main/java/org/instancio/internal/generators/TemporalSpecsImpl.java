@@ -26,6 +26,7 @@ import org.instancio.generator.specs.OffsetDateTimeSpec;
 import org.instancio.generator.specs.OffsetTimeSpec;
 import org.instancio.generator.specs.PeriodSpec;
 import org.instancio.generator.specs.TemporalSpec;
+import org.instancio.generator.specs.TimeSeriesSpec;
 import org.instancio.generator.specs.YearMonthSpec;
 import org.instancio.generator.specs.YearSpec;
 import org.instancio.generator.specs.ZonedDateTimeSpec;
@@ -41,6 +42,7 @@ import org.instancio.internal.generator.time.MonthDayGenerator;
 import org.instancio.internal.generator.time.OffsetDateTimeGenerator;
 import org.instancio.internal.generator.time.OffsetTimeGenerator;
 import org.instancio.internal.generator.time.PeriodGenerator;
+import org.instancio.internal.generator.time.TimeSeriesGenerator;
 import org.instancio.internal.generator.time.YearGenerator;
 import org.instancio.internal.generator.time.YearMonthGenerator;
 import org.instancio.internal.generator.time.ZonedDateTimeGenerator;
@@ -139,4 +141,9 @@ final class TemporalSpecsImpl implements TemporalSpecs {
     public TemporalSpec<Calendar> calendar() {
         return new CalendarGenerator(context);
     }
+
+    @Override
+    public TimeSeriesSpec timeSeries() {
+        return new TimeSeriesGenerator(context);
+    }
 }
@@ -18,6 +18,7 @@ package org.instancio.internal.generators;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.generator.specs.CsvSpec;
 import org.instancio.generator.specs.LoremIpsumSpec;
+import org.instancio.generator.specs.RegexSpec;
 import org.instancio.generator.specs.TextPatternSpec;
 import org.instancio.generator.specs.UUIDStringSpec;
 import org.instancio.generator.specs.WordSpec;
@@ -25,6 +26,7 @@ import org.instancio.generator.specs.WordTemplateSpec;
 import org.instancio.generators.TextSpecs;
 import org.instancio.internal.generator.text.CsvGenerator;
 import org.instancio.internal.generator.text.LoremIpsumGenerator;
+import org.instancio.internal.generator.text.RegexGenerator;
 import org.instancio.internal.generator.text.TextPatternGenerator;
 import org.instancio.internal.generator.text.UUIDStringGenerator;
 import org.instancio.internal.generator.text.WordGenerator;
@@ -53,6 +55,11 @@ final class TextSpecsImpl implements TextSpecs {
         return new TextPatternGenerator(context, pattern);
     }
 
+    @Override
+    public RegexSpec regex(final String regex) {
+        return new RegexGenerator(context, regex);
+    }
+
     @Override
     public UUIDStringSpec uuid() {
         return new UUIDStringGenerator(context);
@@ -19,6 +19,7 @@ import org.instancio.internal.context.ModelContext;
 import org.instancio.internal.spi.InternalExtension;
 import org.instancio.internal.spi.InternalExtension.InternalNodeFilter;
 import org.instancio.internal.spi.InternalExtension.InternalNodeFilter.Decision;
+import org.instancio.internal.spi.InternalExtensions;
 import org.instancio.internal.util.StringUtils;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
@@ -88,15 +89,8 @@ final class NodePruner {
     }
 
     private static List<InternalNodeFilter> getNodeFilters(final ModelContext modelContext) {
-        final List<InternalExtension> extensions = modelContext.getInternalExtensions();
-        final List<InternalNodeFilter> filters = new ArrayList<>(extensions.size());
-        for (InternalExtension extension : extensions) {
-            final InternalNodeFilter filter = extension.getNodeFilter();
-            if (filter != null) {
-                filters.add(filter);
-            }
-        }
-        return filters;
+        return InternalExtensions.collect(
+                modelContext.getInternalExtensions(), InternalExtension::getNodeFilter);
     }
 
     private static List<Pattern> getIgnorePatterns(final Settings settings) {
@@ -16,6 +16,7 @@
 package org.instancio.internal.nodes;
 
 import org.instancio.internal.RootType;
+import org.instancio.internal.reflect.GenericTypeCache;
 import org.instancio.internal.util.ObjectUtils;
 import org.instancio.internal.util.TypeUtils;
 import org.jspecify.annotations.Nullable;
@@ -82,6 +83,19 @@ public final class NodeTypeMap {
      * @return type map
      */
     private Map<Type, Type> buildTypeMap(final Type type, final Map<Type, Type> subtypeMappingTypeMap) {
+        if (type instanceof ParameterizedType parameterizedType) {
+            // shared mapping for types whose arguments do not depend on the root type
+            final Map<Type, Type> typeArgumentMap = GenericTypeCache.getTypeArgumentMap(parameterizedType);
+            if (typeArgumentMap != null) {
+                if (subtypeMappingTypeMap.isEmpty()) {
+                    return typeArgumentMap;
+                }
+                final Map<Type, Type> map = new HashMap<>(subtypeMappingTypeMap);
+                map.putAll(typeArgumentMap);
+                return map;
+            }
+        }
+
         final Map<Type, Type> map = new HashMap<>(subtypeMappingTypeMap);
 
         if (type instanceof Class) {
@@ -36,6 +36,13 @@ import java.util.Map;
 class TypeHelper {
     private static final Logger LOG = LoggerFactory.getLogger(TypeHelper.class);
 
+    private static final ClassValue<Map<Type, Type>> SUPERCLASS_TYPE_MAPS = new ClassValue<>() {
+        @Override
+        protected Map<Type, Type> computeValue(final Class<?> type) {
+            return computeSuperclassTypeMap(type);
+        }
+    };
+
     private final RootType rootType;
 
     TypeHelper(final RootType rootType) {
@@ -79,7 +86,19 @@ class TypeHelper {
 
     }
 
+    /**
+     * Returns type mappings declared by the generic superclasses of
+     * the given class. The result depends only on the class and is
+     * therefore cached.
+     *
+     * @param targetClass the class whose hierarchy to traverse
+     * @return an unmodifiable type map
+     */
     Map<Type, Type> createSuperclassTypeMap(final Class<?> targetClass) {
+        return SUPERCLASS_TYPE_MAPS.get(targetClass);
+    }
+
+    private static Map<Type, Type> computeSuperclassTypeMap(final Class<?> targetClass) {
         Map<Type, Type> resultTypeMap = new HashMap<>();
 
         traverseHierarchy(targetClass, resultTypeMap);
@@ -89,10 +108,10 @@ class TypeHelper {
         }
 
         LOG.trace("Created superclass type map: {}", resultTypeMap);
-        return resultTypeMap;
+        return Collections.unmodifiableMap(resultTypeMap);
     }
 
-    private void traverseHierarchy(Class<?> clazz, Map<Type, Type> resultTypeMap) {
+    private static void traverseHierarchy(Class<?> clazz, Map<Type, Type> resultTypeMap) {
         if (clazz == Object.class) {
             return;
         }
@@ -22,19 +22,37 @@ import org.instancio.spi.InstancioServiceProvider.TypeResolver;
 import org.instancio.spi.InstancioSpiException;
 
 import java.lang.reflect.Type;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 class TypeResolverFacade {
 
     private final List<ProviderEntry<TypeResolver>> providerEntries;
+    private final Map<Class<?>, SubtypeResult> cache = new HashMap<>();
 
     TypeResolverFacade(final List<ProviderEntry<TypeResolver>> providerEntries) {
         this.providerEntries = providerEntries;
     }
 
     SubtypeResult resolve(final InternalNode node) {
+        if (providerEntries.isEmpty()) {
+            return SubtypeResult.empty();
+        }
+
+        final Class<?> targetClass = node.getTargetClass();
+        final SubtypeResult cached = cache.get(targetClass);
+        if (cached != null) {
+            return cached;
+        }
+
+        // a result can only be reused if every resolver
+        // consulted to obtain it depends on the target class alone
+        boolean cacheable = true;
+
         for (ProviderEntry<TypeResolver> entry : providerEntries) {
             final TypeResolver typeResolver = entry.getProvider();
+            cacheable &= typeResolver.isCacheable();
             final Type resolvedType = typeResolver.getSubtype(node);
 
             if (resolvedType != null) {
@@ -53,9 +71,16 @@ class TypeResolverFacade {
                             entry.getInstancioProviderClass(), resolvedType, originalTargetClass));
                 }
 
-                return SubtypeResult.of(resolvedType, validateSubtype);
+                final SubtypeResult result = SubtypeResult.of(resolvedType, validateSubtype);
+                if (cacheable) {
+                    cache.put(targetClass, result);
+                }
+                return result;
             }
         }
+        if (cacheable) {
+            cache.put(targetClass, SubtypeResult.empty());
+        }
         return SubtypeResult.empty();
     }
 
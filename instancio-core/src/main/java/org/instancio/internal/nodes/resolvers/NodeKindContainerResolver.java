@@ -19,18 +19,22 @@ import org.instancio.internal.nodes.NodeKind;
 import org.instancio.internal.nodes.NodeKindResolver;
 import org.instancio.internal.spi.InternalExtension;
 import org.instancio.internal.spi.InternalExtension.InternalContainerFactoryProvider;
+import org.instancio.internal.spi.InternalExtensions;
 
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 class NodeKindContainerResolver implements NodeKindResolver {
 
-    private final List<InternalExtension> internalExtensions;
+    private final List<InternalContainerFactoryProvider> containerFactoryProviders;
+    private final Map<Class<?>, Boolean> spiContainerCache = new HashMap<>();
 
     NodeKindContainerResolver(final List<InternalExtension> internalExtensions) {
-        this.internalExtensions = internalExtensions;
+        this.containerFactoryProviders = InternalExtensions.collect(
+                internalExtensions, InternalExtension::getContainerFactoryProvider);
     }
 
     @Override
@@ -46,9 +50,16 @@ class NodeKindContainerResolver implements NodeKindResolver {
     }
 
     private boolean isSpiDefinedContainer(final Class<?> targetClass) {
-        for (InternalExtension ext : internalExtensions) {
-            final InternalContainerFactoryProvider provider = ext.getContainerFactoryProvider();
-            if (provider != null && provider.isContainer(targetClass)) {
+        if (containerFactoryProviders.isEmpty()) {
+            return false;
+        }
+        // the same classes are resolved repeatedly while building the node tree
+        return spiContainerCache.computeIfAbsent(targetClass, this::isContainer);
+    }
+
+    private boolean isContainer(final Class<?> targetClass) {
+        for (InternalContainerFactoryProvider provider : containerFactoryProviders) {
+            if (provider.isContainer(targetClass)) {
                 return true;
             }
         }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.Random;
+
+/**
+ * A table for sampling indices according to a discrete probability
+ * distribution in constant time, regardless of the number of outcomes.
+ * <p>
+ * The table is built using Vose's variant of Walker's alias method.
+ * Each index {@code i} is assigned a probability {@code probability[i]}
+ * of being selected directly, and an alias that is selected otherwise.
+ * A sample therefore requires at most two random draws: one to pick
+ * an index uniformly, and one to choose between the index and its alias.
+ *
+ * <p>Weights must be validated by the caller: they must be
+ * non-negative and finite, with a positive and finite sum.
+ *
+ * @see <a href="https://www.keithschwarz.com/darts-dice-coins/">Darts, Dice, and Coins</a>
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+
+    public AliasTable(final double[] weights) {
+        final int n = weights.length;
+        this.probability = new double[n];
+        this.alias = new int[n];
+
+        double total = 0;
+        int heaviest = 0;
+        for (int i = 0; i < n; i++) {
+            total += weights[i];
+            if (weights[i] > weights[heaviest]) {
+                heaviest = i;
+            }
+        }
+
+        // Scale weights so that the average is 1, and split indices
+        // into those below the average (small) and the rest (large).
+        // Both work lists share a single array: small grows from
+        // the start, large grows from the end.
+        final double[] scaled = new double[n];
+        final int[] work = new int[n];
+        int small = 0;
+        int large = n;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1) {
+                work[small++] = i;
+            } else {
+                work[--large] = i;
+            }
+        }
+
+        while (small > 0 && large < n) {
+            final int s = work[--small];
+            final int l = work[large++];
+            probability[s] = scaled[s];
+            alias[s] = l;
+            scaled[l] = (scaled[l] + scaled[s]) - 1;
+            if (scaled[l] < 1) {
+                work[small++] = l;
+            } else {
+                work[--large] = l;
+            }
+        }
+
+        // Any remaining entries are (up to rounding error) exactly
+        // at the average. Outcomes with zero weight must never be
+        // selected, so those are aliased to the heaviest outcome.
+        while (large < n) {
+            final int l = work[large++];
+            probability[l] = 1;
+            alias[l] = l;
+        }
+        while (small > 0) {
+            final int s = work[--small];
+            probability[s] = weights[s] > 0 ? 1 : 0;
+            alias[s] = weights[s] > 0 ? s : heaviest;
+        }
+    }
+
+    /**
+     * Returns the number of outcomes in this table.
+     *
+     * @return number of outcomes
+     */
+    public int size() {
+        return probability.length;
+    }
+
+    /**
+     * Returns a random index, with each index selected
+     * with a probability proportional to its weight.
+     *
+     * @param random for selecting the index
+     * @return a random index
+     */
+    public int nextIndex(final Random random) {
+        final int i = random.intRange(0, probability.length - 1);
+        final double p = probability[i];
+        if (p >= 1) {
+            return i;
+        }
+        return random.doubleRange(0, 1) < p ? i : alias[i];
+    }
+}
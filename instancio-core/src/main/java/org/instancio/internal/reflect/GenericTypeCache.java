@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflect;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A cache of resolved generic types shared across models.
+ *
+ * <p>The same parameterised type, such as {@code Map<String, List<Item>>},
+ * typically occurs many times within a node hierarchy, and across models
+ * created for the same root type. This class ensures the mapping of type
+ * variables to type arguments is computed once per distinct type.
+ *
+ * <p>The caches are keyed by type equality, so the JDK's representation
+ * and {@link ParameterizedTypeImpl} share entries. Both keys and values
+ * are held weakly: an entry is only retained while the cached type or
+ * type argument map is still referenced, for example by the nodes of
+ * a model. The caches therefore do not prevent classes, or the class
+ * loaders that define them, from being unloaded.
+ *
+ * @since 6.0.0
+ */
+public final class GenericTypeCache {
+
+    private static final Map<ParameterizedType, WeakReference<ParameterizedTypeImpl>> INTERNED =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private static final Map<ParameterizedType, WeakReference<Map<Type, Type>>> TYPE_ARGUMENT_MAPS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private GenericTypeCache() {
+        // non-instantiable
+    }
+
+    static ParameterizedTypeImpl intern(final ParameterizedTypeImpl type) {
+        synchronized (INTERNED) {
+            final ParameterizedTypeImpl existing = get(INTERNED, type);
+            if (existing != null) {
+                return existing;
+            }
+            INTERNED.put(type, new WeakReference<>(type));
+            return type;
+        }
+    }
+
+    /**
+     * Returns a map of the raw type's type variables to the given type's
+     * actual type arguments, for example {@code {K -> String, V -> Long}}
+     * for {@code Map<String, Long>}.
+     *
+     * <p>Wildcard arguments are mapped to their upper bound.
+     * If any argument is (or is bounded by) a type variable, the mapping
+     * depends on the context in which the type is declared and cannot be
+     * shared, therefore {@code null} is returned.
+     *
+     * @param type the parameterised type
+     * @return an unmodifiable type argument map, or {@code null}
+     * if the type arguments cannot be resolved without context
+     */
+    @Nullable
+    public static Map<Type, Type> getTypeArgumentMap(final ParameterizedType type) {
+        final Map<Type, Type> cached = get(TYPE_ARGUMENT_MAPS, type);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Map<Type, Type> result = createTypeArgumentMap(type);
+        if (result == null) {
+            return null;
+        }
+        synchronized (TYPE_ARGUMENT_MAPS) {
+            // another thread may have cached an equal map in the meantime
+            final Map<Type, Type> existing = get(TYPE_ARGUMENT_MAPS, type);
+            if (existing != null) {
+                return existing;
+            }
+            TYPE_ARGUMENT_MAPS.put(type, new WeakReference<>(result));
+            return result;
+        }
+    }
+
+    @Nullable
+    private static <V> V get(final Map<ParameterizedType, WeakReference<V>> cache, final ParameterizedType key) {
+        final WeakReference<V> ref = cache.get(key);
+        return ref == null ? null : ref.get();
+    }
+
+    @Nullable
+    private static Map<Type, Type> createTypeArgumentMap(final ParameterizedType type) {
+        final TypeVariable<?>[] typeVars = ((Class<?>) type.getRawType()).getTypeParameters();
+        final Type[] typeArgs = type.getActualTypeArguments();
+
+        final Map<Type, Type> map = new HashMap<>(typeArgs.length * 2);
+        for (int i = 0; i < typeArgs.length; i++) {
+            final Type resolved = resolveWithoutContext(typeArgs[i]);
+            if (resolved == null) {
+                return null;
+            }
+            map.put(typeVars[i], resolved);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Nullable
+    private static Type resolveWithoutContext(final Type type) {
+        if (type instanceof Class || type instanceof ParameterizedType || type instanceof GenericArrayType) {
+            return type;
+        } else if (type instanceof WildcardType wildcardType) {
+            return resolveWithoutContext(wildcardType.getUpperBounds()[0]);
+        }
+        return null;
+    }
+}
@@ -25,6 +25,11 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * A {@link ParameterizedType} implementation that is equal to, and has the
+ * same hash code as, the JDK's representation of the same type, so that
+ * both can be used interchangeably as map keys.
+ */
 public final class ParameterizedTypeImpl implements ParameterizedType {
 
     private final @Nullable Type ownerType;
@@ -38,7 +43,20 @@ public final class ParameterizedTypeImpl implements ParameterizedType {
     }
 
     public ParameterizedTypeImpl(final Class<?> rawType, final Type... typeArguments) {
-        this(null, rawType, typeArguments);
+        this(rawType.getDeclaringClass(), rawType, typeArguments);
+    }
+
+    /**
+     * Returns a canonical instance of the given parameterized type.
+     * Repeated calls with equal arguments return the same instance.
+     *
+     * @param rawType       the raw type
+     * @param typeArguments type arguments
+     * @return an interned parameterized type
+     * @since 6.0.0
+     */
+    public static ParameterizedTypeImpl of(final Class<?> rawType, final Type... typeArguments) {
+        return GenericTypeCache.intern(new ParameterizedTypeImpl(rawType, typeArguments));
     }
 
     @Nullable
@@ -60,19 +78,24 @@ public final class ParameterizedTypeImpl implements ParameterizedType {
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
-        if (!(o instanceof ParameterizedTypeImpl that)) return false;
+        if (o instanceof ParameterizedTypeImpl that) {
+            return Objects.equals(ownerType, that.ownerType)
+                   && Objects.equals(rawType, that.rawType)
+                   && Arrays.equals(typeArguments, that.typeArguments);
+        }
+        if (!(o instanceof ParameterizedType that)) return false;
 
-        return Objects.equals(ownerType, that.ownerType)
-               && Objects.equals(rawType, that.rawType)
-               && Arrays.equals(typeArguments, that.typeArguments);
+        return Objects.equals(ownerType, that.getOwnerType())
+               && Objects.equals(rawType, that.getRawType())
+               && Arrays.equals(typeArguments, that.getActualTypeArguments());
     }
 
+    // same formula as the JDK implementation
     @Override
     public int hashCode() {
-        int result = ownerType != null ? ownerType.hashCode() : 0;
-        result = 31 * result + (rawType != null ? rawType.hashCode() : 0);
-        result = 31 * result + Arrays.hashCode(typeArguments);
-        return result;
+        return Arrays.hashCode(typeArguments)
+               ^ Objects.hashCode(ownerType)
+               ^ Objects.hashCode(rawType);
     }
 
     @Override
@@ -26,14 +26,21 @@ import java.util.function.Function;
 
 public final class InternalExtensionImpl implements InternalExtension {
 
+    // both implementations are stateless and can be shared
+    private static final InternalContainerFactoryProvider CONTAINER_FACTORY_PROVIDER =
+            new InternalContainerFactoryProviderImpl();
+
+    private static final InternalGetterMethodFieldResolver GETTER_METHOD_FIELD_RESOLVER =
+            new InternalGetterMethodFieldResolverImpl();
+
     @Override
     public InternalContainerFactoryProvider getContainerFactoryProvider() {
-        return new InternalContainerFactoryProviderImpl();
+        return CONTAINER_FACTORY_PROVIDER;
     }
 
     @Override
     public InternalGetterMethodFieldResolver getGetterMethodFieldResolver() {
-        return new InternalGetterMethodFieldResolverImpl();
+        return GETTER_METHOD_FIELD_RESOLVER;
     }
 
     static final class InternalGetterMethodFieldResolverImpl implements InternalGetterMethodFieldResolver {
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.spi;
+
+import org.instancio.internal.util.CollectionUtils;
+import org.instancio.internal.util.ServiceLoaders;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Registry of {@link InternalExtension} implementations.
+ *
+ * <p>Extensions are discovered on first use rather than when
+ * the model context class is loaded. Callers should resolve the
+ * capability they need once, using {@link #collect(List, Function)},
+ * instead of invoking the extension getters for every node or value.
+ *
+ * @since 6.0.0
+ */
+public final class InternalExtensions {
+
+    private InternalExtensions() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns all discovered extensions, including the built-in one.
+     *
+     * @return an unmodifiable list of extensions
+     */
+    public static List<InternalExtension> getAll() {
+        return Holder.EXTENSIONS;
+    }
+
+    /**
+     * Resolves a single capability from the given extensions,
+     * skipping extensions that do not provide it.
+     *
+     * @param extensions the extensions to query
+     * @param fn         function returning the capability, or {@code null}
+     * @param <T>        the capability type
+     * @return an unmodifiable list of non-null capabilities
+     */
+    public static <T> List<T> collect(
+            final List<InternalExtension> extensions,
+            final Function<InternalExtension, @Nullable T> fn) {
+
+        final List<T> results = new ArrayList<>(extensions.size());
+        for (InternalExtension extension : extensions) {
+            final T result = fn.apply(extension);
+            if (result != null) {
+                results.add(result);
+            }
+        }
+        return results.isEmpty()
+                ? Collections.emptyList()
+                : Collections.unmodifiableList(results);
+    }
+
+    private static final class Holder {
+        private static final List<InternalExtension> EXTENSIONS = CollectionUtils.combine(
+                ServiceLoaders.loadAll(InternalExtension.class),
+                new InternalExtensionImpl());
+    }
+}
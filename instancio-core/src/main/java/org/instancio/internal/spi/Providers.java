@@ -16,6 +16,7 @@
 package org.instancio.internal.spi;
 
 import org.instancio.documentation.VisibleForTesting;
+import org.instancio.internal.util.Lazy;
 import org.instancio.internal.util.ServiceLoaders;
 import org.instancio.spi.InstancioServiceProvider;
 import org.instancio.spi.InstancioServiceProvider.AnnotationProcessor;
@@ -24,56 +25,93 @@ import org.instancio.spi.InstancioServiceProvider.SetterMethodResolver;
 import org.instancio.spi.InstancioServiceProvider.TypeInstantiator;
 import org.instancio.spi.InstancioServiceProvider.TypeResolver;
 import org.instancio.spi.ServiceProviderContext;
+import org.jspecify.annotations.Nullable;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.ServiceLoader.Provider;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
+/**
+ * Holds the capabilities of {@link InstancioServiceProvider} implementations
+ * for a single model.
+ *
+ * <p>Service providers are instantiated and initialised on first access
+ * to any capability, and each capability is resolved at most once.
+ * Models that are created without ever querying a given capability
+ * do not pay for it.
+ */
 public final class Providers {
 
-    private static final List<Provider<InstancioServiceProvider>> PROVIDERS = ServiceLoaders.loadAllProviders(
-        InstancioServiceProvider.class);
-    private final List<ProviderEntry<GeneratorProvider>> generatorProviders;
-    private final List<ProviderEntry<TypeResolver>> typeResolvers;
-    private final List<ProviderEntry<TypeInstantiator>> typeInstantiators;
-    private final List<ProviderEntry<SetterMethodResolver>> setterMethodResolvers;
-    private final List<ProviderEntry<AnnotationProcessor>> annotationProcessors;
+    private final Lazy<List<InstancioServiceProvider>> serviceProviders;
+    private final Lazy<List<ProviderEntry<GeneratorProvider>>> generatorProviders;
+    private final Lazy<List<ProviderEntry<TypeResolver>>> typeResolvers;
+    private final Lazy<List<ProviderEntry<TypeInstantiator>>> typeInstantiators;
+    private final Lazy<List<ProviderEntry<SetterMethodResolver>>> setterMethodResolvers;
+    private final Lazy<List<ProviderEntry<AnnotationProcessor>>> annotationProcessors;
 
     public Providers(final ServiceProviderContext context) {
-        this(getProviders(), context);
+        this(Providers::getProviders, context);
     }
 
     @VisibleForTesting
     Providers(final List<InstancioServiceProvider> spList, final ServiceProviderContext context) {
-        spList.forEach(sp -> sp.init(context));
+        this(() -> spList, context);
+    }
+
+    private Providers(
+            final Supplier<List<InstancioServiceProvider>> spSupplier,
+            final ServiceProviderContext context) {
+
+        serviceProviders = Lazy.of(() -> {
+            final List<InstancioServiceProvider> spList = spSupplier.get();
+            spList.forEach(sp -> sp.init(context));
+            return spList;
+        });
 
-        generatorProviders = ProviderEntry.from(spList, InstancioServiceProvider::getGeneratorProvider);
-        typeResolvers = ProviderEntry.from(spList, InstancioServiceProvider::getTypeResolver);
-        typeInstantiators = ProviderEntry.from(spList, InstancioServiceProvider::getTypeInstantiator);
-        setterMethodResolvers = ProviderEntry.from(spList, InstancioServiceProvider::getSetterMethodResolver);
-        annotationProcessors = ProviderEntry.from(spList, InstancioServiceProvider::getAnnotationProcessor);
+        generatorProviders = resolve(InstancioServiceProvider::getGeneratorProvider);
+        typeResolvers = resolve(InstancioServiceProvider::getTypeResolver);
+        typeInstantiators = resolve(InstancioServiceProvider::getTypeInstantiator);
+        setterMethodResolvers = resolve(InstancioServiceProvider::getSetterMethodResolver);
+        annotationProcessors = resolve(InstancioServiceProvider::getAnnotationProcessor);
+    }
+
+    private <P> Lazy<List<ProviderEntry<P>>> resolve(
+            final Function<InstancioServiceProvider, @Nullable P> fn) {
+
+        return Lazy.of(() -> ProviderEntry.from(serviceProviders.get(), fn));
     }
 
     private static List<InstancioServiceProvider> getProviders() {
-        return PROVIDERS.stream().map(Provider::get).toList();
+        final List<Provider<InstancioServiceProvider>> providers = Holder.PROVIDERS;
+        return providers.isEmpty()
+                ? Collections.emptyList()
+                : providers.stream().map(Provider::get).toList();
     }
 
     public List<ProviderEntry<GeneratorProvider>> getGeneratorProviders() {
-        return generatorProviders;
+        return generatorProviders.get();
     }
 
     public List<ProviderEntry<TypeResolver>> getTypeResolvers() {
-        return typeResolvers;
+        return typeResolvers.get();
     }
 
     public List<ProviderEntry<TypeInstantiator>> getTypeInstantiators() {
-        return typeInstantiators;
+        return typeInstantiators.get();
     }
 
     public List<ProviderEntry<SetterMethodResolver>> getSetterMethodResolvers() {
-        return setterMethodResolvers;
+        return setterMethodResolvers.get();
     }
 
     public List<ProviderEntry<AnnotationProcessor>> getAnnotationProcessors() {
-        return annotationProcessors;
+        return annotationProcessors.get();
+    }
+
+    private static final class Holder {
+        private static final List<Provider<InstancioServiceProvider>> PROVIDERS =
+                ServiceLoaders.loadAllProviders(InstancioServiceProvider.class);
     }
 }
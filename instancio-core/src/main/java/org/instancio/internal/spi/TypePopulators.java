@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.spi;
+
+import org.instancio.internal.util.ServiceLoaders;
+import org.instancio.spi.TypePopulator;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides access to {@link TypePopulator} implementations
+ * registered via the {@code ServiceLoader}.
+ *
+ * <p>Populators are stateless, therefore they are loaded
+ * only once, the first time a lookup is performed.
+ */
+public final class TypePopulators {
+
+    private TypePopulators() {
+        // non-instantiable
+    }
+
+    /**
+     * Returns {@code true} if no populators are registered.
+     *
+     * @return {@code true} if there are no populators
+     */
+    public static boolean isEmpty() {
+        return Holder.POPULATORS.isEmpty();
+    }
+
+    /**
+     * Returns the populator for the given class.
+     *
+     * @param klass the class to look up
+     * @param <T>   the type of the class
+     * @return the populator, or {@code null} if none is registered for the class
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public static <T> TypePopulator<T> get(final Class<T> klass) {
+        final Map<Class<?>, TypePopulator<?>> populators = Holder.POPULATORS;
+        return populators.isEmpty() ? null : (TypePopulator<T>) populators.get(klass);
+    }
+
+    private static Map<Class<?>, TypePopulator<?>> loadPopulators() {
+        final Map<Class<?>, TypePopulator<?>> map = new HashMap<>();
+        for (TypePopulator<?> populator : ServiceLoaders.loadAll(TypePopulator.class)) {
+            map.putIfAbsent(populator.getTargetClass(), populator);
+        }
+        return map.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(map);
+    }
+
+    private static final class Holder {
+        private static final Map<Class<?>, TypePopulator<?>> POPULATORS = loadPopulators();
+    }
+}
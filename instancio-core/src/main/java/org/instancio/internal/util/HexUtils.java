@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import java.nio.charset.StandardCharsets;
+
+public final class HexUtils {
+
+    private static final byte[] LOWER_CASE_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] UPPER_CASE_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.ISO_8859_1);
+
+    private HexUtils() {
+        // non-instantiable
+    }
+
+    /**
+     * Writes the lowest {@code digits} hexadecimal digits of the given
+     * value to {@code dest}, most significant digit first.
+     *
+     * @param value     the value to encode
+     * @param digits    the number of digits to write, at most 16
+     * @param upperCase whether to use upper case digits
+     * @param dest      the array to write the ISO-8859-1 encoded digits to
+     * @param offset    the index of the first digit in {@code dest}
+     */
+    public static void putHex(final long value,
+                              final int digits,
+                              final boolean upperCase,
+                              final byte[] dest,
+                              final int offset) {
+
+        final byte[] table = upperCase ? UPPER_CASE_DIGITS : LOWER_CASE_DIGITS;
+        for (int i = 0, shift = (digits - 1) * 4; i < digits; i++, shift -= 4) {
+            dest[offset + i] = table[(int) (value >>> shift) & 0xF];
+        }
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * A thread-safe, memoising supplier. The delegate is invoked
+ * at most once, on the first call to {@link #get()}.
+ *
+ * @param <T> the type of value supplied
+ * @since 6.0.0
+ */
+public final class Lazy<T> implements Supplier<T> {
+
+    private final Supplier<T> supplier;
+    private volatile @Nullable T value;
+
+    private Lazy(final Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    public static <T> Lazy<T> of(final Supplier<T> supplier) {
+        return new Lazy<>(supplier);
+    }
+
+    @Override
+    public T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = supplier.get();
+                    value = result;
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -16,25 +16,52 @@
 package org.instancio.internal.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public final class SealedClassUtils {
 
+    // permitted subclasses are resolved reflectively and do not change,
+    // so they are computed once per sealed class
+    private static final ClassValue<List<Class<?>>> IMPLEMENTATIONS = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(final Class<?> sealedClass) {
+            final List<Class<?>> results = new ArrayList<>();
+            collectImplementations(sealedClass, results);
+            return Collections.unmodifiableList(results);
+        }
+    };
+
+    private static final ClassValue<Boolean> SEALED_ABSTRACT_TYPES = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> klass) {
+            return klass.isSealed() && ReflectionUtils.isInterfaceOrAbstract(klass);
+        }
+    };
+
+    /**
+     * Returns non-sealed implementations of the given sealed class,
+     * including implementations of sealed subclasses.
+     *
+     * @param sealedClass the sealed class
+     * @return an unmodifiable list of implementations
+     */
     public static List<Class<?>> getSealedClassImplementations(final Class<?> sealedClass) {
-        final List<Class<?>> results = new ArrayList<>();
+        return IMPLEMENTATIONS.get(sealedClass);
+    }
 
+    private static void collectImplementations(final Class<?> sealedClass, final List<Class<?>> results) {
         for (Class<?> subclass : sealedClass.getPermittedSubclasses()) {
             if (subclass.isSealed()) {
-                results.addAll(getSealedClassImplementations(subclass));
+                collectImplementations(subclass, results);
             } else {
                 results.add(subclass);
             }
         }
-        return results;
     }
 
     public static boolean isSealedAbstractType(final Class<?> klass) {
-        return klass.isSealed() && ReflectionUtils.isInterfaceOrAbstract(klass);
+        return SEALED_ABSTRACT_TYPES.get(klass);
     }
 
     private SealedClassUtils() {
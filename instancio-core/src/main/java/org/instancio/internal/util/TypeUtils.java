@@ -30,6 +30,18 @@ import java.util.List;
 
 public final class TypeUtils {
 
+    private static final Type[] NO_TYPES = new Type[0];
+
+    private static final ClassValue<Type[]> GENERIC_SUPERCLASS_TYPE_ARGS = new ClassValue<>() {
+        @Override
+        protected Type[] computeValue(final Class<?> klass) {
+            if (klass.getGenericSuperclass() instanceof ParameterizedType genericSuperclass) {
+                return genericSuperclass.getActualTypeArguments();
+            }
+            return NO_TYPES;
+        }
+    };
+
     private TypeUtils() {
         // non-instantiable
     }
@@ -123,10 +135,8 @@ public final class TypeUtils {
     }
 
     public static Type[] getGenericSuperclassTypeArguments(final Class<?> klass) {
-        if (klass.getGenericSuperclass() instanceof ParameterizedType genericSuperclass) {
-            return genericSuperclass.getActualTypeArguments();
-        }
-        return new Type[0];
+        final Type[] typeArgs = GENERIC_SUPERCLASS_TYPE_ARGS.get(klass);
+        return typeArgs.length == 0 ? typeArgs : typeArgs.clone();
     }
 
     @SuppressWarnings("unchecked")
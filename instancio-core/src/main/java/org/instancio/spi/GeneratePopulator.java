@@ -0,0 +1,58 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.documentation.ExperimentalApi;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class for which the {@code instancio-processor} annotation
+ * processor should generate a {@link TypePopulator}.
+ *
+ * <p>The generated populator instantiates the class via its no-argument
+ * constructor and assigns the class's own non-private fields directly,
+ * without reflection or setters. To enable generation,
+ * add {@code org.instancio:instancio-processor} to the annotation
+ * processor path:
+ *
+ * <pre>{@code
+ * @GeneratePopulator
+ * public class Person {
+ *     String name;
+ *     int age;
+ *
+ *     public Person() {}
+ * }
+ * }</pre>
+ *
+ * <p>Only non-abstract classes are supported. Fields that cannot
+ * be accessed by the generated code (for example, private fields
+ * or fields declared by a superclass) are still
+ * assigned by Instancio using reflection.
+ *
+ * @see TypePopulator
+ * @since 6.0.0
+ */
+@Documented
+@ExperimentalApi
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GeneratePopulator {}
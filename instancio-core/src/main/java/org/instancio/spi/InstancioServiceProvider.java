@@ -236,6 +236,25 @@ public interface InstancioServiceProvider {
          */
         @Nullable
         Type getSubtype(Node node);
+
+        /**
+         * Indicates whether the result of {@link #getSubtype(Node)} depends
+         * only on the node's target class.
+         *
+         * <p>If this method returns {@code true}, Instancio may invoke
+         * {@link #getSubtype(Node)} once per target class and reuse the
+         * result for other nodes of the same class within a model.
+         * Resolvers that inspect other node properties, such as
+         * the field or parent, should not override this method.
+         *
+         * @return {@code true} if results can be cached per target class,
+         * {@code false} otherwise
+         * @since 6.0.0
+         */
+        @ExperimentalApi
+        default boolean isCacheable() {
+            return false;
+        }
     }
 
     /**
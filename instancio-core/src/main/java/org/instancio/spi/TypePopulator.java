@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.spi;
+
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.settings.AssignmentType;
+import org.instancio.settings.Keys;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ServiceLoader;
+
+/**
+ * Instantiates and populates objects of a specific class
+ * without the use of reflection.
+ *
+ * <p>Implementations of this interface are not meant to be written by hand.
+ * They are generated by the {@code instancio-processor} annotation processor
+ * for classes marked with {@link GeneratePopulator}. Populators are loaded
+ * using the {@link ServiceLoader} mechanism, and the processor registers
+ * generated classes under {@code /META-INF/services} automatically.
+ * Modular applications need to declare them explicitly using
+ * {@code provides org.instancio.spi.TypePopulator with ...}.
+ *
+ * <p>A populator is used by Instancio:
+ *
+ * <ul>
+ *   <li>to create an instance of the target class when the class
+ *       is instantiated via its no-argument constructor</li>
+ *   <li>to assign values to fields declared by the target class when
+ *       {@link Keys#ASSIGNMENT_TYPE} is set to {@link AssignmentType#FIELD}</li>
+ * </ul>
+ *
+ * <p>If a populator cannot perform either operation, Instancio falls back
+ * to its default, reflection-based behaviour.
+ *
+ * @param <T> the type populated by this populator
+ * @see GeneratePopulator
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public interface TypePopulator<T> {
+
+    /**
+     * Returns the class that this populator handles.
+     *
+     * @return the target class
+     * @since 6.0.0
+     */
+    Class<T> getTargetClass();
+
+    /**
+     * Creates a new instance of the target class
+     * by invoking its no-argument constructor.
+     *
+     * @return a new instance, or {@code null} if the target class
+     * does not have an accessible no-argument constructor
+     * @since 6.0.0
+     */
+    @Nullable
+    T newInstance();
+
+    /**
+     * Assigns the given value to a field declared by the target class.
+     *
+     * <p>If the field is a primitive and the value is {@code null},
+     * the field is set to the primitive's default value.
+     *
+     * @param target    the object whose field should be assigned
+     * @param fieldName the name of a field declared by the target class
+     * @param value     the value to assign
+     * @return {@code true} if the value was assigned, or {@code false}
+     * if this populator does not support assigning the given field
+     * @throws ClassCastException if the value is not compatible
+     *                            with the field's type
+     * @since 6.0.0
+     */
+    boolean setValue(T target, String fieldName, @Nullable Object value);
+}
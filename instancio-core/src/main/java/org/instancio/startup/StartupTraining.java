@@ -0,0 +1,166 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.startup;
+
+import org.instancio.Instancio;
+import org.instancio.documentation.ExperimentalApi;
+import org.instancio.exception.InstancioApiException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A training entry point for creating a class data sharing (AppCDS)
+ * archive, or for running the GraalVM tracing agent.
+ *
+ * <p>The first call to {@code Instancio.create()} in a JVM is dominated
+ * by class loading: built-in generators, settings, service provider
+ * discovery, and so on. This class exercises the commonly used code paths
+ * so that the classes involved can be recorded once and reused by
+ * subsequent JVM launches.
+ *
+ * <p>For example, to create and use a dynamic AppCDS archive:
+ *
+ * <pre>
+ * java -XX:ArchiveClassesAtExit=instancio.jsa -cp app.jar:instancio-core.jar \
+ *      org.instancio.startup.StartupTraining com.example.Person
+ *
+ * java -XX:SharedArchiveFile=instancio.jsa -cp app.jar:instancio-core.jar com.example.Main
+ * </pre>
+ *
+ * <p>Optional arguments are fully-qualified names of application classes.
+ * An instance of each class is created after the built-in training run,
+ * so that classes specific to the application are also recorded.
+ *
+ * <p>{@code instancio-core} also ships native-image reachability metadata
+ * for its built-in generators under
+ * {@code META-INF/native-image/org.instancio/instancio-core}.
+ *
+ * @since 6.0.0
+ */
+@ExperimentalApi
+public final class StartupTraining {
+
+    private StartupTraining() {
+        // non-instantiable
+    }
+
+    /**
+     * Runs the training workload.
+     *
+     * @param args optional fully-qualified names of application
+     *             classes to create instances of
+     */
+    public static void main(final String[] args) {
+        run(args);
+    }
+
+    /**
+     * Runs the training workload.
+     *
+     * @param classNames optional fully-qualified names of application
+     *                   classes to create instances of
+     * @since 6.0.0
+     */
+    @ExperimentalApi
+    public static void run(final String... classNames) {
+        Instancio.create(TrainingPojo.class);
+        Instancio.create(TrainingRecord.class);
+        Instancio.createList(String.class);
+        Instancio.createMap(UUID.class, Integer.class);
+
+        Instancio.gen().string().get();
+        Instancio.gen().ints().get();
+        Instancio.gen().temporal().localDate().get();
+        Instancio.gen().oneOf(TrainingEnum.values()).get();
+
+        final ClassLoader classLoader = getClassLoader();
+        for (String className : classNames) {
+            Instancio.create(loadClass(className, classLoader));
+        }
+    }
+
+    private static Class<?> loadClass(final String className, final ClassLoader classLoader) {
+        try {
+            return Class.forName(className, true, classLoader);
+        } catch (ClassNotFoundException ex) {
+            throw new InstancioApiException("Training class not found: " + className, ex);
+        }
+    }
+
+    private static ClassLoader getClassLoader() {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader == null ? StartupTraining.class.getClassLoader() : classLoader;
+    }
+
+    private enum TrainingEnum {ONE, TWO, THREE}
+
+    private record TrainingRecord(
+            String string,
+            int intValue,
+            long longValue,
+            double doubleValue,
+            boolean booleanValue,
+            BigDecimal bigDecimal,
+            LocalDateTime localDateTime,
+            TrainingEnum trainingEnum,
+            List<TrainingPojo> list) {
+    }
+
+    @SuppressWarnings("unused")
+    private static final class TrainingPojo {
+        String string;
+        Integer integer;
+        Long longValue;
+        Short shortValue;
+        Byte byteValue;
+        Float floatValue;
+        Double doubleValue;
+        Boolean booleanValue;
+        Character character;
+        BigInteger bigInteger;
+        BigDecimal bigDecimal;
+        UUID uuid;
+        Date date;
+        Instant instant;
+        LocalDate localDate;
+        LocalTime localTime;
+        LocalDateTime localDateTime;
+        OffsetDateTime offsetDateTime;
+        ZonedDateTime zonedDateTime;
+        Duration duration;
+        Optional<String> optional;
+        TrainingEnum trainingEnum;
+        int[] intArray;
+        String[] stringArray;
+        List<String> list;
+        Set<Long> set;
+        Map<String, Integer> map;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generates an {@code org.instancio.spi.TypePopulator} for each class
+ * annotated with {@code org.instancio.spi.GeneratePopulator}
+ * and registers generated classes in
+ * {@code META-INF/services/org.instancio.spi.TypePopulator}.
+ *
+ * @since 6.0.0
+ */
+@SupportedAnnotationTypes(PopulatorProcessor.ANNOTATION_NAME)
+public final class PopulatorProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION_NAME = "org.instancio.spi.GeneratePopulator";
+    static final String SERVICE_FILE = "META-INF/services/org.instancio.spi.TypePopulator";
+
+    private final Set<String> populatorClassNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!populatorClassNames.isEmpty()) {
+                writeServiceFile();
+            }
+            return false;
+        }
+
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (isSupported(element)) {
+                    generatePopulator((TypeElement) element);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isSupported(final Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return error(element, "@GeneratePopulator is only supported on classes");
+        }
+        if (element.getModifiers().contains(Modifier.ABSTRACT)) {
+            return error(element, "@GeneratePopulator is not supported on abstract classes");
+        }
+
+        Element current = element;
+        while (current instanceof TypeElement typeElement) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return error(element, "@GeneratePopulator is not supported on private classes");
+            }
+
+            final NestingKind nestingKind = typeElement.getNestingKind();
+            if (nestingKind == NestingKind.LOCAL || nestingKind == NestingKind.ANONYMOUS) {
+                return error(element, "@GeneratePopulator is not supported on local or anonymous classes");
+            }
+            if (nestingKind == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+                return error(element, "@GeneratePopulator is not supported on non-static inner classes");
+            }
+            current = typeElement.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generatePopulator(final TypeElement typeElement) {
+        final String className = PopulatorWriter.getPopulatorClassName(typeElement);
+        final Filer filer = processingEnv.getFiler();
+        final PopulatorWriter populatorWriter = new PopulatorWriter(processingEnv.getTypeUtils());
+
+        try {
+            final JavaFileObject file = filer.createSourceFile(className, typeElement);
+            try (Writer writer = file.openWriter()) {
+                writer.write(populatorWriter.write(typeElement));
+            }
+            populatorClassNames.add(className);
+        } catch (IOException ex) {
+            error(typeElement, "Error generating populator " + className + ": " + ex.getMessage());
+        }
+    }
+
+    private void writeServiceFile() {
+        final Filer filer = processingEnv.getFiler();
+
+        // Retain entries from a previous (e.g. incremental) compilation
+        try {
+            final FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    existing.openInputStream(), StandardCharsets.UTF_8))) {
+
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        populatorClassNames.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException ex) { //NOPMD
+            // the service file does not exist yet
+        }
+
+        try {
+            final FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String className : populatorClassNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException ex) {
+            final Messager messager = processingEnv.getMessager();
+            messager.printMessage(Diagnostic.Kind.ERROR,
+                    "Error writing " + SERVICE_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    private boolean error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.processor;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import java.util.Set;
+
+/**
+ * Generates the source code of a populator for a given class.
+ */
+final class PopulatorWriter {
+
+    private static final String POPULATOR_SUFFIX = "_InstancioPopulator";
+
+    private final Types types;
+
+    PopulatorWriter(final Types types) {
+        this.types = types;
+    }
+
+    /**
+     * Returns the fully-qualified name of the populator for the given class.
+     * The populator is placed in the same package as the class, so that it
+     * can access non-private members. For nested classes, names of enclosing
+     * classes are included, for example {@code Outer_Inner_InstancioPopulator}.
+     */
+    static String getPopulatorClassName(final TypeElement typeElement) {
+        final String packageName = getPackageName(typeElement);
+        return packageName.isEmpty()
+                ? getPopulatorSimpleName(typeElement)
+                : packageName + "." + getPopulatorSimpleName(typeElement);
+    }
+
+    private static String getPopulatorSimpleName(final TypeElement typeElement) {
+        final StringBuilder sb = new StringBuilder(typeElement.getSimpleName());
+        Element enclosing = typeElement.getEnclosingElement();
+        while (enclosing instanceof TypeElement enclosingType) {
+            sb.insert(0, '_').insert(0, enclosingType.getSimpleName());
+            enclosing = enclosingType.getEnclosingElement();
+        }
+        return sb.append(POPULATOR_SUFFIX).toString();
+    }
+
+    private static String getPackageName(final TypeElement typeElement) {
+        Element element = typeElement;
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return ((PackageElement) element).getQualifiedName().toString();
+    }
+
+    String write(final TypeElement typeElement) {
+        final String packageName = getPackageName(typeElement);
+        final String targetType = typeElement.getQualifiedName().toString();
+        final StringBuilder sb = new StringBuilder(1024);
+
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+
+        // A comment rather than @Generated, which would require the
+        // java.compiler module when compiling the generated sources
+        sb.append("// Generated by ").append(PopulatorProcessor.class.getName()).append("\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(getPopulatorSimpleName(typeElement))
+                .append(" implements org.instancio.spi.TypePopulator<").append(targetType).append("> {\n\n");
+
+        sb.append("    @Override\n")
+                .append("    public Class<").append(targetType).append("> getTargetClass() {\n")
+                .append("        return ").append(targetType).append(".class;\n")
+                .append("    }\n\n");
+
+        sb.append("    @Override\n")
+                .append("    public ").append(targetType).append(" newInstance() {\n")
+                .append("        return ").append(hasNoArgsConstructor(typeElement)
+                        ? "new " + targetType + "()"
+                        : "null").append(";\n")
+                .append("    }\n\n");
+
+        sb.append("    @Override\n")
+                .append("    public boolean setValue(final ").append(targetType)
+                .append(" target, final String fieldName, final Object value) {\n")
+                .append("        switch (fieldName) {\n");
+
+        for (VariableElement field : ElementFilter.fieldsIn(typeElement.getEnclosedElements())) {
+            final String assignment = getAssignment(field);
+            if (assignment != null) {
+                sb.append("            case \"").append(field.getSimpleName()).append("\":\n")
+                        .append("                ").append(assignment).append(";\n")
+                        .append("                return true;\n");
+            }
+        }
+
+        sb.append("            default:\n")
+                .append("                return false;\n")
+                .append("        }\n")
+                .append("    }\n")
+                .append("}\n");
+
+        return sb.toString();
+    }
+
+    private static boolean hasNoArgsConstructor(final TypeElement typeElement) {
+        for (ExecutableElement ctor : ElementFilter.constructorsIn(typeElement.getEnclosedElements())) {
+            if (ctor.getParameters().isEmpty() && !ctor.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a statement that assigns {@code value} to the given field,
+     * or {@code null} if the field cannot be assigned by generated code.
+     *
+     * <p>Populators are only used with {@code AssignmentType.FIELD}, therefore
+     * fields are always written directly, never via setters. Private fields
+     * are not accessible to the generated code and are left to the default,
+     * reflection-based field assignment.
+     */
+    @Nullable
+    private String getAssignment(final VariableElement field) {
+        final Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC)
+                || modifiers.contains(Modifier.FINAL)
+                || modifiers.contains(Modifier.PRIVATE)) {
+            return null;
+        }
+        return "target." + field.getSimpleName() + " = " + getValueExpression(field.asType());
+    }
+
+    /**
+     * Returns an expression that converts {@code value} to the field's type.
+     * A {@code null} is converted to the default value if the field is a primitive.
+     */
+    private String getValueExpression(final TypeMirror fieldType) {
+        final TypeKind kind = fieldType.getKind();
+        if (kind.isPrimitive()) {
+            final String boxed = types.boxedClass(types.getPrimitiveType(kind)).getQualifiedName().toString();
+            return "value == null ? " + getDefaultValue(kind) + " : (" + boxed + ") value";
+        }
+        return "(" + types.erasure(fieldType) + ") value";
+    }
+
+    private static String getDefaultValue(final TypeKind kind) {
+        return switch (kind) {
+            case BOOLEAN -> "false";
+            case BYTE -> "(byte) 0";
+            case SHORT -> "(short) 0";
+            case CHAR -> "(char) 0";
+            case LONG -> "0L";
+            case FLOAT -> "0f";
+            case DOUBLE -> "0d";
+            default -> "0";
+        };
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.beanvalidation;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.test.support.util.Constants.SAMPLE_SIZE_DD;
+
+@FeatureTag(Feature.BEAN_VALIDATION)
+@ExtendWith(InstancioExtension.class)
+class PatternBVTest {
+
+    private static class WithPattern {
+        @Pattern(regexp = "[A-Z]{2}-\\d{4}")
+        private String code;
+
+        @Pattern(regexp = "abc", flags = Pattern.Flag.CASE_INSENSITIVE)
+        private String caseInsensitive;
+
+        @NotBlank
+        @Pattern(regexp = "[a-z]*")
+        private String notBlank;
+    }
+
+    private static class WithPatternAndSize {
+        @Size(min = 15, max = 20)
+        @Pattern(regexp = "(foo|bar)_[a-z]+")
+        private String sizeFirst;
+
+        @Pattern(regexp = "(foo|bar)_[a-z]+")
+        @Size(min = 15, max = 20)
+        private String patternFirst;
+    }
+
+    @RepeatedTest(SAMPLE_SIZE_DD)
+    void withPattern() {
+        final WithPattern result = Instancio.create(WithPattern.class);
+
+        assertThat(result.code).matches("[A-Z]{2}-\\d{4}");
+        assertThat(result.caseInsensitive).matches("(?i)abc");
+        assertThat(result.notBlank).matches("[a-z]+");
+    }
+
+    @RepeatedTest(SAMPLE_SIZE_DD)
+    void withPatternAndSize() {
+        final WithPatternAndSize result = Instancio.create(WithPatternAndSize.class);
+
+        assertThat(result.sizeFirst).matches("(foo|bar)_[a-z]+").hasSizeBetween(15, 20);
+        assertThat(result.patternFirst).matches("(foo|bar)_[a-z]+").hasSizeBetween(15, 20);
+    }
+}
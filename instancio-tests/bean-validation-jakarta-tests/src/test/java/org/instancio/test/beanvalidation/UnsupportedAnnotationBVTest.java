@@ -35,7 +35,7 @@ class UnsupportedAnnotationBVTest {
 
     private static class WithUnsupported {
         @NotNull
-        @Pattern(regexp = "^foo$")
+        @Pattern(regexp = "^(foo)\\1$") // backreferences are not supported
         private String value;
     }
 
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmark;
+
+import org.instancio.startup.StartupTraining;
+import org.instancio.test.support.pojo.person.Person;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compares the cold-start latency of the first {@code Instancio.create()}
+ * call with and without a dynamic AppCDS archive.
+ *
+ * <p>JMH cannot manage the archive lifecycle, so this comparison launches
+ * separate JVMs directly. The archive is created by running
+ * {@link StartupTraining} with {@code -XX:ArchiveClassesAtExit},
+ * then {@link FirstCreateMain} is launched repeatedly with and without
+ * {@code -XX:SharedArchiveFile}. Requires the shaded benchmarks jar,
+ * since AppCDS only archives classes loaded from jar files:
+ *
+ * <pre>
+ * java -cp benchmarks.jar org.instancio.benchmark.AppCdsStartupComparison [runs]
+ * </pre>
+ */
+public final class AppCdsStartupComparison {
+
+    private static final int DEFAULT_RUNS = 10;
+
+    private AppCdsStartupComparison() {
+        // non-instantiable
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        final int runs = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RUNS;
+        final String classpath = System.getProperty("java.class.path");
+        final Path archive = Files.createTempDirectory("instancio-cds").resolve("instancio.jsa");
+
+        launch(classpath, "-XX:ArchiveClassesAtExit=" + archive,
+                StartupTraining.class.getName(), Person.class.getName());
+
+        final Result baseline = measure(runs, classpath, null);
+        final Result withArchive = measure(runs, classpath, "-XX:SharedArchiveFile=" + archive);
+
+        System.out.printf("Runs: %d, archive: %s%n", runs, archive);
+        System.out.printf("%-12s first create (median): %6.1f ms, JVM wall time (median): %6.1f ms%n",
+                "Baseline", baseline.firstCreateMillis(), baseline.wallMillis());
+        System.out.printf("%-12s first create (median): %6.1f ms, JVM wall time (median): %6.1f ms%n",
+                "AppCDS", withArchive.firstCreateMillis(), withArchive.wallMillis());
+    }
+
+    private static Result measure(
+            final int runs,
+            final String classpath,
+            final String jvmArg) throws IOException, InterruptedException {
+
+        final long[] firstCreate = new long[runs];
+        final long[] wall = new long[runs];
+
+        for (int i = 0; i < runs; i++) {
+            final long start = System.nanoTime();
+            final List<String> output = launch(classpath, jvmArg, FirstCreateMain.class.getName());
+            wall[i] = System.nanoTime() - start;
+            firstCreate[i] = Long.parseLong(output.get(output.size() - 1).trim());
+        }
+        return new Result(median(firstCreate), median(wall));
+    }
+
+    private static List<String> launch(
+            final String classpath,
+            final String jvmArg,
+            final String... mainClassAndArgs) throws IOException, InterruptedException {
+
+        final List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        if (jvmArg != null) {
+            command.add(jvmArg);
+        }
+        command.add("-cp");
+        command.add(classpath);
+        command.addAll(Arrays.asList(mainClassAndArgs));
+
+        final Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+
+        final List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Process failed: " + command);
+        }
+        return lines;
+    }
+
+    private static long median(final long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Result(long firstCreateNanos, long wallNanos) {
+        double firstCreateMillis() {
+            return firstCreateNanos / 1_000_000.0;
+        }
+
+        double wallMillis() {
+            return wallNanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmark;
+
+import org.instancio.Instancio;
+import org.instancio.generator.specs.CreditCardSpec;
+import org.instancio.generator.specs.LuhnSpec;
+import org.instancio.generator.specs.Mod11Spec;
+import org.instancio.generator.specs.bra.CpfSpec;
+import org.instancio.generator.specs.pol.PeselSpec;
+import org.instancio.generator.specs.usa.SsnSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the checksum and national ID generators.
+ *
+ * <p>Run with {@code -prof gc} to see the number of bytes allocated
+ * per value ({@code gc.alloc.rate.norm}). The digits are assembled in
+ * a single buffer, so apart from the PESEL birthdate, this should be
+ * limited to the buffer and the result string.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChecksumGeneratorsBenchmark {
+
+    private LuhnSpec luhn;
+    private Mod11Spec mod11;
+    private CreditCardSpec creditCard;
+    private PeselSpec pesel;
+    private CpfSpec cpf;
+    private SsnSpec ssn;
+
+    @Setup
+    public void setup() {
+        luhn = Instancio.gen().checksum().luhn();
+        mod11 = Instancio.gen().checksum().mod11();
+        creditCard = Instancio.gen().finance().creditCard();
+        pesel = Instancio.gen().id().pol().pesel();
+        cpf = Instancio.gen().id().bra().cpf();
+        ssn = Instancio.gen().id().usa().ssn();
+    }
+
+    @Benchmark
+    public String luhn() {
+        return luhn.get();
+    }
+
+    @Benchmark
+    public String mod11() {
+        return mod11.get();
+    }
+
+    @Benchmark
+    public String creditCard() {
+        return creditCard.get();
+    }
+
+    @Benchmark
+    public String pesel() {
+        return pesel.get();
+    }
+
+    @Benchmark
+    public String cpf() {
+        return cpf.get();
+    }
+
+    @Benchmark
+    public String ssn() {
+        return ssn.get();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmark;
+
+import org.instancio.Instancio;
+import org.instancio.test.support.pojo.person.Person;
+
+/**
+ * Performs a single {@code Instancio.create()} call and prints
+ * the elapsed time in nanoseconds. Launched in a fresh JVM
+ * by {@link AppCdsStartupComparison}.
+ */
+public final class FirstCreateMain {
+
+    private FirstCreateMain() {
+        // non-instantiable
+    }
+
+    public static void main(final String[] args) {
+        final long start = System.nanoTime();
+        final Person person = Instancio.create(Person.class);
+        final long elapsed = System.nanoTime() - start;
+
+        if (person != null) {
+            System.out.println(elapsed);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmark;
+
+import org.instancio.Instancio;
+import org.instancio.generator.specs.EmailSpec;
+import org.instancio.generator.specs.Ip4Spec;
+import org.instancio.generator.specs.URISpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of the {@code gen().net()} generators
+ * that build strings from random segments.
+ *
+ * <p>Run with {@code -prof gc} to see the number of bytes allocated
+ * per value ({@code gc.alloc.rate.norm}). For emails and IPv4 addresses,
+ * this should be limited to the result string and the buffer it is
+ * created from.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NetGeneratorsBenchmark {
+
+    private EmailSpec email;
+    private Ip4Spec ip4;
+    private Ip4Spec ip4FromCidr;
+    private URISpec uri;
+
+    @Setup
+    public void setup() {
+        email = Instancio.gen().net().email();
+        ip4 = Instancio.gen().net().ip4();
+        ip4FromCidr = Instancio.gen().net().ip4().fromCidr("192.168.0.0/16");
+        uri = Instancio.gen().net().uri().randomPort();
+    }
+
+    @Benchmark
+    public String email() {
+        return email.get();
+    }
+
+    @Benchmark
+    public String ip4() {
+        return ip4.get();
+    }
+
+    @Benchmark
+    public String ip4FromCidr() {
+        return ip4FromCidr.get();
+    }
+
+    @Benchmark
+    public URI uri() {
+        return uri.get();
+    }
+}
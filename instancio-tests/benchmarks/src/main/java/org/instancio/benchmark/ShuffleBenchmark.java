@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.benchmark;
+
+import org.instancio.Instancio;
+import org.instancio.generator.specs.ShuffleSpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the throughput of {@code gen().shuffle()}, both when shuffling
+ * all the elements and when selecting a few elements from a large list.
+ *
+ * <p>Run with {@code -prof gc} to see the number of bytes allocated
+ * per value ({@code gc.alloc.rate.norm}). Selecting a small sample
+ * should not allocate memory proportional to the size of the list.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShuffleBenchmark {
+
+    private ShuffleSpec<Integer> shuffleAll;
+    private ShuffleSpec<Integer> sample;
+
+    @Setup
+    public void setup() {
+        shuffleAll = Instancio.gen().shuffle(items(1_000));
+        sample = Instancio.gen().shuffle(items(100_000)).size(10);
+    }
+
+    @Benchmark
+    public Collection<Integer> shuffleAll() {
+        return shuffleAll.get();
+    }
+
+    @Benchmark
+    public Collection<Integer> sample() {
+        return sample.get();
+    }
+
+    private static List<Integer> items(final int count) {
+        return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+}
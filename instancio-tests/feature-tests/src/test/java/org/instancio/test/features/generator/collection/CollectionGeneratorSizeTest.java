@@ -32,15 +32,23 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.instancio.Select.all;
+import static org.instancio.Select.root;
 
 @FeatureTag({
         Feature.GENERATE,
@@ -78,6 +86,20 @@ class CollectionGeneratorSizeTest {
         assertSizeBetween(spec -> spec.minSize(EXPECTED_SIZE).maxSize(EXPECTED_SIZE), EXPECTED_SIZE, EXPECTED_SIZE);
     }
 
+    @ValueSource(classes = {ArrayList.class, LinkedList.class, HashSet.class, LinkedHashSet.class, TreeSet.class})
+    @ParameterizedTest
+    @DisplayName("Large collections should retain the specified subtype")
+    void largeSizeWithSubtype(final Class<?> subtype) {
+        final Collection<Long> result = Instancio.of(new TypeToken<Collection<Long>>() {})
+                .generate(root(), gen -> gen.collection().size(1000).subtype(subtype).with(-1L))
+                .create();
+
+        assertThat(result)
+                .isExactlyInstanceOf(subtype)
+                .hasSize(1001)
+                .contains(-1L);
+    }
+
     @Test
     @DisplayName("Should create a set containing all enum values()")
     void setSizeWithHighProbabilityOfDuplicates() {
@@ -117,6 +139,42 @@ class CollectionGeneratorSizeTest {
                     .isExactlyInstanceOf(InstancioException.class)
                     .hasMessageContaining("unable to populate Collection");
         }
+
+        @Test
+        @DisplayName("Set size should be limited to the number of distinct elements up front")
+        void impossibleSetSizeViaSettings() {
+            final Set<Gender> result = Instancio.of(new TypeToken<Set<Gender>>() {})
+                    .withSetting(Keys.COLLECTION_MIN_SIZE, 10)
+                    .withSetting(Keys.COLLECTION_MAX_SIZE, 10)
+                    .create();
+
+            assertThat(result).containsExactlyInAnyOrder(Gender.values());
+        }
+
+        @Test
+        void impossibleSetSizeViaSettingsWithFailOnErrorEnabled() {
+            final InstancioApi<Set<Boolean>> api = Instancio.of(new TypeToken<Set<Boolean>>() {})
+                    .withSetting(Keys.FAIL_ON_ERROR, true)
+                    .withSetting(Keys.COLLECTION_MIN_SIZE, 3)
+                    .withSetting(Keys.COLLECTION_MAX_SIZE, 3);
+
+            assertThatThrownBy(api::create)
+                    .isExactlyInstanceOf(InstancioException.class)
+                    .hasMessageContaining("unable to populate Collection of size 3");
+        }
+
+        @Test
+        @DisplayName("Should draw every value of a numeric range when set size equals range size")
+        void setSizeEqualToNumberOfDistinctElements() {
+            final Set<Integer> result = Instancio.of(new TypeToken<Set<Integer>>() {})
+                    .withSetting(Keys.INTEGER_MIN, 1)
+                    .withSetting(Keys.INTEGER_MAX, 100)
+                    .withSetting(Keys.COLLECTION_MIN_SIZE, 100)
+                    .withSetting(Keys.COLLECTION_MAX_SIZE, 100)
+                    .create();
+
+            assertThat(result).hasSize(100).allSatisfy(i -> assertThat(i).isBetween(1, 100));
+        }
     }
 
     private void assertSize(Function<CollectionGeneratorSpec<?>, CollectionGeneratorSpec<?>> fn, int expectedSize) {
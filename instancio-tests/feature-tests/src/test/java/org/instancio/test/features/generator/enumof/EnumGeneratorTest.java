@@ -27,6 +27,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -56,6 +57,23 @@ class EnumGeneratorTest {
         assertThat(results).containsOnly(Gender.OTHER, null);
     }
 
+    @Test
+    void weighted() {
+        final List<Gender> results = Instancio.of(Person.class)
+                .generate(field(Person::getGender), gen -> gen.enumOf(Gender.class)
+                        .weight(Gender.MALE, 99)
+                        .weight(Gender.FEMALE, 1))
+                .stream()
+                .limit(Constants.SAMPLE_SIZE_DDD)
+                .map(Person::getGender)
+                .toList();
+
+        assertThat(results)
+                .doesNotContain(Gender.OTHER, null)
+                .filteredOn(Gender.MALE::equals)
+                .hasSizeGreaterThan(Constants.SAMPLE_SIZE_DDD * 9 / 10);
+    }
+
     @Test
     void nullable() {
         final Stream<Gender> results = Instancio.of(Gender.class)
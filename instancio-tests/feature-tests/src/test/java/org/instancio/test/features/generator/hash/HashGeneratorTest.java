@@ -19,6 +19,8 @@ import org.instancio.GeneratorSpecProvider;
 import org.instancio.Instancio;
 import org.instancio.generators.Generators;
 import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.settings.StringCase;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
 import org.instancio.test.support.util.Constants;
@@ -68,6 +70,26 @@ class HashGeneratorTest {
         assertResult(result, 128);
     }
 
+    @Test
+    void lowerCase() {
+        final String result = Instancio.of(String.class)
+                .generate(root(), gen -> gen.hash().sha1())
+                .withSetting(Keys.STRING_CASE, StringCase.LOWER)
+                .create();
+
+        assertThat(result).hasSize(40).isHexadecimal().isLowerCase();
+    }
+
+    @Test
+    void mixedCase() {
+        final String result = Instancio.of(String.class)
+                .generate(root(), gen -> gen.hash().sha512())
+                .withSetting(Keys.STRING_CASE, StringCase.MIXED)
+                .create();
+
+        assertThat(result).hasSize(128).isHexadecimal().isMixedCase();
+    }
+
     @Test
     void asByteArray() {
         final byte[] result = Instancio.of(byte[].class)
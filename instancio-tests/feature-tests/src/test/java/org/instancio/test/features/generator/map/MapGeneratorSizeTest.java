@@ -34,13 +34,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.instancio.Select.all;
+import static org.instancio.Select.root;
 
 @FeatureTag({
         Feature.GENERATE,
@@ -65,6 +72,20 @@ class MapGeneratorSizeTest {
         assertSize(spec -> spec.size(EXPECTED_SIZE), EXPECTED_SIZE);
     }
 
+    @ValueSource(classes = {HashMap.class, LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class})
+    @ParameterizedTest
+    @DisplayName("Large maps should retain the specified subtype")
+    void largeSizeWithSubtype(final Class<?> subtype) {
+        final Map<Long, String> result = Instancio.of(new TypeToken<Map<Long, String>>() {})
+                .generate(root(), gen -> gen.map().size(1000).subtype(subtype).with(-1L, "foo"))
+                .create();
+
+        assertThat(result)
+                .isExactlyInstanceOf(subtype)
+                .hasSize(1001)
+                .containsEntry(-1L, "foo");
+    }
+
     @Test
     void sizeZero() {
         assertSize(spec -> spec.size(0), 0);
@@ -125,6 +146,29 @@ class MapGeneratorSizeTest {
                     .isExactlyInstanceOf(InstancioException.class)
                     .hasMessageContaining("unable to populate Map");
         }
+
+        @Test
+        @DisplayName("Map size should be limited to the number of distinct keys up front")
+        void impossibleMapSizeViaSettings() {
+            final Map<Gender, String> result = Instancio.of(new TypeToken<Map<Gender, String>>() {})
+                    .withSetting(Keys.MAP_MIN_SIZE, 10)
+                    .withSetting(Keys.MAP_MAX_SIZE, 10)
+                    .create();
+
+            assertThat(result).containsOnlyKeys(Gender.values());
+        }
+
+        @Test
+        void impossibleMapSizeViaSettingsWithFailOnErrorEnabled() {
+            final InstancioApi<Map<Boolean, String>> api = Instancio.of(new TypeToken<Map<Boolean, String>>() {})
+                    .withSetting(Keys.FAIL_ON_ERROR, true)
+                    .withSetting(Keys.MAP_MIN_SIZE, 3)
+                    .withSetting(Keys.MAP_MAX_SIZE, 3);
+
+            assertThatThrownBy(api::create)
+                    .isExactlyInstanceOf(InstancioException.class)
+                    .hasMessageContaining("unable to populate Map of size 3");
+        }
     }
 
     private void assertSize(Function<MapGeneratorSpec<?, ?>, MapGeneratorSpec<?, ?>> fn, int expectedSize) {
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -69,6 +70,30 @@ class OneOfArrayGeneratorTest {
         assertThat(results).containsExactlyInAnyOrder(choices);
     }
 
+    @Test
+    void oneOfWeighted() {
+        final List<String> results = Instancio.of(String.class)
+                .generate(allStrings(), gen -> gen.oneOf("one", "two", "three").weights(1, 0, 99))
+                .stream()
+                .limit(Constants.SAMPLE_SIZE_DDD)
+                .toList();
+
+        assertThat(results)
+                .doesNotContain("two")
+                .filteredOn("three"::equals)
+                .hasSizeGreaterThan(Constants.SAMPLE_SIZE_DDD * 9 / 10);
+    }
+
+    @Test
+    void oneOfWeightedNullable() {
+        final Stream<String> results = Instancio.of(String.class)
+                .generate(allStrings(), gen -> gen.oneOf("one", "two").weights(1, 0).nullable())
+                .stream()
+                .limit(Constants.SAMPLE_SIZE_DD);
+
+        assertThat(results).containsOnly("one", null);
+    }
+
     @Test
     void oneOfNullable() {
         final Stream<String> results = Instancio.of(String.class)
@@ -73,6 +73,17 @@ class OneOfCollectionGeneratorTest {
         assertThat(results).containsAll(choices);
     }
 
+    @Test
+    void oneOfWeighted() {
+        final List<String> choices = Arrays.asList("one", "two", "three");
+        final Stream<String> results = Instancio.of(String.class)
+                .generate(allStrings(), gen -> gen.oneOf(choices).weights(0, 1, 1))
+                .stream()
+                .limit(Constants.SAMPLE_SIZE_DDD);
+
+        assertThat(results).containsOnly("two", "three");
+    }
+
     @Test
     void oneOfNullable() {
         final Set<String> choices = CollectionUtils.asSet("one");
@@ -152,6 +152,7 @@ class GeneratorMismatchTest {
         assertMessageContains("csv()", gen -> gen.text().csv());
         assertMessageContains("loremIpsum()", gen -> gen.text().loremIpsum());
         assertMessageContains("pattern()", gen -> gen.text().pattern("foo"));
+        assertMessageContains("regex()", gen -> gen.text().regex("foo"));
         assertMessageContains("uuid()", gen -> gen.text().uuid());
         assertMessageContains("word()", gen -> gen.text().word());
         assertMessageContains("wordTemplate()", gen -> gen.text().wordTemplate("example"));
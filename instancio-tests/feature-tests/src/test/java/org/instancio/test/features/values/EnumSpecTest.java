@@ -21,9 +21,12 @@ import org.instancio.junit.InstancioExtension;
 import org.instancio.test.support.pojo.person.Gender;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
+import org.instancio.test.support.util.Constants;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @FeatureTag(Feature.VALUE_SPEC)
@@ -41,4 +44,14 @@ class EnumSpecTest extends AbstractValueSpecTestTemplate<Gender> {
 
         assertThat(result).isEqualTo(Gender.OTHER);
     }
+
+    @Test
+    void weight() {
+        final List<Gender> results = spec()
+                .weight(Gender.FEMALE, 1)
+                .weight(Gender.OTHER, 2)
+                .list(Constants.SAMPLE_SIZE_DD);
+
+        assertThat(results).containsOnly(Gender.FEMALE, Gender.OTHER);
+    }
 }
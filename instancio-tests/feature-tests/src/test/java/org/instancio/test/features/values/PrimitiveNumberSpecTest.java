@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.values;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@FeatureTag(Feature.VALUE_SPEC)
+@ExtendWith(InstancioExtension.class)
+class PrimitiveNumberSpecTest {
+
+    private static final int SAMPLE_SIZE = 1000;
+
+    @Test
+    void intArray() {
+        final int[] result = Instancio.gen().ints().range(1, 3).range(10, 12).intArray(SAMPLE_SIZE);
+
+        assertThat(result)
+                .hasSize(SAMPLE_SIZE)
+                .containsOnly(1, 2, 3, 10, 11, 12);
+    }
+
+    @Test
+    void intStream() {
+        assertThat(Instancio.gen().ints().min(-5).max(5).intStream().limit(SAMPLE_SIZE))
+                .hasSize(SAMPLE_SIZE)
+                .allSatisfy(i -> assertThat(i).isBetween(-5, 5))
+                .contains(-5, 5);
+    }
+
+    @Test
+    void longArray() {
+        final long[] result = Instancio.gen().longs().range(1L, 3L).longArray(SAMPLE_SIZE);
+
+        assertThat(result)
+                .hasSize(SAMPLE_SIZE)
+                .containsOnly(1L, 2L, 3L);
+    }
+
+    @Test
+    void longStream() {
+        assertThat(Instancio.gen().longs().min(Long.MAX_VALUE - 1).longStream().limit(SAMPLE_SIZE))
+                .hasSize(SAMPLE_SIZE)
+                .containsOnly(Long.MAX_VALUE - 1, Long.MAX_VALUE);
+    }
+
+    @Test
+    void doubleArray() {
+        final double[] result = Instancio.gen().doubles().range(-1.5, -1.0).doubleArray(SAMPLE_SIZE);
+
+        assertThat(result)
+                .hasSize(SAMPLE_SIZE)
+                .allSatisfy(d -> assertThat(d).isBetween(-1.5, -1.0));
+    }
+
+    @Test
+    void doubleStreamShouldHaveTheSameScaleAsBoxedValues() {
+        assertThat(Instancio.gen().doubles().min(1d).max(1000d).doubleStream().limit(SAMPLE_SIZE))
+                .hasSize(SAMPLE_SIZE)
+                .allSatisfy(d -> assertThat(BigDecimal.valueOf(d).scale()).isLessThanOrEqualTo(2))
+                .allSatisfy(d -> assertThat(d).isBetween(1d, 1000d));
+    }
+
+    @Test
+    void doubleArrayShouldRoundHalfUpLikeBoxedValues() {
+        assertThat(Instancio.gen().doubles().range(1.005, 1.005).doubleArray(SAMPLE_SIZE))
+                .containsOnly(Instancio.gen().doubles().range(1.005, 1.005).get())
+                .containsOnly(1.01);
+    }
+
+    @Test
+    void doubleArrayWithRangeExceedingLongUnscaledValues() {
+        final double min = -1e20;
+        final double max = 1e20;
+
+        assertThat(Instancio.gen().doubles().range(min, max).doubleArray(SAMPLE_SIZE))
+                .hasSize(SAMPLE_SIZE)
+                .allSatisfy(d -> assertThat(d).isBetween(min, max));
+    }
+
+    @Test
+    void nullableIsIgnored() {
+        assertThat(Instancio.gen().ints().nullable().intArray(SAMPLE_SIZE)).hasSize(SAMPLE_SIZE);
+        assertThat(Instancio.gen().longs().nullable().longArray(SAMPLE_SIZE)).hasSize(SAMPLE_SIZE);
+        assertThat(Instancio.gen().doubles().nullable().doubleArray(SAMPLE_SIZE)).hasSize(SAMPLE_SIZE);
+    }
+
+    @Test
+    void emptyArray() {
+        assertThat(Instancio.gen().ints().intArray(0)).isEmpty();
+    }
+
+    @Test
+    void negativeSize() {
+        assertThatThrownBy(() -> Instancio.gen().doubles().doubleArray(-1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("size must not be negative: -1");
+    }
+}
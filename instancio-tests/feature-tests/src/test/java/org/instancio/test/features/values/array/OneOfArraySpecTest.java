@@ -21,9 +21,12 @@ import org.instancio.junit.InstancioExtension;
 import org.instancio.test.features.values.AbstractValueSpecTestTemplate;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
+import org.instancio.test.support.util.Constants;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,4 +45,13 @@ class OneOfArraySpecTest extends AbstractValueSpecTestTemplate<String> {
     protected void assertDefaultSpecValue(final String actual) {
         assertThat(actual).isIn(Arrays.asList(CHOICES));
     }
+
+    @Test
+    void weights() {
+        final List<String> results = Instancio.gen().oneOf(CHOICES)
+                .weights(1, 0, 1)
+                .list(Constants.SAMPLE_SIZE_DD);
+
+        assertThat(results).containsOnly("foo", "baz");
+    }
 }
@@ -68,6 +68,41 @@ class ShuffleSpecTest extends AbstractValueSpecTestTemplate<Collection<String>>
         assertThat(array).containsExactly("A", "B", "C");
     }
 
+    @Test
+    void shuffleWithSize() {
+        final List<Collection<String>> results = spec().size(2).list(Constants.SAMPLE_SIZE_DDD);
+
+        final Set<String> unique = results
+                .stream()
+                .map(list -> String.join("", list))
+                .collect(Collectors.toSet());
+
+        assertThat(unique).containsExactlyInAnyOrder("AB", "AC", "BA", "BC", "CA", "CB");
+    }
+
+    @Test
+    void shuffleWithSizeZero() {
+        assertThat(spec().size(0).get()).isEmpty();
+    }
+
+    @Test
+    void shuffleWithSizeExceedingNumberOfElements() {
+        final ShuffleSpec<String> spec = spec().size(4);
+
+        assertThatThrownBy(spec::get)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("shuffle size must not exceed the number of elements: 4, 3");
+    }
+
+    @Test
+    void shuffleWithNegativeSize() {
+        final ShuffleSpec<String> spec = spec();
+
+        assertThatThrownBy(() -> spec.size(-1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("shuffle size must not be negative: -1");
+    }
+
     private static void assertShuffled(final List<Collection<String>> shuffled) {
         final Set<String> unique = shuffled
                 .stream()
@@ -16,6 +16,7 @@
 package org.instancio.test.features.values.net;
 
 import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.specs.URISpec;
 import org.instancio.junit.InstancioExtension;
 import org.instancio.test.features.values.AbstractValueSpecTestTemplate;
@@ -27,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import java.net.URI;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @FeatureTag(Feature.VALUE_SPEC)
 @ExtendWith(InstancioExtension.class)
@@ -52,6 +54,30 @@ class URISpecTest extends AbstractValueSpecTestTemplate<URI> {
         assertThat(spec().host(r -> "foo").get()).hasHost("foo");
     }
 
+    @Test
+    void defaultComponents() {
+        final URI result = spec().get();
+
+        assertThat(result)
+                .hasScheme("http")
+                .hasNoPort()
+                .hasNoQuery()
+                .hasNoFragment()
+                .hasNoUserInfo();
+
+        assertThat(result.getHost()).matches("[a-z]{3,12}");
+        assertThat(result).isEqualTo(URI.create("http://" + result.getHost()));
+    }
+
+    @Test
+    void invalidScheme() {
+        final URISpec spec = spec().scheme("not a scheme");
+
+        assertThatThrownBy(spec::get)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("error generating a URI using parameters");
+    }
+
     @Test
     void port() {
         assertThat(spec().port(1234).get()).hasPort(1234);
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.values.temporal;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.generator.specs.TimeSeriesSpec;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.features.values.AbstractValueSpecTestTemplate;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.instancio.test.support.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.allLongs;
+
+@FeatureTag(Feature.VALUE_SPEC)
+@ExtendWith(InstancioExtension.class)
+class TimeSeriesValueSpecTest extends AbstractValueSpecTestTemplate<Instant> {
+
+    private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Override
+    protected TimeSeriesSpec spec() {
+        return Instancio.gen().temporal().timeSeries();
+    }
+
+    @Test
+    void defaultInterval() {
+        final List<Instant> actual = spec().start(START).list(3);
+
+        assertThat(actual).containsExactly(START, START.plusSeconds(1), START.plusSeconds(2));
+    }
+
+    @Test
+    void interval() {
+        final List<Instant> actual = spec().start(START).interval(Duration.ofMinutes(5)).list(3);
+
+        assertThat(actual).containsExactly(START, START.plusSeconds(300), START.plusSeconds(600));
+    }
+
+    @Test
+    void jitter() {
+        final Duration interval = Duration.ofMinutes(1);
+        final Duration jitter = Duration.ofSeconds(10);
+
+        final List<Instant> actual = spec()
+                .jitter(jitter)
+                .interval(interval)
+                .list(Constants.SAMPLE_SIZE_DDD);
+
+        assertThat(actual).isSorted();
+
+        for (int i = 1; i < actual.size(); i++) {
+            assertThat(Duration.between(actual.get(i - 1), actual.get(i)))
+                    .isBetween(interval.minus(jitter), interval.plus(jitter));
+        }
+    }
+
+    @Test
+    void jitterJustBelowIntervalShouldProduceStrictlyAscendingValues() {
+        final List<Instant> actual = spec()
+                .interval(Duration.ofNanos(2))
+                .jitter(Duration.ofNanos(1))
+                .list(Constants.SAMPLE_SIZE_DDD);
+
+        assertThat(actual).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void jitterEqualToIntervalShouldBeRejected() {
+        final TimeSeriesSpec spec = spec()
+                .interval(Duration.ofNanos(1))
+                .jitter(Duration.ofNanos(1));
+
+        assertThatThrownBy(spec::get)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("time series jitter must be less than the interval: PT0.000000001S");
+    }
+
+    @Test
+    void startNearMaxInstant() {
+        assertThat(spec().start(Instant.MAX).get()).isEqualTo(Instant.MAX);
+
+        assertThat(spec().start(Instant.MAX.minusSeconds(2)).list(3))
+                .containsExactly(Instant.MAX.minusSeconds(2), Instant.MAX.minusSeconds(1), Instant.MAX);
+    }
+
+    @Test
+    void seriesExceedingMaxInstant() {
+        final TimeSeriesSpec spec = spec().start(Instant.MAX.minusSeconds(1));
+
+        assertThat(spec.get()).isEqualTo(Instant.MAX.minusSeconds(1));
+        assertThat(spec.get()).isEqualTo(Instant.MAX);
+
+        assertThatThrownBy(spec::get)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("time series exceeded the maximum instant")
+                .hasMessageContaining("start: " + Instant.MAX.minusSeconds(1))
+                .hasMessageContaining("interval: PT1S, jitter: PT0S");
+    }
+
+    @Test
+    void asEpochMillis() {
+        final List<Long> actual = Instancio.ofList(Long.class)
+                .size(3)
+                .generate(allLongs(), gen -> gen.temporal().timeSeries()
+                        .start(Instant.EPOCH)
+                        .interval(Duration.ofMillis(5))
+                        .as(Instant::toEpochMilli))
+                .create();
+
+        assertThat(actual).containsExactly(0L, 5L, 10L);
+    }
+
+    @Test
+    void validation() {
+        assertThatThrownBy(() -> spec().interval(Duration.ZERO))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("time series interval must be positive: PT0S");
+
+        assertThatThrownBy(() -> spec().jitter(Duration.ofSeconds(-1)))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("time series jitter must not be negative: PT-1S");
+
+        assertThatThrownBy(() -> spec().interval(Duration.ofDays(36_501)))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("time series interval must not exceed PT876000H: PT876024H");
+
+        assertThatThrownBy(() -> spec().jitter(ChronoUnit.FOREVER.getDuration()))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("time series jitter must not exceed PT876000H");
+
+        final TimeSeriesSpec spec = spec().jitter(Duration.ofSeconds(2));
+
+        assertThatThrownBy(spec::get)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("time series jitter must be less than the interval: PT2S, PT1S");
+    }
+}
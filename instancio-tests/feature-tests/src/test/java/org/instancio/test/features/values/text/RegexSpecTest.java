@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.values.text;
+
+import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.generator.specs.RegexSpec;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.test.features.values.AbstractValueSpecTestTemplate;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.instancio.test.support.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@FeatureTag(Feature.VALUE_SPEC)
+@ExtendWith(InstancioExtension.class)
+class RegexSpecTest extends AbstractValueSpecTestTemplate<String> {
+
+    @Override
+    protected RegexSpec spec() {
+        return Instancio.gen().text().regex("[A-Z]{2}-\\d{4}");
+    }
+
+    @Override
+    protected void assertDefaultSpecValue(final String actual) {
+        assertThat(actual).matches("[A-Z]{2}-\\d{4}");
+    }
+
+    @ValueSource(strings = {
+            "foo",
+            "(foo|bar)_[a-z]+",
+            "^\\w+@[a-z]{3,10}\\.(com|org)$",
+            "[^a-z]{5}",
+            "(?i)abc[x-z]?",
+            "\\p{Upper}\\p{Lower}*",
+            "\\Q*.*\\E\\d?",
+            "(ab){2,}c*"
+    })
+    @ParameterizedTest
+    void shouldGenerateValuesMatchingRegex(final String regex) {
+        assertThat(Instancio.gen().text().regex(regex).list(Constants.SAMPLE_SIZE_DDD))
+                .allSatisfy(value -> assertThat(value).matches(regex));
+    }
+
+    @Test
+    void shouldGenerateDistinctValues() {
+        assertThat(Instancio.gen().text().regex("[a-z]{10}").list(Constants.SAMPLE_SIZE_DD))
+                .doesNotHaveDuplicates();
+    }
+
+    @ValueSource(strings = {"(a)\\1", "(?=a)a", "a\\bb", "a++"})
+    @ParameterizedTest
+    void unsupportedRegex(final String regex) {
+        assertThatThrownBy(() -> Instancio.gen().text().regex(regex))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("unable to generate values for regex");
+    }
+
+    @Test
+    void invalidRegex() {
+        assertThatThrownBy(() -> Instancio.gen().text().regex("[a-"))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("invalid regex: [a-");
+    }
+}
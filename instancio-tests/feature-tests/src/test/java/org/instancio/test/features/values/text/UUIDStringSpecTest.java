@@ -24,6 +24,8 @@ import org.instancio.test.support.tags.FeatureTag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @FeatureTag(Feature.VALUE_SPEC)
@@ -35,6 +37,13 @@ class UUIDStringSpecTest extends AbstractValueSpecTestTemplate<String> {
         return Instancio.gen().text().uuid();
     }
 
+    @Override
+    protected void assertDefaultSpecValue(final String actual) {
+        final UUID uuid = UUID.fromString(actual);
+        assertThat(uuid).hasToString(actual);
+        assertThat(uuid.version()).isEqualTo(4);
+    }
+
     @Test
     void upperCase() {
         final String result = spec().upperCase().get();
@@ -46,4 +55,16 @@ class UUIDStringSpecTest extends AbstractValueSpecTestTemplate<String> {
         final String result = spec().withoutDashes().get();
         assertThat(result).doesNotContain("-");
     }
+
+    @Test
+    void upperCaseWithoutDashes() {
+        final String result = spec().upperCase().withoutDashes().get();
+        assertThat(result).matches("[0-9A-F]{32}");
+    }
+
+    @Test
+    void version7() {
+        final String result = spec().version7().get();
+        assertThat(UUID.fromString(result).version()).isEqualTo(7);
+    }
 }
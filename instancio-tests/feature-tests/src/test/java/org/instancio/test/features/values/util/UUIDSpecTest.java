@@ -21,10 +21,15 @@ import org.instancio.junit.InstancioExtension;
 import org.instancio.test.features.values.AbstractValueSpecTestTemplate;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
+import org.instancio.test.support.util.Constants;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @FeatureTag(Feature.VALUE_SPEC)
 @ExtendWith(InstancioExtension.class)
 class UUIDSpecTest extends AbstractValueSpecTestTemplate<UUID> {
@@ -33,4 +38,24 @@ class UUIDSpecTest extends AbstractValueSpecTestTemplate<UUID> {
     protected UUIDSpec spec() {
         return Instancio.gen().uuid();
     }
+
+    @Override
+    protected void assertDefaultSpecValue(final UUID actual) {
+        assertThat(actual.version()).isEqualTo(4);
+        assertThat(actual.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void version7() {
+        final List<UUID> results = spec().version7().list(Constants.SAMPLE_SIZE_DDD);
+
+        assertThat(results)
+                .allSatisfy(uuid -> {
+                    assertThat(uuid.version()).isEqualTo(7);
+                    assertThat(uuid.variant()).isEqualTo(2);
+                })
+                .extracting(UUID::toString)
+                .isSorted()
+                .doesNotHaveDuplicates();
+    }
 }
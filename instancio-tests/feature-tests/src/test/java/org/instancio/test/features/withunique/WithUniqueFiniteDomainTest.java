@@ -0,0 +1,157 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.features.withunique;
+
+import org.instancio.Instancio;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.Keys;
+import org.instancio.test.support.pojo.basic.IntegerHolder;
+import org.instancio.test.support.pojo.basic.StringHolder;
+import org.instancio.test.support.tags.Feature;
+import org.instancio.test.support.tags.FeatureTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.instancio.Select.all;
+import static org.instancio.Select.allInts;
+import static org.instancio.Select.allLongs;
+import static org.instancio.Select.allShorts;
+import static org.instancio.Select.allStrings;
+import static org.instancio.Select.field;
+
+/**
+ * Unique values from bounded domains are generated by enumerating
+ * the domain in a random order, therefore the entire domain can be
+ * generated without exceeding the maximum number of attempts.
+ */
+@FeatureTag(Feature.WITH_UNIQUE)
+@ExtendWith(InstancioExtension.class)
+class WithUniqueFiniteDomainTest {
+
+    private static final int SIZE = 10_000;
+
+    @Test
+    void entireIntegerRange() {
+        final List<Integer> results = Instancio.ofList(Integer.class)
+                .size(SIZE)
+                .generate(allInts(), gen -> gen.ints().range(1, SIZE))
+                .withUnique(allInts())
+                .withSetting(Keys.MAX_GENERATION_ATTEMPTS, 1)
+                .create();
+
+        assertThat(results).containsExactlyInAnyOrderElementsOf(
+                IntStream.rangeClosed(1, SIZE).boxed().toList());
+    }
+
+    @Test
+    void entireRangeUsingSettings() {
+        final List<Short> results = Instancio.ofList(Short.class)
+                .size(101)
+                .withSetting(Keys.SHORT_MIN, (short) 0)
+                .withSetting(Keys.SHORT_MAX, (short) 100)
+                .withSetting(Keys.MAX_GENERATION_ATTEMPTS, 1)
+                .withUnique(allShorts())
+                .create();
+
+        assertThat(results).doesNotHaveDuplicates().allSatisfy(s -> assertThat(s).isBetween((short) 0, (short) 100));
+    }
+
+    @Test
+    void allEnumValues() {
+        final List<DayOfWeek> results = Instancio.ofList(DayOfWeek.class)
+                .size(7)
+                .withUnique(all(DayOfWeek.class))
+                .withSetting(Keys.MAX_GENERATION_ATTEMPTS, 1)
+                .create();
+
+        assertThat(results).containsExactlyInAnyOrder(DayOfWeek.values());
+    }
+
+    @Test
+    void allFixedLengthStrings() {
+        final List<String> results = Instancio.ofList(String.class)
+                .size(100)
+                .generate(allStrings(), gen -> gen.string().digits().length(2).prefix("id-"))
+                .withUnique(allStrings())
+                .withSetting(Keys.MAX_GENERATION_ATTEMPTS, 1)
+                .create();
+
+        assertThat(results)
+                .hasSize(100)
+                .doesNotHaveDuplicates()
+                .allSatisfy(s -> assertThat(s).matches("id-\\d{2}"));
+    }
+
+    @Test
+    void uniqueStringsShouldHaveFieldPrefix() {
+        final int size = 26 * 26;
+        final List<StringHolder> results = Instancio.ofList(StringHolder.class)
+                .size(size)
+                .withUnique(field(StringHolder::getValue))
+                .withSetting(Keys.STRING_FIELD_PREFIX_ENABLED, true)
+                .withSetting(Keys.STRING_MIN_LENGTH, 2)
+                .withSetting(Keys.STRING_MAX_LENGTH, 2)
+                .withSetting(Keys.MAX_GENERATION_ATTEMPTS, 1)
+                .create();
+
+        assertThat(results)
+                .extracting(StringHolder::getValue)
+                .hasSize(size)
+                .doesNotHaveDuplicates()
+                .allSatisfy(s -> assertThat(s).matches("value_[A-Z]{2}"));
+    }
+
+    @Test
+    void shouldBeReproducibleWithSeed() {
+        final List<Long> results1 = createLongs();
+        final List<Long> results2 = createLongs();
+
+        assertThat(results1).isEqualTo(results2).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void valuesFromDifferentRangesShouldNotBeDuplicated() {
+        // primitives are generated by enumerating [1, 100], whereas
+        // wrappers are generated randomly from [1, 50] and filtered
+        final List<IntegerHolder> results = Instancio.ofList(IntegerHolder.class)
+                .size(20)
+                .generate(field(IntegerHolder::getPrimitive), gen -> gen.ints().range(1, 100))
+                .generate(field(IntegerHolder::getWrapper), gen -> gen.ints().range(1, 50))
+                .withUnique(allInts())
+                .create();
+
+        final List<Integer> values = results.stream()
+                .flatMap(holder -> Stream.of(holder.getPrimitive(), holder.getWrapper()))
+                .toList();
+
+        assertThat(values).hasSize(40).doesNotHaveDuplicates();
+    }
+
+    private static List<Long> createLongs() {
+        return Instancio.ofList(Long.class)
+                .size(100)
+                .generate(allLongs(), gen -> gen.longs().range(1L, 1000L))
+                .withUnique(allLongs())
+                .withSeed(123)
+                .create();
+    }
+}
@@ -28,7 +28,7 @@ class InternalGeneratorHintTest {
         assertThat(InternalGeneratorHint.builder().build())
                 .hasToString("GeneratorHint[targetClass=null, " +
                         "nullableResult=false, emptyResult=false, emitNull=false, " +
-                        "explicitMaxSize=null, excludeFromCallbacks=false]");
+                        "explicitMaxSize=null, presizable=false, excludeFromCallbacks=false]");
 
         assertThat(InternalGeneratorHint.builder()
                 .targetClass(Map.class)
@@ -36,9 +36,11 @@ class InternalGeneratorHintTest {
                 .emptyResult(true)
                 .emitNull(true)
                 .explicitMaxSize(10)
+                .presizable(true)
                 .excludeFromCallbacks(true)
                 .build())
                 .hasToString("GeneratorHint[targetClass=java.util.Map, " +
-                        "nullableResult=true, emptyResult=true, emitNull=true, explicitMaxSize=10, excludeFromCallbacks=true]");
+                        "nullableResult=true, emptyResult=true, emitNull=true, explicitMaxSize=10, " +
+                        "presizable=true, excludeFromCallbacks=true]");
     }
 }
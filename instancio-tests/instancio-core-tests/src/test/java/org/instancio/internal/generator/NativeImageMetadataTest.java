@@ -0,0 +1,64 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator;
+
+import org.instancio.internal.util.ReflectionUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that native-image metadata shipped with {@code instancio-core}
+ * registers every built-in generator, since these are instantiated reflectively.
+ */
+class NativeImageMetadataTest {
+
+    private static final String REFLECT_CONFIG =
+            "/META-INF/native-image/org.instancio/instancio-core/reflect-config.json";
+
+    @Test
+    void reflectConfigShouldIncludeAllBuiltInGenerators() throws IOException {
+        final String config = readReflectConfig();
+
+        @SuppressWarnings("unchecked")
+        final Map<Class<?>, Class<?>> generators = (Map<Class<?>, Class<?>>) ReflectionUtils.getFieldValue(
+                getGeneratorsField(), GeneratorResolverMaps.class);
+
+        assertThat(generators.values())
+                .filteredOn(Objects::nonNull)
+                .allSatisfy(generatorClass -> assertThat(config)
+                        .as("reflect-config.json should include %s", generatorClass)
+                        .contains("\"" + generatorClass.getName() + "\""));
+    }
+
+    private static Field getGeneratorsField() {
+        return ReflectionUtils.getField(GeneratorResolverMaps.class, "GENERATORS");
+    }
+
+    private static String readReflectConfig() throws IOException {
+        try (InputStream in = NativeImageMetadataTest.class.getResourceAsStream(REFLECT_CONFIG)) {
+            assertThat(in).as("Missing %s", REFLECT_CONFIG).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -15,16 +15,22 @@
  */
 package org.instancio.internal.generator.array;
 
+import org.instancio.Random;
 import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.AfterGenerate;
 import org.instancio.generator.Hints;
 import org.instancio.internal.generator.AbstractGeneratorTestTemplate;
+import org.instancio.internal.generator.lang.BooleanGenerator;
+import org.instancio.internal.generator.lang.IntegerGenerator;
 import org.instancio.settings.Keys;
 import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
 import org.instancio.test.support.tags.Feature;
 import org.instancio.test.support.tags.FeatureTag;
 import org.instancio.test.support.tags.NonDeterministicTag;
 import org.instancio.testsupport.asserts.HintsAssert;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -106,4 +112,55 @@ class ArrayGeneratorTest extends AbstractGeneratorTestTemplate<String[], ArrayGe
                 .isExactlyInstanceOf(InstancioApiException.class)
                 .hasMessageContaining("type must be an array: %s", String.class);
     }
+
+    @Nested
+    class FillPrimitiveArrayTest {
+        private static final long SEED = 123;
+
+        @Test
+        void fixedRangeUsesSameRandomDrawsAsGenerator() {
+            final IntegerGenerator intGenerator = new IntegerGenerator(getGeneratorContext())
+                    .nullable(false)
+                    .min(-5)
+                    .max(5);
+
+            final int[] expected = new int[SAMPLE_SIZE];
+            final Random expectedRandom = new DefaultRandom(SEED, Seeds.Source.MANUAL);
+            for (int i = 0; i < expected.length; i++) {
+                expected[i] = intGenerator.generate(expectedRandom);
+            }
+
+            final int[] actual = new int[SAMPLE_SIZE];
+            ArrayGenerator.fillPrimitiveArray(
+                    actual, intGenerator, new DefaultRandom(SEED, Seeds.Source.MANUAL), 0);
+
+            assertThat(actual).isEqualTo(expected).contains(-5, 5);
+        }
+
+        @Test
+        void nonNumericGenerator() {
+            final BooleanGenerator booleanGenerator = new BooleanGenerator(getGeneratorContext());
+            booleanGenerator.nullable(false);
+            final boolean[] actual = new boolean[SAMPLE_SIZE];
+
+            ArrayGenerator.fillPrimitiveArray(actual, booleanGenerator, random, 0);
+
+            assertThat(actual).contains(true, false);
+        }
+
+        @Test
+        void nullValuesRetainDefaultValueOnceRetriesAreExhausted() {
+            final IntegerGenerator intGenerator = new IntegerGenerator(getGeneratorContext())
+                    .nullable()
+                    .range(1, 10);
+
+            final int[] withoutRetries = new int[SAMPLE_SIZE];
+            ArrayGenerator.fillPrimitiveArray(withoutRetries, intGenerator, random, 0);
+            assertThat(withoutRetries).contains(0);
+
+            final int[] withRetries = new int[SAMPLE_SIZE];
+            ArrayGenerator.fillPrimitiveArray(withRetries, intGenerator, random, Integer.MAX_VALUE);
+            assertThat(withRetries).doesNotContain(0);
+        }
+    }
 }
@@ -15,8 +15,13 @@
  */
 package org.instancio.internal.generator.array;
 
+import org.instancio.exception.InstancioApiException;
 import org.instancio.internal.generator.AbstractGeneratorTestTemplate;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class OneOfArrayGeneratorTest extends AbstractGeneratorTestTemplate<String, OneOfArrayGenerator<String>> {
 
@@ -36,4 +41,48 @@ class OneOfArrayGeneratorTest extends AbstractGeneratorTestTemplate<String, OneO
     protected OneOfArrayGenerator<String> generator() {
         return generator;
     }
+
+    @Test
+    void weights() {
+        generator.weights(0, 1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(generator.generate(random)).isEqualTo("bar");
+        }
+    }
+
+    @Test
+    void oneOfShouldResetWeights() {
+        generator.weights(0, 1);
+        generator.oneOf("foo");
+
+        assertThat(generator.generate(random)).isEqualTo("foo");
+    }
+
+    @Test
+    void weightsValidation() {
+        assertThatThrownBy(() -> generator.weights((double[]) null))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("weights must not be null: weights()");
+
+        assertThatThrownBy(() -> generator.weights(1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("number of weights (1) must match the number of choices (2): weights()");
+
+        assertThatThrownBy(() -> generator.weights(1, -1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("weight must be a non-negative finite number: -1.0");
+
+        assertThatThrownBy(() -> generator.weights(1, Double.NaN))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("weight must be a non-negative finite number: NaN");
+
+        assertThatThrownBy(() -> generator.weights(0, 0))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("at least one weight must be greater than zero: weights()");
+
+        assertThatThrownBy(() -> generator.weights(Double.MAX_VALUE, Double.MAX_VALUE))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("sum of weights must be finite: weights()");
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.checksum;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DigitBufferTest {
+
+    @Test
+    void randomDigitsConsumesSameValuesAsRandomDigits() {
+        final Random expectedRandom = new DefaultRandom(123L, Seeds.Source.MANUAL);
+        final Random actualRandom = new DefaultRandom(123L, Seeds.Source.MANUAL);
+        final char[] buffer = "ab0000000000yz".toCharArray();
+
+        DigitBuffer.randomDigits(actualRandom, buffer, 2, 10);
+
+        assertThat(new String(buffer)).isEqualTo("ab" + expectedRandom.digits(10) + "yz");
+        assertThat(actualRandom.longRange(0, Long.MAX_VALUE))
+                .isEqualTo(expectedRandom.longRange(0, Long.MAX_VALUE));
+    }
+
+    @Test
+    void digitAtAndToChar() {
+        final char[] buffer = "0123456789".toCharArray();
+
+        for (int i = 0; i < buffer.length; i++) {
+            assertThat(DigitBuffer.digitAt(buffer, i)).isEqualTo(i);
+            assertThat(DigitBuffer.toChar(i)).isEqualTo(buffer[i]);
+        }
+    }
+
+    @Test
+    void weightedSum() {
+        final char[] buffer = "x4417123456789".toCharArray();
+
+        assertThat(DigitBuffer.weightedSum(buffer, 1, new int[]{2, 1, 2, 1}))
+                .isEqualTo(4 * 2 + 4 + 1 * 2 + 7);
+        assertThat(DigitBuffer.weightedSum(buffer, 5, new int[]{0, 0, 1}))
+                .isEqualTo(3);
+        assertThat(DigitBuffer.weightedSum(buffer, 0, new int[0])).isZero();
+    }
+
+    @CsvSource({
+            "0, 1, 0",
+            "7, 2, 07",
+            "42, 2, 42",
+            "42, 4, 0042",
+            "1234, 2, 34",
+    })
+    @ParameterizedTest
+    void writeDigits(final int value, final int width, final String expected) {
+        final char[] buffer = new char[width + 2];
+        buffer[0] = '[';
+        buffer[width + 1] = ']';
+
+        DigitBuffer.writeDigits(buffer, 1, width, value);
+
+        assertThat(new String(buffer)).isEqualTo("[" + expected + "]");
+    }
+
+    @CsvSource({
+            "0, 1",
+            "9, 1",
+            "10, 2",
+            "55, 2",
+            "100, 3",
+            "2147483647, 10",
+    })
+    @ParameterizedTest
+    void digitCount(final int value, final int expected) {
+        assertThat(DigitBuffer.digitCount(value)).isEqualTo(expected);
+    }
+}
@@ -56,6 +56,6 @@ class SsnGeneratorTest extends AbstractGeneratorTestTemplate<String, SsnGenerato
     })
     @ParameterizedTest
     void isInvalid(final String ssn) {
-        assertThat(SsnGenerator.isInvalid(ssn)).isTrue();
+        assertThat(SsnGenerator.isInvalid(ssn.toCharArray())).isTrue();
     }
 }
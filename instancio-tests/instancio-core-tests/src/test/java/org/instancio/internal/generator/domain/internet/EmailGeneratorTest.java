@@ -70,6 +70,14 @@ class EmailGeneratorTest extends AbstractGeneratorTestTemplate<String, EmailGene
                 .matches("^\\w+@\\w+\\.\\p{Lower}{3}$");
     }
 
+    @RepeatedTest(100)
+    void lowerCaseAlphanumeric() {
+        generator.length(3, 30);
+
+        assertThat(generator.generate(random))
+                .matches("^[a-z0-9]+@[a-z0-9]+(\\.(com|edu|net|org))?$");
+    }
+
     @Test
     void validation() {
         assertThatThrownBy(() -> generator.length(2))
@@ -60,6 +60,26 @@ class Ip4GeneratorTest extends AbstractGeneratorTestTemplate<String, Ip4Generato
                 .hasSize(256);
     }
 
+    @Test
+    void octetsWithoutLeadingZeros() {
+        for (int i = 0; i < Constants.SAMPLE_SIZE_DDD; i++) {
+            final String result = generator.generate(random);
+            final String[] octets = result.split("\\.");
+
+            assertThat(octets).hasSize(4).allSatisfy(octet ->
+                    assertThat(octet).isEqualTo(String.valueOf(Integer.parseInt(octet))));
+        }
+    }
+
+    @Test
+    void fromCidrChangedAfterGenerating() {
+        generator.fromCidr("10.0.0.0/8");
+        assertThat(generator.generate(random)).startsWith("10.");
+
+        generator.fromCidr("192.168.1.1/32");
+        assertThat(generator.generate(random)).isEqualTo("192.168.1.1");
+    }
+
     @Test
     void fromCidrInvalidValue() {
         final String badInput = "foo";
@@ -20,6 +20,7 @@ import org.instancio.exception.InstancioApiException;
 import org.instancio.generator.Generator;
 import org.instancio.generator.GeneratorContext;
 import org.instancio.internal.generator.InternalGeneratorContext;
+import org.instancio.internal.generator.unique.EnumDomain;
 import org.instancio.settings.Settings;
 import org.instancio.support.DefaultRandom;
 import org.instancio.test.support.pojo.empty.EmptyEnum;
@@ -30,6 +31,7 @@ import org.instancio.test.support.tags.NonDeterministicTag;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -75,6 +77,25 @@ class EnumGeneratorTest {
         assertThat(generator.generate(random)).isEqualTo(Gender.OTHER);
     }
 
+    @Test
+    void excludingShouldReplacePreviousExclusions() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+        generator.excluding(Gender.OTHER);
+        generator.excluding(Gender.MALE, Gender.FEMALE);
+
+        assertThat(IntStream.range(1, 100).mapToObj(i -> generator.generate(random)))
+                .containsOnly(Gender.OTHER);
+    }
+
+    @Test
+    void excludingAllValuesShouldBeIgnored() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
+        generator.excluding(Gender.values());
+
+        assertThat(IntStream.range(1, 500).mapToObj(i -> generator.generate(random)))
+                .containsOnly(Gender.values());
+    }
+
     @Test
     void excludingWithEmptyArgs() {
         final EnumGenerator<SingleValueEnum> generator = new EnumGenerator<>(context, SingleValueEnum.class);
@@ -82,6 +103,47 @@ class EnumGeneratorTest {
         assertThat(generator.generate(random)).isEqualTo(SingleValueEnum.ONLY);
     }
 
+    @Test
+    void weight() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class)
+                .weight(Gender.MALE, 1)
+                .weight(Gender.OTHER, 3);
+
+        assertThat(IntStream.range(1, 500).mapToObj(i -> generator.generate(random)))
+                .containsOnly(Gender.MALE, Gender.OTHER);
+    }
+
+    @Test
+    void weightWithExcluding() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class)
+                .weight(Gender.MALE, 1)
+                .weight(Gender.OTHER, 3)
+                .excluding(Gender.MALE);
+
+        assertThat(IntStream.range(1, 100).mapToObj(i -> generator.generate(random)))
+                .containsOnly(Gender.OTHER);
+    }
+
+    @Test
+    void weightShouldReplacePreviousWeight() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class)
+                .weight(Gender.MALE, 1)
+                .weight(Gender.FEMALE, 1)
+                .weight(Gender.MALE, 0);
+
+        assertThat(IntStream.range(1, 100).mapToObj(i -> generator.generate(random)))
+                .containsOnly(Gender.FEMALE);
+    }
+
+    @Test
+    void finiteDomainWithWeights() {
+        final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class)
+                .weight(Gender.MALE, 0)
+                .weight(Gender.FEMALE, 2);
+
+        assertThat(generator.getFiniteDomain()).isEqualTo(new EnumDomain(List.of(Gender.FEMALE)));
+    }
+
     @Test
     void nullable() {
         final EnumGenerator<Gender> generator = new EnumGenerator<>(context, Gender.class);
@@ -102,5 +164,18 @@ class EnumGeneratorTest {
         assertThatThrownBy(() -> new EnumGenerator<>(context, null))
                 .isExactlyInstanceOf(InstancioApiException.class)
                 .hasMessageContaining("enum class must not be null");
+
+        assertThatThrownBy(() -> generator.weight(null, 1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("enum value must not be null: weight()");
+
+        assertThatThrownBy(() -> generator.weight(Gender.MALE, -1))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("weight must be a non-negative finite number: -1.0");
+
+        generator.weight(Gender.MALE, 0);
+        assertThatThrownBy(() -> generator.generate(random))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("at least one of the enum values must have a weight greater than zero: weight()");
     }
 }
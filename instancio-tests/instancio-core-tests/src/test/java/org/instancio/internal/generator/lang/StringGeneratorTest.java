@@ -93,6 +93,39 @@ class StringGeneratorTest extends AbstractGeneratorTestTemplate<String, StringGe
         }
     }
 
+    @Test
+    void settingsModifiedAfterGeneratingValues() {
+        final StringGenerator generator = nonNullGenerator().length(5);
+
+        assertThat(generator.generate(random)).matches("[A-Z]{5}");
+
+        generator.prefix("foo-").suffix("-bar").digits();
+        assertThat(generator.generate(random)).matches("foo-\\d{5}-bar");
+
+        generator.hex().lowerCase();
+        assertThat(generator.generate(random)).matches("foo-[0-9a-f]{5}-bar");
+    }
+
+    @Test
+    void nonLatin1PrefixAndSuffix() {
+        final StringGenerator generator = nonNullGenerator()
+                .length(3)
+                .prefix("\u2192")
+                .suffix("\u00e9");
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(generator.generate(random)).matches("\u2192[A-Z]{3}\u00e9");
+        }
+    }
+
+    private StringGenerator nonNullGenerator() {
+        return new StringGenerator(new InternalGeneratorContext(
+                Settings.from(settings)
+                        .set(Keys.STRING_NULLABLE, false)
+                        .set(Keys.STRING_ALLOW_EMPTY, false),
+                random));
+    }
+
     private static String[] upperCaseLettersAtoZ() {
         String[] expected = new String[26];
         for (int i = 0; i < expected.length; i++) {
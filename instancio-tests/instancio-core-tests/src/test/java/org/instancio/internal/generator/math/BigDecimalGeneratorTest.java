@@ -23,6 +23,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -61,6 +63,35 @@ class BigDecimalGeneratorTest extends AbstractGeneratorTestTemplate<BigDecimal,
         }
     }
 
+    @Test
+    void rangeShouldProduceAllValuesWithConfiguredScale() {
+        final BigDecimalGenerator generator = generator()
+                .range(new BigDecimal("-0.02"), new BigDecimal("0.03"))
+                .scale(2);
+
+        final Set<BigDecimal> results = new HashSet<>();
+        for (int i = 0; i < Constants.SAMPLE_SIZE_DDD; i++) {
+            results.add(generator.generate(random));
+        }
+
+        assertThat(results).containsExactlyInAnyOrder(
+                new BigDecimal("-0.02"), new BigDecimal("-0.01"), new BigDecimal("0.00"),
+                new BigDecimal("0.01"), new BigDecimal("0.02"), new BigDecimal("0.03"));
+    }
+
+    @Test
+    void rangeWithUnscaledValuesExceedingLong() {
+        final BigDecimal min = new BigDecimal("1E+30");
+        final BigDecimal max = new BigDecimal("2E+30");
+        final BigDecimalGenerator generator = generator().range(min, max).scale(3);
+
+        for (int i = 0; i < Constants.SAMPLE_SIZE_DDD; i++) {
+            assertThat(generator.generate(random))
+                    .isBetween(min, max)
+                    .hasScaleOf(3);
+        }
+    }
+
     @ValueSource(ints = {-1, 0})
     @ParameterizedTest
     void nonPositivePrecisionShouldProduceAnError(final int precision) {
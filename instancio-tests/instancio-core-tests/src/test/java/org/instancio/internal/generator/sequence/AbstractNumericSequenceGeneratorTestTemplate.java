@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +67,37 @@ public abstract class AbstractNumericSequenceGeneratorTestTemplate<T extends Num
         assertThat(result).containsExactly(2L, 4L, 16L, 256L, 65536L);
     }
 
+    @Test
+    void concurrentShouldGenerateSequenceInOrderWithinSingleThread() {
+        final AbstractNumericSequenceGenerator<T> generator = generator();
+
+        generator.concurrent(3).start(asT(5));
+
+        final List<Long> result = Stream.generate(() -> generator.generate(random))
+                .map(Number::longValue)
+                .limit(7)
+                .collect(Collectors.toList());
+
+        assertThat(result).containsExactly(5L, 6L, 7L, 8L, 9L, 10L, 11L);
+    }
+
+    @Test
+    void concurrentShouldGenerateUniqueValuesAcrossThreads() {
+        final AbstractNumericSequenceGenerator<T> generator = generator().concurrent(10);
+        final int size = 10_000;
+
+        final List<Long> result = IntStream.range(0, size)
+                .parallel()
+                .mapToObj(i -> generator.generate(random))
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+
+        assertThat(result)
+                .hasSize(size)
+                .doesNotHaveDuplicates()
+                .allSatisfy(value -> assertThat(value).isPositive());
+    }
+
     @Test
     void validation() {
         final AbstractNumericSequenceGenerator<T> generator = generator();
@@ -77,6 +109,10 @@ public abstract class AbstractNumericSequenceGeneratorTestTemplate<T extends Num
         assertThatThrownBy(() -> generator.next(null))
                 .isExactlyInstanceOf(InstancioApiException.class)
                 .hasMessageContaining("sequence 'next' function must not be null");
+
+        assertThatThrownBy(() -> generator.concurrent(0))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("sequence block size must be greater than zero: 0");
     }
 
     @SuppressWarnings("unchecked")
@@ -16,8 +16,18 @@
 package org.instancio.internal.generator.shuffle;
 
 import org.instancio.internal.generator.AbstractGeneratorTestTemplate;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 class ShuffleGeneratorTest extends AbstractGeneratorTestTemplate<Collection<String>, ShuffleGenerator<String>> {
 
@@ -32,4 +42,84 @@ class ShuffleGeneratorTest extends AbstractGeneratorTestTemplate<Collection<Stri
     protected ShuffleGenerator<String> generator() {
         return generator.shuffle("A", "B", "C");
     }
+
+    @Test
+    void shuffleAll() {
+        final Collection<String> result = generator().generate(random);
+
+        assertThat(result).containsExactlyInAnyOrder("A", "B", "C");
+    }
+
+    /**
+     * Small samples of a large collection are selected without
+     * copying the collection, larger samples using a copy.
+     */
+    @ValueSource(ints = {0, 1, 10, 250, 251, 999, 1000})
+    @ParameterizedTest
+    void sampleWithoutReplacement(final int size) {
+        final List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        final ShuffleGenerator<Integer> sampler = new ShuffleGenerator<Integer>(getGeneratorContext())
+                .shuffle(items)
+                .size(size);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(sampler.generate(random))
+                    .hasSize(size)
+                    .doesNotHaveDuplicates()
+                    .isSubsetOf(items);
+        }
+    }
+
+    @Test
+    void sampleIsReproducibleWithSameSeed() {
+        final List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        final ShuffleGenerator<Integer> sampler = new ShuffleGenerator<Integer>(getGeneratorContext())
+                .shuffle(items)
+                .size(5);
+
+        final Collection<Integer> result1 = sampler.generate(new DefaultRandom(123, Seeds.Source.MANUAL));
+        final Collection<Integer> result2 = sampler.generate(new DefaultRandom(123, Seeds.Source.MANUAL));
+
+        assertThat(result1).isEqualTo(result2);
+    }
+
+    /**
+     * The sampling strategy depends on the sample size, therefore both
+     * must consume random numbers identically and select the same items
+     * to ensure seeded results do not depend on the chosen strategy.
+     */
+    @ValueSource(ints = {0, 1, 2, 10, 250, 251, 500, 999, 1000})
+    @ParameterizedTest
+    void sparseAndDenseSamplesShouldBeEqualForSameSeed(final int size) {
+        final List<Integer> items = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        final ShuffleGenerator<Integer> sampler = new ShuffleGenerator<Integer>(getGeneratorContext())
+                .shuffle(items)
+                .size(size);
+
+        for (long seed = 0; seed < 100; seed++) {
+            final DefaultRandom sparseRandom = new DefaultRandom(seed, Seeds.Source.MANUAL);
+            final DefaultRandom denseRandom = new DefaultRandom(seed, Seeds.Source.MANUAL);
+
+            assertThat(sampler.sampleSparse(sparseRandom))
+                    .as("seed %s", seed)
+                    .isEqualTo(sampler.sampleDense(denseRandom));
+
+            // both strategies should leave the random in the same state
+            assertThat(sparseRandom.longRange(Long.MIN_VALUE, Long.MAX_VALUE))
+                    .isEqualTo(denseRandom.longRange(Long.MIN_VALUE, Long.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void sampleContainingNullElement() {
+        final ShuffleGenerator<String> sampler = new ShuffleGenerator<String>(getGeneratorContext())
+                .shuffle("A", null, "C", "D", "E", "F", "G", "H", "I")
+                .size(2);
+
+        final boolean hasNull = IntStream.range(0, SAMPLE_SIZE)
+                .mapToObj(i -> sampler.generate(random))
+                .anyMatch(result -> result.contains(null));
+
+        assertThat(hasNull).isTrue();
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.Random;
+import org.instancio.exception.InstancioException;
+import org.instancio.internal.generator.text.WordGenerator.WordClass;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WordDictionaryTest {
+
+    private static final List<String> WORDS = List.of("foo", "b", "", "été", "世界");
+
+    private final WordDictionary dictionary = WordDictionary.of(WORDS.toArray(new String[0]));
+
+    @Test
+    void get() {
+        assertThat(dictionary.size()).isEqualTo(WORDS.size());
+        assertThat(IntStream.range(0, dictionary.size()).mapToObj(dictionary::get))
+                .containsExactlyElementsOf(WORDS);
+    }
+
+    @Test
+    void randomShouldSelectWordsLikeRandomOneOf() {
+        final Random random1 = new DefaultRandom(123, Seeds.Source.MANUAL);
+        final Random random2 = new DefaultRandom(123, Seeds.Source.MANUAL);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(dictionary.random(random1)).isEqualTo(random2.oneOf(WORDS));
+        }
+    }
+
+    @Test
+    void appendRandom() {
+        final Random random1 = new DefaultRandom(123, Seeds.Source.MANUAL);
+        final Random random2 = new DefaultRandom(123, Seeds.Source.MANUAL);
+        final StringBuilder expected = new StringBuilder();
+        final StringBuilder actual = new StringBuilder();
+
+        for (int i = 0; i < 100; i++) {
+            expected.append(random2.oneOf(WORDS)).append(',');
+            dictionary.appendRandom(random1, actual);
+            actual.append(',');
+        }
+
+        assertThat(actual).hasToString(expected.toString());
+    }
+
+    @ParameterizedTest
+    @EnumSource(WordClass.class)
+    void load(final WordClass wordClass) {
+        final WordDictionary result = WordGenerator.getDictionary(wordClass);
+
+        assertThat(result.size()).isGreaterThan(1000);
+        assertThat(IntStream.range(0, result.size()).mapToObj(result::get))
+                .doesNotHaveDuplicates()
+                .allSatisfy(word -> assertThat(word).isNotBlank().doesNotContain("\n", "\r"));
+    }
+
+    @Test
+    void loadShouldFailIfResourceDoesNotExist() {
+        assertThatThrownBy(() -> WordDictionary.load("/does-not-exist.txt"))
+                .isInstanceOf(InstancioException.class)
+                .hasMessageContaining("Error loading input stream");
+    }
+}
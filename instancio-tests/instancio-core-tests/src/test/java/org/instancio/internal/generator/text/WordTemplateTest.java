@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text;
+
+import org.instancio.Random;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WordTemplateTest {
+
+    private final Random random = new DefaultRandom();
+
+    private String render(final String template) {
+        final StringBuilder sb = new StringBuilder();
+        WordTemplate.compile(template).render(random, sb);
+        return sb.toString();
+    }
+
+    @Test
+    void shouldCacheCompiledTemplates() {
+        assertThat(WordTemplate.compile("${noun}")).isSameAs(WordTemplate.compile("${noun}"));
+    }
+
+    @Test
+    void templateWithoutKeys() {
+        assertThat(render("")).isEmpty();
+        assertThat(render("$ {noun} $x {y}")).isEqualTo("$ {noun} $x {y}");
+    }
+
+    @Test
+    void shouldPreserveLiterals() {
+        assertThat(render("<${noun}>, ${verb}${adverb}!"))
+                .matches("<[a-z'-]+>, [a-z'-]+!");
+    }
+
+    @Test
+    void wordCase() {
+        assertThat(render("${noun}")).matches("[a-z'-]+");
+        assertThat(render("${Noun}")).matches("[A-Z][a-z'-]*");
+        assertThat(render("${NOUN}")).matches("[A-Z'-]+");
+    }
+
+    @Test
+    void invalidTemplateKey() {
+        assertThatThrownBy(() -> WordTemplate.compile("${noun} ${foo}"))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("invalid template key '${foo}'");
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.text.regex;
+
+import org.instancio.Random;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RegexAutomatonTest {
+
+    private static final int SAMPLE_SIZE = 500;
+
+    private final Random random = new DefaultRandom();
+
+    @Test
+    void shouldCacheCompiledAutomata() {
+        assertThat(RegexAutomaton.compile("[a-z]+", 0))
+                .isSameAs(RegexAutomaton.compile("[a-z]+", 0))
+                .isNotSameAs(RegexAutomaton.compile("[a-z]+", Pattern.CASE_INSENSITIVE));
+    }
+
+    @ValueSource(strings = {
+            "",
+            "abc",
+            "a|b|",
+            "[a-c[x-z]]{3}",
+            "[^\\w]{2,4}",
+            ".*x.*",
+            "(?i:ab)c",
+            "(?x) a # comment\n b",
+            "(?<name>\\d{2})[-.]\\d?",
+            "\\x41\\u0042\\t?",
+            "\\p{XDigit}{8}",
+            "(a|ab)(c|bcd)(d*)"
+    })
+    @ParameterizedTest
+    void shouldGenerateMatchingValues(final String regex) {
+        final RegexAutomaton automaton = RegexAutomaton.compile(regex, 0);
+        final Pattern pattern = Pattern.compile(regex);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(automaton.generate(random, 0, 20)).matches(pattern);
+        }
+    }
+
+    @Test
+    void caseInsensitiveFlag() {
+        final RegexAutomaton automaton = RegexAutomaton.compile("ab", Pattern.CASE_INSENSITIVE);
+        final Set<String> results = new HashSet<>();
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            results.add(automaton.generate(random, 0, 10));
+        }
+        assertThat(results).containsExactlyInAnyOrder("ab", "aB", "Ab", "AB");
+    }
+
+    @Test
+    void shouldOnlyGenerateAlternativesOfChosenLength() {
+        final RegexAutomaton automaton = RegexAutomaton.compile("a[0-9]|b", 0);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(automaton.generate(random, 2, 2)).matches("a[0-9]");
+        }
+    }
+
+    @Test
+    void shouldGenerateValuesWithinLengthRange() {
+        final RegexAutomaton automaton = RegexAutomaton.compile("x(yz)*", 0);
+
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            assertThat(automaton.generate(random, 4, 8)).hasSizeBetween(5, 7).matches("x(yz)*");
+        }
+    }
+
+    @Test
+    void shouldFallBackToClosestLengthIfRangeIsNotFeasible() {
+        final RegexAutomaton automaton = RegexAutomaton.compile("\\d{3}|\\d{6}", 0);
+
+        assertThat(automaton.getMinLength()).isEqualTo(3);
+        assertThat(automaton.generate(random, 4, 5)).hasSize(3);
+        assertThat(automaton.generate(random, 0, 1)).hasSize(3);
+        assertThat(automaton.generate(random, 6, 10)).hasSize(6);
+    }
+
+    @Test
+    void shouldIgnoreAnchors() {
+        assertThat(RegexAutomaton.compile("^\\Afoo\\z$", 0).generate(random, 0, 10)).isEqualTo("foo");
+    }
+
+    @ValueSource(strings = {"a(?=b)", "a(?!b)", "(?<=a)b", "(?>a)", "(a)\\1", "\\bword", "a*+", "a{2}{3}"})
+    @ParameterizedTest
+    void unsupportedConstructs(final String regex) {
+        assertThatThrownBy(() -> RegexAutomaton.compile(regex, 0))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("unable to generate values for regex '%s'", regex);
+    }
+
+    @Test
+    void regexThatDoesNotMatchAnyPrintableStrings() {
+        assertThatThrownBy(() -> RegexAutomaton.compile("a[^\\x00-\\x7f]", 0))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("the regex does not match any string of printable characters");
+    }
+
+    @Test
+    void regexOnlyMatchingVeryLongStrings() {
+        assertThatThrownBy(() -> RegexAutomaton.compile("a{2000}", 0))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("only matches strings longer than 1000 characters");
+    }
+
+    @Test
+    void invalidRegex() {
+        assertThatThrownBy(() -> RegexAutomaton.compile("(abc", 0))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("invalid regex: (abc");
+    }
+}
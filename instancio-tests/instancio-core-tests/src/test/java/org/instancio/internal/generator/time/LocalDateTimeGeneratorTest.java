@@ -16,10 +16,14 @@
 package org.instancio.internal.generator.time;
 
 import org.instancio.Instancio;
+import org.instancio.exception.InstancioApiException;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class LocalDateTimeGeneratorTest extends TemporalGeneratorSpecTestTemplate<LocalDateTime> {
 
     private static final LocalDateTime START = LocalDateTime.of(1970, 1, 1, 0, 0, 1, 999999999);
@@ -88,4 +92,23 @@ class LocalDateTimeGeneratorTest extends TemporalGeneratorSpecTestTemplate<Local
             assertGeneratedValueIsWithinRange(start, start.plusSeconds(random.intRange(1, Integer.MAX_VALUE)));
         }
     }
+
+    @Test
+    void rangeChangedAfterGenerating() {
+        generator.range(START, START);
+        assertThat(generator.generate(random)).isEqualTo(START);
+
+        final LocalDateTime newStart = START.plusDays(1);
+        generator.range(newStart, newStart);
+        assertThat(generator.generate(random)).isEqualTo(newStart);
+    }
+
+    @Test
+    void minGreaterThanDefaultMax() {
+        generator.min(LocalDateTimeGenerator.DEFAULT_MAX.plusDays(1));
+
+        assertThatThrownBy(() -> generator.generate(random))
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("start must not exceed end");
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.time;
+
+import org.instancio.Random;
+import org.instancio.internal.generator.InternalGeneratorContext;
+import org.instancio.settings.Settings;
+import org.instancio.support.DefaultRandom;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeSeriesGeneratorTest {
+
+    private static final Random random = new DefaultRandom();
+    private final TimeSeriesGenerator generator = new TimeSeriesGenerator(
+            new InternalGeneratorContext(Settings.defaults(), random));
+
+    @Test
+    void apiMethod() {
+        assertThat(generator.apiMethod()).isEqualTo("timeSeries()");
+    }
+
+    @Test
+    void defaultStart() {
+        final Instant first = generator.generate(random);
+        final Instant second = generator.generate(random);
+
+        assertThat(first).isBetween(InstantGenerator.DEFAULT_MIN, InstantGenerator.DEFAULT_MAX);
+        assertThat(second).isEqualTo(first.plusSeconds(1));
+    }
+
+    @Test
+    void startCanBeReset() {
+        final Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        generator.start(start).interval(Duration.ofHours(1));
+        generator.generate(random);
+        generator.generate(random);
+
+        generator.start(start);
+
+        assertThat(generator.generate(random)).isEqualTo(start);
+        assertThat(generator.generate(random)).isEqualTo(start.plusSeconds(3600));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.BitSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeistelPermutationTest {
+
+    @ValueSource(longs = {1, 2, 3, 4, 5, 7, 16, 100, 1023, 1025, 65_536})
+    @ParameterizedTest
+    void shouldBeBijection(final long size) {
+        final FeistelPermutation permutation = new FeistelPermutation(size, size * 31);
+        final BitSet seen = new BitSet();
+
+        for (long i = 0; i < size; i++) {
+            final long element = permutation.apply(i);
+
+            assertThat(element).isBetween(0L, size - 1);
+            assertThat(seen.get((int) element)).as("duplicate element %s", element).isFalse();
+            assertThat(permutation.inverse(element)).isEqualTo(i);
+            seen.set((int) element);
+        }
+
+        assertThat(seen.cardinality()).isEqualTo(size);
+    }
+
+    @ValueSource(longs = {Integer.MAX_VALUE, 1L << 40, Long.MAX_VALUE})
+    @ParameterizedTest
+    void largeDomain(final long size) {
+        final FeistelPermutation permutation = new FeistelPermutation(size, 42);
+
+        for (long i = 0; i < 1000; i++) {
+            final long index = size - 1 - i * 7919;
+            final long element = permutation.apply(index);
+
+            assertThat(element).isBetween(0L, size - 1);
+            assertThat(permutation.inverse(element)).isEqualTo(index);
+        }
+    }
+
+    @ValueSource(longs = {100, 1000})
+    @ParameterizedTest
+    void differentSeedsShouldProduceDifferentPermutations(final long size) {
+        final FeistelPermutation p1 = new FeistelPermutation(size, 1);
+        final FeistelPermutation p2 = new FeistelPermutation(size, 2);
+
+        int sameCount = 0;
+        for (long i = 0; i < size; i++) {
+            if (p1.apply(i) == p2.apply(i)) {
+                sameCount++;
+            }
+        }
+        assertThat(sameCount).isLessThan((int) size / 10);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.unique;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FiniteDomainTest {
+
+    private static void assertIndexed(final FiniteDomain domain) {
+        final Set<Object> values = new HashSet<>();
+        for (long i = 0; i < domain.size(); i++) {
+            final Object value = domain.valueAt(i);
+            assertThat(domain.indexOf(value)).isEqualTo(i);
+            values.add(value);
+        }
+        assertThat(values).hasSize((int) domain.size());
+    }
+
+    @Nested
+    class IntegralRangeDomainTest {
+        @Test
+        void integers() {
+            final IntegralRangeDomain domain = IntegralRangeDomain.of(Integer.class, -3, 3);
+
+            assertThat(domain).isNotNull();
+            assertThat(domain.size()).isEqualTo(7);
+            assertThat(domain.valueAt(0)).isEqualTo(-3);
+            assertThat(domain.indexOf(3L)).as("different type").isEqualTo(-1);
+            assertThat(domain.indexOf(4)).isEqualTo(-1);
+            assertThat(domain.indexOf(null)).isEqualTo(-1);
+            assertIndexed(domain);
+        }
+
+        @Test
+        void bytes() {
+            final IntegralRangeDomain domain = IntegralRangeDomain.of(Byte.class, Byte.MIN_VALUE, Byte.MAX_VALUE);
+
+            assertThat(domain).isNotNull();
+            assertThat(domain.size()).isEqualTo(256);
+            assertIndexed(domain);
+        }
+
+        @Test
+        void unsupportedRanges() {
+            assertThat(IntegralRangeDomain.of(Long.class, 1, 0)).isNull();
+            assertThat(IntegralRangeDomain.of(Long.class, Long.MIN_VALUE, Long.MAX_VALUE)).isNull();
+            assertThat(IntegralRangeDomain.of(Long.class, 0, Long.MAX_VALUE)).isNull();
+            assertThat(IntegralRangeDomain.of(Long.class, 1, Long.MAX_VALUE)).isNotNull();
+        }
+    }
+
+    @Nested
+    class EnumDomainTest {
+        @Test
+        void enumConstants() {
+            final EnumDomain domain = new EnumDomain(List.of(TimeUnit.SECONDS, TimeUnit.MINUTES));
+
+            assertThat(domain.size()).isEqualTo(2);
+            assertThat(domain.indexOf(TimeUnit.HOURS)).isEqualTo(-1);
+            assertIndexed(domain);
+        }
+    }
+
+    @Nested
+    class BooleanDomainTest {
+        @Test
+        void booleans() {
+            final BooleanDomain domain = new BooleanDomain(0.5);
+
+            assertThat(domain.size()).isEqualTo(2);
+            assertThat(domain.indexOf("true")).isEqualTo(-1);
+            assertIndexed(domain);
+        }
+
+        @Test
+        void singleValue() {
+            final BooleanDomain trueOnly = new BooleanDomain(1);
+            final BooleanDomain falseOnly = new BooleanDomain(0);
+
+            assertThat(trueOnly.size()).isOne();
+            assertThat(trueOnly.valueAt(0)).isEqualTo(true);
+            assertThat(trueOnly.indexOf(false)).isEqualTo(-1);
+            assertIndexed(trueOnly);
+
+            assertThat(falseOnly.size()).isOne();
+            assertThat(falseOnly.valueAt(0)).isEqualTo(false);
+            assertThat(falseOnly.indexOf(true)).isEqualTo(-1);
+            assertIndexed(falseOnly);
+        }
+    }
+
+    @Nested
+    class StringDomainTest {
+        @Test
+        void strings() {
+            final StringDomain domain = StringDomain.of("ABC", 3, "pre-", null);
+
+            assertThat(domain).isNotNull();
+            assertThat(domain.size()).isEqualTo(27);
+            assertThat(domain.valueAt(0)).isEqualTo("pre-AAA");
+            assertThat(domain.valueAt(26)).isEqualTo("pre-CCC");
+            assertThat(domain.indexOf("pre-AAD")).isEqualTo(-1);
+            assertThat(domain.indexOf("AAA")).isEqualTo(-1);
+            assertThat(domain.indexOf(new Object())).isEqualTo(-1);
+            assertIndexed(domain);
+        }
+
+        @Test
+        void unsupported() {
+            assertThat(StringDomain.of("", 1, null, null)).isNull();
+            assertThat(StringDomain.of("AAB", 1, null, null)).isNull();
+            assertThat(StringDomain.of("0123456789", 19, null, null)).isNull();
+            assertThat(StringDomain.of("0123456789", 18, null, null)).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.generator.util;
+
+import org.instancio.exception.InstancioException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContainerInstantiatorTest {
+
+    @SuppressWarnings("unused")
+    private static final class PrivateConstructorList extends ArrayList<String> {
+        private PrivateConstructorList() {
+        }
+    }
+
+    @Test
+    void newInstance() {
+        assertThat(ContainerInstantiator.newInstance(ArrayList.class)).isExactlyInstanceOf(ArrayList.class);
+        assertThat(ContainerInstantiator.newInstance(TreeMap.class)).isExactlyInstanceOf(TreeMap.class);
+        assertThat(ContainerInstantiator.newInstance(PrivateConstructorList.class))
+                .isExactlyInstanceOf(PrivateConstructorList.class);
+    }
+
+    @Test
+    void newInstanceShouldReturnNewInstanceOnEachInvocation() {
+        assertThat(ContainerInstantiator.newInstance(HashMap.class))
+                .isNotSameAs(ContainerInstantiator.newInstance(HashMap.class));
+    }
+
+    @ValueSource(classes = {List.class, AbstractList.class})
+    @ParameterizedTest
+    void newInstanceShouldFailIfTypeCannotBeInstantiated(final Class<?> type) {
+        assertThatThrownBy(() -> ContainerInstantiator.newInstance(type))
+                .isExactlyInstanceOf(InstancioException.class)
+                .hasMessage("Error resolving the default constructor of " + type);
+    }
+
+    @ValueSource(classes = {
+            ArrayList.class,
+            ArrayDeque.class,
+            HashSet.class,
+            LinkedHashSet.class,
+            HashMap.class,
+            LinkedHashMap.class,
+            IdentityHashMap.class,
+            ConcurrentHashMap.class
+    })
+    @ParameterizedTest
+    void newPresizedInstance(final Class<?> type) {
+        assertThat(ContainerInstantiator.newPresizedInstance(type, 1000)).isExactlyInstanceOf(type);
+    }
+
+    @Test
+    void newPresizedInstanceWithSmallSize() {
+        assertThat(ContainerInstantiator.newPresizedInstance(ArrayList.class, 0)).isNull();
+        assertThat(ContainerInstantiator.newPresizedInstance(HashMap.class, 12)).isNull();
+    }
+
+    @ValueSource(classes = {LinkedList.class, TreeMap.class, PrivateConstructorList.class})
+    @ParameterizedTest
+    void newPresizedInstanceWithUnsupportedType(final Class<?> type) {
+        assertThat(ContainerInstantiator.newPresizedInstance(type, 1000)).isNull();
+    }
+}
@@ -17,8 +17,14 @@ package org.instancio.internal.generator.util;
 
 import org.instancio.internal.generator.AbstractGeneratorTestTemplate;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 class OneOfCollectionGeneratorTest extends AbstractGeneratorTestTemplate<String, OneOfCollectionGenerator<String>> {
 
@@ -38,4 +44,14 @@ class OneOfCollectionGeneratorTest extends AbstractGeneratorTestTemplate<String,
     protected OneOfCollectionGenerator<String> generator() {
         return generator;
     }
+
+    @Test
+    void oneOfSet() {
+        final Set<String> choices = new LinkedHashSet<>(List.of("foo", "bar", "baz"));
+        final OneOfCollectionGenerator<String> setGenerator =
+                new OneOfCollectionGenerator<String>(getGeneratorContext()).oneOf(choices);
+
+        assertThat(IntStream.range(0, 500).mapToObj(i -> setGenerator.generate(random)))
+                .containsOnly("foo", "bar", "baz");
+    }
 }
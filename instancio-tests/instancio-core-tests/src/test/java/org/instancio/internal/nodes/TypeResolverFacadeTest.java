@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.nodes;
+
+import org.instancio.Node;
+import org.instancio.internal.spi.ProviderEntry;
+import org.instancio.spi.InstancioServiceProvider;
+import org.instancio.spi.InstancioServiceProvider.TypeResolver;
+import org.instancio.test.support.pojo.person.Person;
+import org.instancio.testsupport.fixtures.Fixtures;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeResolverFacadeTest {
+
+    private final InternalNode node = Fixtures.node(Person.class);
+
+    @Test
+    void shouldCacheResultOfCacheableResolver() {
+        final CountingTypeResolver resolver = new CountingTypeResolver(true);
+        final TypeResolverFacade facade = new TypeResolverFacade(entries(resolver));
+
+        facade.resolve(node);
+        final SubtypeResult result = facade.resolve(node);
+
+        assertThat(result.isPresent()).isFalse();
+        assertThat(resolver.count).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheResultOfNonCacheableResolver() {
+        final CountingTypeResolver resolver = new CountingTypeResolver(false);
+        final TypeResolverFacade facade = new TypeResolverFacade(entries(resolver));
+
+        facade.resolve(node);
+        facade.resolve(node);
+
+        assertThat(resolver.count).isEqualTo(2);
+    }
+
+    private static List<ProviderEntry<TypeResolver>> entries(final TypeResolver resolver) {
+        final InstancioServiceProvider sp = new InstancioServiceProvider() {
+            @Override
+            public TypeResolver getTypeResolver() {
+                return resolver;
+            }
+        };
+        return ProviderEntry.from(Collections.singletonList(sp), InstancioServiceProvider::getTypeResolver);
+    }
+
+    private static final class CountingTypeResolver implements TypeResolver {
+        private final boolean cacheable;
+        private int count;
+
+        CountingTypeResolver(final boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+
+        @Override
+        public Type getSubtype(final Node node) {
+            count++;
+            return null;
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+    }
+}
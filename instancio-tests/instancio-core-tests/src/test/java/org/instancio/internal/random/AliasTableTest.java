@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.random;
+
+import org.instancio.Random;
+import org.instancio.support.DefaultRandom;
+import org.instancio.support.Seeds;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AliasTableTest {
+
+    private static final int SAMPLE_SIZE = 100_000;
+
+    private final Random random = new DefaultRandom(123, Seeds.Source.MANUAL);
+
+    @Test
+    void size() {
+        assertThat(new AliasTable(new double[]{1, 2, 3}).size()).isEqualTo(3);
+    }
+
+    @Test
+    void singleOutcome() {
+        final AliasTable table = new AliasTable(new double[]{0.5});
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(table.nextIndex(random)).isZero();
+        }
+    }
+
+    @Test
+    void shouldNotSelectOutcomesWithZeroWeight() {
+        final AliasTable table = new AliasTable(new double[]{0, 1, 0, 0, 3, 0});
+        final int[] counts = sample(table);
+
+        assertThat(counts[0]).isZero();
+        assertThat(counts[2]).isZero();
+        assertThat(counts[3]).isZero();
+        assertThat(counts[5]).isZero();
+        assertThat(counts[1] + counts[4]).isEqualTo(SAMPLE_SIZE);
+    }
+
+    @Test
+    void shouldSelectOutcomesProportionallyToTheirWeights() {
+        final double[] weights = {90, 9, 1, 0.5, 25, 74.5};
+        final int[] counts = sample(new AliasTable(weights));
+
+        for (int i = 0; i < weights.length; i++) {
+            assertThat((double) counts[i] / SAMPLE_SIZE)
+                    .as("outcome %s", i)
+                    .isCloseTo(weights[i] / 200, within(0.01));
+        }
+    }
+
+    private int[] sample(final AliasTable table) {
+        final int[] counts = new int[table.size()];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            counts[table.nextIndex(random)]++;
+        }
+        return counts;
+    }
+}
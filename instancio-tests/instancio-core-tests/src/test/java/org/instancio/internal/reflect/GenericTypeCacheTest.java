@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.reflect;
+
+import org.instancio.TypeToken;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenericTypeCacheTest {
+
+    @Test
+    void shouldMapTypeVariablesToTypeArguments() {
+        final ParameterizedType type = (ParameterizedType) new TypeToken<Map<String, List<Long>>>() {}.get();
+        final TypeVariable<?>[] vars = Map.class.getTypeParameters();
+
+        assertThat(GenericTypeCache.getTypeArgumentMap(type))
+                .hasSize(2)
+                .containsEntry(vars[0], String.class)
+                .containsEntry(vars[1], new ParameterizedTypeImpl(List.class, Long.class));
+    }
+
+    @Test
+    void shouldMapWildcardToUpperBound() {
+        final ParameterizedType type = (ParameterizedType) new TypeToken<List<? extends Number>>() {}.get();
+
+        assertThat(GenericTypeCache.getTypeArgumentMap(type))
+                .containsEntry(List.class.getTypeParameters()[0], Number.class);
+    }
+
+    @Test
+    void shouldReturnSameMapForEqualTypes() {
+        final Type jdkType = new TypeToken<Map<String, Integer>>() {}.get();
+        final ParameterizedTypeImpl type = new ParameterizedTypeImpl(Map.class, String.class, Integer.class);
+
+        assertThat(GenericTypeCache.getTypeArgumentMap(type))
+                .isSameAs(GenericTypeCache.getTypeArgumentMap((ParameterizedType) jdkType));
+    }
+
+    @Test
+    void shouldReturnNullIfTypeArgumentIsTypeVariable() {
+        final ParameterizedType type = (ParameterizedType) Holder.class.getDeclaredFields()[0].getGenericType();
+
+        assertThat(GenericTypeCache.getTypeArgumentMap(type)).isNull();
+    }
+
+    @SuppressWarnings("unused")
+    private static final class Holder<T> {
+        private List<T> list;
+    }
+}
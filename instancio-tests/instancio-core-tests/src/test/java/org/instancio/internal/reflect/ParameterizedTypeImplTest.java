@@ -16,8 +16,10 @@
 package org.instancio.internal.reflect;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
+import org.instancio.TypeToken;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +39,30 @@ class ParameterizedTypeImplTest {
         assertThat(type.getOwnerType()).isNull();
     }
 
+    @Test
+    void ownerTypeOfNestedClass() {
+        final ParameterizedTypeImpl type = new ParameterizedTypeImpl(Map.Entry.class, String.class, Long.class);
+
+        assertThat(type.getOwnerType()).isEqualTo(Map.class);
+    }
+
+    @Test
+    void shouldBeEqualToJdkRepresentation() {
+        final Type jdkType = new TypeToken<Map.Entry<String, List<Long>>>() {}.get();
+        final ParameterizedTypeImpl type = new ParameterizedTypeImpl(
+                Map.Entry.class, String.class, new ParameterizedTypeImpl(List.class, Long.class));
+
+        assertThat(type).isEqualTo(jdkType).hasSameHashCodeAs(jdkType);
+        assertThat(jdkType).isEqualTo(type);
+    }
+
+    @Test
+    void ofShouldReturnInternedInstance() {
+        assertThat(ParameterizedTypeImpl.of(List.class, String.class))
+                .isSameAs(ParameterizedTypeImpl.of(List.class, String.class))
+                .isNotSameAs(ParameterizedTypeImpl.of(List.class, Long.class));
+    }
+
     @Test
     void verifyToString() {
         final ParameterizedTypeImpl listOfStrings = new ParameterizedTypeImpl(List.class, String.class);
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.spi;
+
+import org.instancio.internal.spi.InternalExtension.InternalNodeFilter;
+import org.instancio.internal.spi.InternalExtension.InternalNodeFilter.Decision;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InternalExtensionsTest {
+
+    @Test
+    void getAllShouldIncludeBuiltInExtension() {
+        assertThat(InternalExtensions.getAll())
+                .isSameAs(InternalExtensions.getAll())
+                .hasAtLeastOneElementOfType(InternalExtensionImpl.class);
+    }
+
+    @Test
+    void collectShouldSkipExtensionsWithoutCapability() {
+        final InternalNodeFilter filter = node -> Decision.KEEP;
+        final InternalExtension withFilter = new InternalExtension() {
+            @Override
+            public InternalNodeFilter getNodeFilter() {
+                return filter;
+            }
+        };
+
+        final List<InternalNodeFilter> results = InternalExtensions.collect(
+                Arrays.asList(new InternalExtensionImpl(), withFilter),
+                InternalExtension::getNodeFilter);
+
+        assertThat(results).containsExactly(filter);
+    }
+
+    @Test
+    void builtInCapabilitiesShouldBeShared() {
+        final InternalExtensionImpl ext = new InternalExtensionImpl();
+
+        assertThat(ext.getContainerFactoryProvider()).isSameAs(ext.getContainerFactoryProvider());
+        assertThat(ext.getGetterMethodFieldResolver()).isSameAs(ext.getGetterMethodFieldResolver());
+    }
+}
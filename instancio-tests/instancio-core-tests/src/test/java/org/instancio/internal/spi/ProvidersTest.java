@@ -22,6 +22,7 @@ import org.instancio.support.DefaultRandom;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -36,16 +37,42 @@ class ProvidersTest {
 
         final Providers providers = new Providers(Arrays.asList(p1, p2), context);
 
-        assertThat(p1.initCount).isEqualTo(p2.initCount).isEqualTo(1);
-        assertThat(p1.context).isSameAs(p2.context).isSameAs(context);
+        // providers are initialised lazily
+        assertThat(p1.initCount).isEqualTo(p2.initCount).isZero();
 
         assertThat(providers.getGeneratorProviders()).isEmpty();
         assertThat(providers.getTypeResolvers()).isEmpty();
         assertThat(providers.getTypeInstantiators()).isEmpty();
+
+        assertThat(p1.initCount).isEqualTo(p2.initCount).isEqualTo(1);
+        assertThat(p1.context).isSameAs(p2.context).isSameAs(context);
+    }
+
+    @Test
+    void shouldResolveEachCapabilityOnlyOnDemand() {
+        final InstancioServiceProviderImpl p1 = new InstancioServiceProviderImpl();
+        final ServiceProviderContext context = new InternalServiceProviderContext
+                (Settings.create(), new DefaultRandom());
+
+        final Providers providers = new Providers(Collections.singletonList(p1), context);
+
+        assertThat(providers.getTypeResolvers()).isEmpty();
+        assertThat(providers.getTypeResolvers()).isEmpty();
+
+        assertThat(p1.initCount).isEqualTo(1);
+        assertThat(p1.typeResolverCount).isEqualTo(1);
+        assertThat(p1.generatorProviderCount).isZero();
+
+        assertThat(providers.getGeneratorProviders()).isEmpty();
+
+        assertThat(p1.initCount).isEqualTo(1);
+        assertThat(p1.generatorProviderCount).isEqualTo(1);
     }
 
     private static class InstancioServiceProviderImpl implements InstancioServiceProvider {
         int initCount;
+        int generatorProviderCount;
+        int typeResolverCount;
         ServiceProviderContext context;
 
         @Override
@@ -53,5 +80,17 @@ class ProvidersTest {
             initCount++;
             context = ctx;
         }
+
+        @Override
+        public GeneratorProvider getGeneratorProvider() {
+            generatorProviderCount++;
+            return null;
+        }
+
+        @Override
+        public TypeResolver getTypeResolver() {
+            typeResolverCount++;
+            return null;
+        }
     }
 }
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HexUtilsTest {
+
+    private static String putHex(final long value, final int digits, final boolean upperCase) {
+        final byte[] dest = new byte[digits + 2];
+        dest[0] = '[';
+        dest[dest.length - 1] = ']';
+        HexUtils.putHex(value, digits, upperCase, dest, 1);
+        return new String(dest, StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    void putHex() {
+        assertThat(putHex(0, 4, false)).isEqualTo("[0000]");
+        assertThat(putHex(0xABCDEFL, 6, false)).isEqualTo("[abcdef]");
+        assertThat(putHex(0xABCDEFL, 6, true)).isEqualTo("[ABCDEF]");
+        assertThat(putHex(0xABCDEFL, 2, true)).isEqualTo("[EF]");
+        assertThat(putHex(-1L, 16, false)).isEqualTo("[ffffffffffffffff]");
+        assertThat(putHex(0x0123456789ABCDEFL, 16, true)).isEqualTo("[0123456789ABCDEF]");
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyTest {
+
+    @Test
+    void shouldInvokeSupplierOnlyOnFirstGet() {
+        final AtomicInteger count = new AtomicInteger();
+        final Lazy<String> lazy = Lazy.of(() -> "value-" + count.incrementAndGet());
+
+        assertThat(count).hasValue(0);
+        assertThat(lazy.get()).isEqualTo("value-1");
+        assertThat(lazy.get()).isEqualTo("value-1");
+        assertThat(count).hasValue(1);
+    }
+}
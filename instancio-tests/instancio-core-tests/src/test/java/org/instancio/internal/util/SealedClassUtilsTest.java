@@ -19,7 +19,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class SealedClassUtilsTest {
 
@@ -45,6 +48,14 @@ class SealedClassUtilsTest {
                 .containsOnly(SealedInterfaceImpl2.class);
     }
 
+    @Test
+    void getSealedClassImplementationsShouldReturnCachedUnmodifiableList() {
+        final List<Class<?>> impls = SealedClassUtils.getSealedClassImplementations(SealedInterfaceA.class);
+
+        assertThat(SealedClassUtils.getSealedClassImplementations(SealedInterfaceA.class)).isSameAs(impls);
+        assertThatThrownBy(impls::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @ValueSource(classes = {SealedInterfaceA.class, SealedInterfaceB.class, SealedAbstractClassB.class})
     @ParameterizedTest
     void isSealedAbstractTypeTrue(final Class<?> klass) {
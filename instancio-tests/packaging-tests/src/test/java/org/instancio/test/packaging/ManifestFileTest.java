@@ -108,6 +108,7 @@ class ManifestFileTest {
                 "org.instancio.generators.rus",
                 "org.instancio.settings",
                 "org.instancio.spi",
+                "org.instancio.startup",
                 "org.instancio.support"
         );
     }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.processor;
+
+import org.instancio.Instancio;
+import org.instancio.InstancioApi;
+import org.instancio.exception.InstancioApiException;
+import org.instancio.internal.spi.TypePopulators;
+import org.instancio.junit.InstancioExtension;
+import org.instancio.settings.AssignmentType;
+import org.instancio.settings.Keys;
+import org.instancio.spi.TypePopulator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.instancio.Select.all;
+import static org.instancio.Select.field;
+
+@ExtendWith(InstancioExtension.class)
+class GeneratePopulatorTest {
+
+    @BeforeEach
+    void setUp() {
+        PopulatedPojo.setterInvocations = 0;
+    }
+
+    @Test
+    void populatorsShouldBeRegistered() {
+        assertThat(TypePopulators.get(PopulatedPojo.class))
+                .isExactlyInstanceOf(PopulatedPojo_InstancioPopulator.class);
+
+        assertThat(TypePopulators.get(PopulatedPojo.Nested.class))
+                .isExactlyInstanceOf(PopulatedPojo_Nested_InstancioPopulator.class);
+    }
+
+    @Test
+    void generatedPopulator() {
+        final TypePopulator<PopulatedPojo> populator = new PopulatedPojo_InstancioPopulator();
+        final PopulatedPojo pojo = populator.newInstance();
+
+        assertThat(populator.getTargetClass()).isEqualTo(PopulatedPojo.class);
+        assertThat(populator.setValue(pojo, "name", "foo")).isTrue();
+        assertThat(populator.setValue(pojo, "count", 1L)).isTrue();
+        assertThat(populator.setValue(pojo, "unknown", "baz")).isFalse();
+
+        assertThat(pojo.name).isEqualTo("foo");
+        assertThat(pojo.count).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldNotAssignPrivateFields() {
+        final TypePopulator<PopulatedPojo> populator = new PopulatedPojo_InstancioPopulator();
+        final PopulatedPojo pojo = populator.newInstance();
+
+        // private fields are left to the reflective field assigner,
+        // even if a setter exists
+        assertThat(populator.setValue(pojo, "id", 1L)).isFalse();
+        assertThat(populator.setValue(pojo, "noSetter", "bar")).isFalse();
+
+        assertThat(pojo.getId()).isZero();
+        assertThat(pojo.getNoSetter()).isNull();
+        assertThat(PopulatedPojo.setterInvocations).isZero();
+    }
+
+    @Test
+    void shouldNotAssignFinalFields() {
+        final PopulatedPojo_Nested_InstancioPopulator populator = new PopulatedPojo_Nested_InstancioPopulator();
+        final PopulatedPojo.Nested nested = populator.newInstance();
+
+        assertThat(populator.setValue(nested, "flag", null)).isTrue();
+        assertThat(populator.setValue(nested, "constant", "foo")).isFalse();
+        assertThat(nested.flag).isFalse();
+    }
+
+    @Test
+    void create() {
+        final PopulatedPojo result = Instancio.create(PopulatedPojo.class);
+
+        assertThat(result.name).isNotBlank();
+        assertThat(result.numbers).isNotEmpty().doesNotContainNull();
+        assertThat(result.count).isPositive();
+        // private fields assigned via reflection
+        assertThat(result.getId()).isPositive();
+        assertThat(result.getNoSetter()).isNotBlank();
+        // field assignment never invokes setters
+        assertThat(PopulatedPojo.setterInvocations).isZero();
+    }
+
+    @Test
+    void valueOfIncompatibleTypeIsReportedAsTypeMismatch() {
+        final InstancioApi<PopulatedPojo> api = Instancio.of(PopulatedPojo.class)
+                .set(field(PopulatedPojo.class, "count"), "foo");
+
+        assertThatThrownBy(api::create)
+                .isExactlyInstanceOf(InstancioApiException.class)
+                .hasMessageContaining("error assigning value to: field PopulatedPojo.count");
+    }
+
+    @Test
+    void createWithSelectors() {
+        final PopulatedPojo result = Instancio.of(PopulatedPojo.class)
+                .set(field(PopulatedPojo::getId), -1L)
+                .set(all(String.class), "foo")
+                .create();
+
+        assertThat(result.name).isEqualTo("foo");
+        assertThat(result.getNoSetter()).isEqualTo("foo");
+        assertThat(result.getId()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldNotUsePopulatorWithMethodAssignment() {
+        final PopulatedPojo result = Instancio.of(PopulatedPojo.class)
+                .withSetting(Keys.ASSIGNMENT_TYPE, AssignmentType.METHOD)
+                .create();
+
+        assertThat(result.name).isNotBlank();
+        // setter invoked by the method assigner rather than the populator
+        assertThat(PopulatedPojo.setterInvocations).isOne();
+    }
+}
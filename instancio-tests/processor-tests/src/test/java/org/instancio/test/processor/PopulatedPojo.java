@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.instancio.test.processor;
+
+import org.instancio.spi.GeneratePopulator;
+
+import java.util.List;
+
+@GeneratePopulator
+public class PopulatedPojo {
+
+    static int setterInvocations;
+
+    String name;
+    List<Integer> numbers;
+    long count;
+    private long id;
+    private String noSetter;
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(final long id) {
+        setterInvocations++;
+        this.id = id;
+    }
+
+    public String getNoSetter() {
+        return noSetter;
+    }
+
+    @GeneratePopulator
+    static class Nested {
+        boolean flag;
+        private final String constant = "constant";
+    }
+}
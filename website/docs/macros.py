@@ -117,6 +117,7 @@ def define_env(env):
     add_spec(javadoc_base_core, "generator/specs/TemporalGeneratorSpec.html", "year()")
     add_spec(javadoc_base_core, "generator/specs/TemporalGeneratorSpec.html", "yearMonth()")
     add_spec(javadoc_base_core, "generator/specs/TextPatternGeneratorSpec.html", "pattern(String)")
+    add_spec(javadoc_base_core, "generator/specs/TimeSeriesGeneratorSpec.html", "timeSeries()")
     add_spec(javadoc_base_core, "generator/specs/URIGeneratorSpec.html", "uri()")
     add_spec(javadoc_base_core, "generator/specs/URLGeneratorSpec.html", "url()")
     add_spec(javadoc_base_core, "generator/specs/UUIDStringGeneratorSpec.html", "uuid()")